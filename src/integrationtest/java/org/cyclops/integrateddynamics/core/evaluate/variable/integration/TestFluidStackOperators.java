@@ -21,6 +21,7 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeNbt;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.test.IntegrationBefore;
@@ -621,4 +622,35 @@ public class TestFluidStackOperators {
         Operators.OBJECT_FLUIDSTACK_WITH_DATA.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+
+    /**
+     * ----------------------------------- LISTS -----------------------------------
+     */
+
+    @IntegrationTest
+    public void testListContains() throws EvaluationException {
+        DummyVariable<ValueTypeList.ValueList> list = new DummyVariable<>(ValueTypes.LIST, ValueTypeList.ValueList.ofAll(
+                eBucketLava.getValue(), eWater100.getValue()));
+        DummyVariableFluidStack water100 = new DummyVariableFluidStack(ValueObjectTypeFluidStack.ValueFluidStack.of(new FluidStack(Fluids.WATER, 100)));
+        for (int i = 0; i < 3; i++) {
+            IValue res1 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{list, water100});
+            TestHelpers.assertEqual(((ValueTypeBoolean.ValueBoolean) res1).getRawValue(), true, "contains([lava, water:100], water:100) = true");
+            IValue res2 = Operators.LIST_COUNT.evaluate(new IVariable[]{list, water100});
+            TestHelpers.assertEqual(((ValueTypeInteger.ValueInteger) res2).getRawValue(), 1, "count([lava, water:100], water:100) = 1");
+            IValue res3 = Operators.LIST_CONTAINS.evaluate(new IVariable[]{list, eWater100Tag});
+            TestHelpers.assertEqual(((ValueTypeBoolean.ValueBoolean) res3).getRawValue(), false, "contains([lava, water:100], water:100{damage}) = false");
+        }
+    }
+
+    @IntegrationTest
+    public void testListUniqPredicate() throws EvaluationException {
+        DummyVariable<ValueTypeList.ValueList> list = new DummyVariable<>(ValueTypes.LIST, ValueTypeList.ValueList.ofAll(
+                eWater100.getValue(), eBucketLava.getValue(),
+                ValueObjectTypeFluidStack.ValueFluidStack.of(new FluidStack(Fluids.WATER, 100)), eWater100Tag.getValue()));
+        DummyVariable<ValueTypeOperator.ValueOperator> equals = new DummyVariable<>(ValueTypes.OPERATOR,
+                ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_EQUALS));
+        IValue res1 = Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{list, equals});
+        TestHelpers.assertEqual(((ValueTypeList.ValueList) res1).getRawValue().getLength(), 3, "uniq_p([water:100, lava, water:100, water:100{damage}], ==).size = 3");
+    }
+
 }
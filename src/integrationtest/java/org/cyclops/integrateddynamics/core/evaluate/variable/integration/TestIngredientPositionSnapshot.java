@@ -0,0 +1,145 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable.integration;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
+import org.cyclops.integrateddynamics.core.network.ConcurrentWorldIngredientsProxy;
+import org.cyclops.integrateddynamics.core.network.IngredientPositionSnapshot;
+import org.cyclops.integrateddynamics.core.network.Network;
+import org.cyclops.integrateddynamics.core.test.IntegrationBefore;
+import org.cyclops.integrateddynamics.core.test.IntegrationTest;
+import org.cyclops.integrateddynamics.core.test.TestHelpers;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test the persistence and validation of ingredient index snapshots.
+ * @author rubensworks
+ */
+public class TestIngredientPositionSnapshot {
+
+    private HolderLookup.Provider provider;
+    private PrioritizedPartPos pos;
+    private Map<PartPos, Integer> liveStates;
+    private Map<PartPos, List<ItemStack>> liveInstances;
+    private int rawReads;
+    private ConcurrentWorldIngredientsProxy<ItemStack, Integer> worldProxy;
+
+    @IntegrationBefore
+    public void before() {
+        provider = ValueDeseralizationContext.ofAllEnabled().holderLookupProvider();
+        pos = PrioritizedPartPos.of(PartPos.of(DimPos.of(Level.OVERWORLD, new BlockPos(1, 2, 3)), Direction.UP), 5);
+        liveStates = Maps.newHashMap();
+        liveInstances = Maps.newHashMap();
+        rawReads = 0;
+        IPositionedAddonsNetworkIngredients<ItemStack, Integer> network = (IPositionedAddonsNetworkIngredients<ItemStack, Integer>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class[]{IPositionedAddonsNetworkIngredients.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getRawInstances" -> {
+                        rawReads++;
+                        yield liveInstances.getOrDefault((PartPos) args[0], Collections.emptyList()).iterator();
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        worldProxy = new ConcurrentWorldIngredientsProxy<>(network) {
+            @Nullable
+            @Override
+            protected Integer readInventoryState(PartPos partPos) {
+                return liveStates.get(partPos);
+            }
+
+            @Override
+            protected Collection<PartPos> getPositions() {
+                return Lists.newArrayList(pos.getPartPos());
+            }
+        };
+    }
+
+    @IntegrationTest
+    public void testRoundTrip() {
+        IngredientPositionSnapshot<ItemStack> snapshot = new IngredientPositionSnapshot<>(3, pos, 42,
+                Lists.newArrayList(new ItemStack(Items.APPLE, 3), new ItemStack(Items.STONE, 64)));
+        CompoundTag tag = snapshot.toNBT(provider, IngredientComponent.ITEMSTACK);
+        IngredientPositionSnapshot<ItemStack> read = IngredientPositionSnapshot.fromNBT(provider, IngredientComponent.ITEMSTACK, tag);
+
+        TestHelpers.assertEqual(read != null, true, "snapshot can be read");
+        TestHelpers.assertEqual(read.getChannel(), 3, "channel is read");
+        TestHelpers.assertEqual(read.getPos(), pos, "position and priority are read");
+        TestHelpers.assertEqual(read.getInventoryState(), 42, "inventory state is read");
+        List<ItemStack> instances = Lists.newArrayList(read.getInstances());
+        TestHelpers.assertEqual(instances.size(), 2, "instances are read");
+        TestHelpers.assertEqual(ItemStack.matches(instances.get(0), new ItemStack(Items.APPLE, 3)), true, "first instance is read");
+        TestHelpers.assertEqual(ItemStack.matches(instances.get(1), new ItemStack(Items.STONE, 64)), true, "second instance is read");
+    }
+
+    @IntegrationTest
+    public void testRoundTripWithoutState() {
+        IngredientPositionSnapshot<ItemStack> snapshot = new IngredientPositionSnapshot<>(0, pos, null, Lists.newArrayList());
+        IngredientPositionSnapshot<ItemStack> read = IngredientPositionSnapshot.fromNBT(provider, IngredientComponent.ITEMSTACK,
+                snapshot.toNBT(provider, IngredientComponent.ITEMSTACK));
+        TestHelpers.assertEqual(read.getInventoryState() == null, true, "missing inventory states stay missing");
+        TestHelpers.assertEqual(read.getInstances().isEmpty(), true, "no instances are read");
+    }
+
+    @IntegrationTest
+    public void testSnapshotKeptOnSameState() {
+        liveStates.put(pos.getPartPos(), 42);
+        liveInstances.put(pos.getPartPos(), Lists.newArrayList(new ItemStack(Items.DIAMOND)));
+        worldProxy.setSnapshot(pos.getPartPos(), 42, Lists.newArrayList(new ItemStack(Items.APPLE)));
+
+        worldProxy.getInventoryState(pos.getPartPos());
+        worldProxy.onWorldTick();
+        TestHelpers.assertEqual(rawReads, 0, "storages with an unchanged state are not rescanned");
+        TestHelpers.assertEqual(worldProxy.getKnownInstances(pos.getPartPos()).iterator().next().getItem(), Items.APPLE,
+                "the snapshot instances are kept");
+    }
+
+    @IntegrationTest
+    public void testSnapshotRejectedOnChangedState() {
+        liveStates.put(pos.getPartPos(), 43);
+        liveInstances.put(pos.getPartPos(), Lists.newArrayList(new ItemStack(Items.DIAMOND)));
+        worldProxy.setSnapshot(pos.getPartPos(), 42, Lists.newArrayList(new ItemStack(Items.APPLE)));
+
+        worldProxy.getInventoryState(pos.getPartPos());
+        worldProxy.onWorldTick();
+        TestHelpers.assertEqual(rawReads, 1, "storages with a changed state are rescanned");
+        TestHelpers.assertEqual(worldProxy.getKnownInventoryState(pos.getPartPos()), 43, "the live state replaces the snapshot state");
+        TestHelpers.assertEqual(worldProxy.getKnownInstances(pos.getPartPos()).iterator().next().getItem(), Items.DIAMOND,
+                "the live instances replace the snapshot instances");
+    }
+
+    @IntegrationTest
+    public void testNetworkPersistDisabled() {
+        boolean persist = GeneralConfig.ingredientNetworkObserverPersistIndex;
+        try {
+            GeneralConfig.ingredientNetworkObserverPersistIndex = false;
+            TestHelpers.assertEqual(new Network().toNBT(provider).contains("ingredientIndexSnapshots"), false,
+                    "no snapshots are written if persistence is disabled");
+            GeneralConfig.ingredientNetworkObserverPersistIndex = true;
+            TestHelpers.assertEqual(new Network().toNBT(provider).contains("ingredientIndexSnapshots"), true,
+                    "snapshots are written if persistence is enabled");
+        } finally {
+            GeneralConfig.ingredientNetworkObserverPersistIndex = persist;
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable.integration;
+
+import com.google.common.collect.Lists;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
+import org.cyclops.integrateddynamics.core.network.IngredientPositionsIndex;
+import org.cyclops.integrateddynamics.core.test.IntegrationBefore;
+import org.cyclops.integrateddynamics.core.test.IntegrationTest;
+import org.cyclops.integrateddynamics.core.test.TestHelpers;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test the memoized queries of ingredient positions indexes.
+ * @author rubensworks
+ */
+public class TestIngredientPositionsIndex {
+
+    private IngredientPositionsIndex<ItemStack, Integer> index;
+    private Integer exactNoQuantity;
+    private PrioritizedPartPos pos0;
+    private PrioritizedPartPos pos1;
+
+    @IntegrationBefore
+    public void before() {
+        index = new IngredientPositionsIndex<>(IngredientComponent.ITEMSTACK);
+        exactNoQuantity = IngredientComponent.ITEMSTACK.getMatcher().getExactMatchNoQuantityCondition();
+        pos0 = PrioritizedPartPos.of(PartPos.of(DimPos.of(Level.OVERWORLD, new BlockPos(0, 0, 0)), null), 0);
+        pos1 = PrioritizedPartPos.of(PartPos.of(DimPos.of(Level.OVERWORLD, new BlockPos(1, 0, 0)), null), 10);
+
+        index.addAll(pos0, Lists.newArrayList(new ItemStack(Items.APPLE, 3), new ItemStack(Items.STONE, 2)));
+        index.addPosition(new ItemStack(Items.APPLE), pos0);
+        index.addPosition(new ItemStack(Items.STONE), pos0);
+        index.addAll(pos1, Lists.newArrayList(new ItemStack(Items.APPLE, 5)));
+        index.addPosition(new ItemStack(Items.APPLE), pos1);
+    }
+
+    @IntegrationTest
+    public void testQueries() {
+        TestHelpers.assertEqual(index.getQuantity(new ItemStack(Items.APPLE)), 8L, "apple quantity is 8");
+        TestHelpers.assertEqual(index.getQuantity(new ItemStack(Items.STONE)), 2L, "stone quantity is 2");
+        TestHelpers.assertEqual(index.size(), 3, "size is 3");
+        TestHelpers.assertEqual(Lists.newArrayList(index.getPositions(new ItemStack(Items.APPLE), exactNoQuantity)),
+                Lists.newArrayList(pos1.getPartPos(), pos0.getPartPos()), "apple positions are ordered by priority");
+    }
+
+    @IntegrationTest
+    public void testQueriesInvalidated() {
+        TestHelpers.assertEqual(index.getQuantity(new ItemStack(Items.APPLE)), 8L, "apple quantity is 8");
+        TestHelpers.assertEqual(index.size(), 3, "size is 3");
+        TestHelpers.assertEqual(Lists.newArrayList(index.getPositions(new ItemStack(Items.STONE), exactNoQuantity)),
+                Lists.newArrayList(pos0.getPartPos()), "stone is at pos0");
+
+        index.addAll(pos1, Lists.newArrayList(new ItemStack(Items.STONE, 4)));
+        index.addPosition(new ItemStack(Items.STONE), pos1);
+        index.removeAll(pos0, Lists.newArrayList(new ItemStack(Items.APPLE, 3)));
+        index.removePosition(new ItemStack(Items.APPLE), pos0);
+
+        TestHelpers.assertEqual(index.getQuantity(new ItemStack(Items.APPLE)), 5L, "apple quantity is 5");
+        TestHelpers.assertEqual(index.size(), 3, "size is 3");
+        TestHelpers.assertEqual(Lists.newArrayList(index.getPositions(new ItemStack(Items.STONE), exactNoQuantity)),
+                Lists.newArrayList(pos1.getPartPos(), pos0.getPartPos()), "stone is at pos1 and pos0");
+        TestHelpers.assertEqual(Lists.newArrayList(index.getPositions(new ItemStack(Items.APPLE), exactNoQuantity)),
+                Lists.newArrayList(pos1.getPartPos()), "apple is at pos1");
+    }
+
+    @IntegrationTest
+    public void testIteratorLazy() {
+        Iterator<ItemStack> it = index.iterator();
+        index.addAll(pos1, Lists.newArrayList(new ItemStack(Items.DIAMOND, 1)));
+        int count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        TestHelpers.assertEqual(count, 4, "iterators read the index when they are consumed");
+    }
+
+    @IntegrationTest
+    public void testIteratorMemoized() {
+        Iterator<ItemStack> first = index.iterator();
+        TestHelpers.assertEqual(Lists.newArrayList(first).size(), 3, "all instances are iterated");
+        Iterator<ItemStack> second = index.iterator();
+        TestHelpers.assertEqual(second.getClass() != first.getClass(), true, "fully consumed iterators are memoized");
+        TestHelpers.assertEqual(Lists.newArrayList(second).size(), 3, "memoized instances are iterated");
+
+        index.addAll(pos1, Lists.newArrayList(new ItemStack(Items.DIAMOND, 1)));
+        Iterator<ItemStack> third = index.iterator();
+        TestHelpers.assertEqual(third.getClass(), first.getClass(), "mutations discard memoized instances");
+        TestHelpers.assertEqual(Lists.newArrayList(third).size(), 4, "new instances are iterated");
+    }
+
+    @IntegrationTest
+    public void testIteratorNotMemoizedOnMutation() {
+        Iterator<ItemStack> first = index.iterator();
+        first.next();
+        index.addAll(pos1, Lists.newArrayList(new ItemStack(Items.DIAMOND, 1)));
+        while (first.hasNext()) {
+            first.next();
+        }
+        Iterator<ItemStack> second = index.iterator();
+        TestHelpers.assertEqual(second.getClass(), first.getClass(), "iterations during mutations are not memoized");
+        TestHelpers.assertEqual(Lists.newArrayList(second).size(), 4, "all instances are iterated");
+    }
+
+    @IntegrationTest
+    public void testConcurrentReaders() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = Lists.newArrayList();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        if (index.getQuantity(new ItemStack(Items.APPLE)) != 8L
+                                || index.size() != 3
+                                || Lists.newArrayList(index.getPositions(new ItemStack(Items.APPLE), exactNoQuantity)).size() != 2) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                TestHelpers.assertEqual(result.get(), true, "concurrent readers see consistent results");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
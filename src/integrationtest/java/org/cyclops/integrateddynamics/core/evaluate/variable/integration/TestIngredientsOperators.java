@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable.integration;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -13,13 +14,18 @@ import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
 import org.cyclops.commoncapabilities.api.ingredient.MixedIngredients;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeFluidStack;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeIngredients;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeItemStack;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyIngredients;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLong;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
@@ -410,6 +416,39 @@ public class TestIngredientsOperators {
         Operators.INGREDIENTS_WITH_ITEMS.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    @IntegrationTest
+    public void testWithItemsShared() throws EvaluationException {
+        IValue items = Operators.INGREDIENTS_ITEMS.evaluate(new IVariable[]{iMix});
+        IValue res1 = Operators.INGREDIENTS_WITH_ITEMS.evaluate(new IVariable[]{iItems, new DummyVariable<>(ValueTypes.LIST, (ValueTypeList.ValueList) items)});
+        List<ItemStack> outputList1 = ((ValueObjectTypeIngredients.ValueIngredients) res1).getRawValue().get().getInstances(IngredientComponent.ITEMSTACK);
+        List<ItemStack> inputList = inputIngredients.getInstances(IngredientComponent.ITEMSTACK);
+        TestHelpers.assertEqual(outputList1.size(), 2, "with_items(items, items(mix)).size = 2");
+        TestHelpers.assertEqual(outputList1.get(0) == inputList.get(0), true, "with_items(items, items(mix)) shares the instances");
+        TestHelpers.assertEqual(outputList1.get(1) == inputList.get(1), true, "with_items(items, items(mix)) shares the instances");
+    }
+
+    @IntegrationTest
+    public void testWithItemsModified() throws EvaluationException {
+        IValue items = Operators.INGREDIENTS_ITEMS.evaluate(new IVariable[]{iMix});
+        IValue itemsAppended = Operators.LIST_APPEND.evaluate(new IVariable[]{new DummyVariable<>(ValueTypes.LIST, (ValueTypeList.ValueList) items), iItem});
+        IValue res1 = Operators.INGREDIENTS_WITH_ITEMS.evaluate(new IVariable[]{iItems, new DummyVariable<>(ValueTypes.LIST, (ValueTypeList.ValueList) itemsAppended)});
+        List<ItemStack> outputList1 = ((ValueObjectTypeIngredients.ValueIngredients) res1).getRawValue().get().getInstances(IngredientComponent.ITEMSTACK);
+        TestHelpers.assertEqual(outputList1.size(), 3, "with_items(items, append(items(mix), apple)).size = 3");
+        TestHelpers.assertEqual(outputList1.get(0).getItem(), Items.OAK_BOAT, "with_items(items, append(items(mix), apple))[0] = boat");
+        TestHelpers.assertEqual(outputList1.get(1).getItem(), Item.byBlock(Blocks.STONE), "with_items(items, append(items(mix), apple))[1] = stone");
+        TestHelpers.assertEqual(outputList1.get(2).getItem(), Items.APPLE, "with_items(items, append(items(mix), apple))[2] = apple");
+        TestHelpers.assertEqual(inputIngredients.getInstances(IngredientComponent.ITEMSTACK).size(), 2, "Input items remain the same");
+    }
+
+    @IntegrationTest
+    public void testItemsListProxySerialization() throws EvaluationException, IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueTypeListProxy<?, ?> proxy = ((ValueTypeList.ValueList) Operators.INGREDIENTS_ITEMS.evaluate(new IVariable[]{iMix})).getRawValue();
+        Tag serialized = ValueTypeListProxyFactories.REGISTRY.serialize(ValueDeseralizationContext.ofAllEnabled(), proxy);
+        IValueTypeListProxy<?, ?> proxyNew = ValueTypeListProxyFactories.REGISTRY.deserialize(ValueDeseralizationContext.ofAllEnabled(), serialized);
+        Asserts.check(proxyNew instanceof ValueTypeListProxyIngredients, "deserialized proxy is an ingredients proxy");
+        TestHelpers.assertEqual(proxyNew, proxy, "Deserialization is correct");
+    }
+
     /**
      * ----------------------------------- WITH_FLUIDS -----------------------------------
      */
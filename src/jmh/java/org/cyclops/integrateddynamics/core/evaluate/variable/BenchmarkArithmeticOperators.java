@@ -0,0 +1,124 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the arithmetic, relational and binary operators on integers, longs and doubles.
+ * Run with '-prof gc' to compare allocation rates.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkArithmeticOperators {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    /**
+     * Small values are within the range of shared number instances, large values are not.
+     */
+    @Param({"3", "100000"})
+    public int magnitude;
+
+    private IVariable[] integers;
+    private IVariable[] longs;
+    private IVariable[] doubles;
+    private IVariable[] mixed;
+
+    @Setup
+    public void setup() {
+        integers = new IVariable[]{
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(magnitude)),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(magnitude + 7))
+        };
+        longs = new IVariable[]{
+                new DummyVariableLong(ValueTypeLong.ValueLong.of(magnitude)),
+                new DummyVariableLong(ValueTypeLong.ValueLong.of(magnitude + 7))
+        };
+        doubles = new IVariable[]{
+                new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(magnitude)),
+                new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(magnitude + 7))
+        };
+        mixed = new IVariable[]{
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(magnitude)),
+                new DummyVariableDouble(ValueTypeDouble.ValueDouble.of(magnitude + 7))
+        };
+    }
+
+    @Benchmark
+    public IValue additionInteger() throws EvaluationException {
+        return Operators.ARITHMETIC_ADDITION.evaluate(integers);
+    }
+
+    @Benchmark
+    public IValue additionLong() throws EvaluationException {
+        return Operators.ARITHMETIC_ADDITION.evaluate(longs);
+    }
+
+    @Benchmark
+    public IValue additionDouble() throws EvaluationException {
+        return Operators.ARITHMETIC_ADDITION.evaluate(doubles);
+    }
+
+    @Benchmark
+    public IValue additionMixed() throws EvaluationException {
+        return Operators.ARITHMETIC_ADDITION.evaluate(mixed);
+    }
+
+    @Benchmark
+    public IValue subtractionInteger() throws EvaluationException {
+        return Operators.ARITHMETIC_SUBTRACTION.evaluate(integers);
+    }
+
+    @Benchmark
+    public IValue multiplicationInteger() throws EvaluationException {
+        return Operators.ARITHMETIC_MULTIPLICATION.evaluate(integers);
+    }
+
+    @Benchmark
+    public IValue multiplicationLong() throws EvaluationException {
+        return Operators.ARITHMETIC_MULTIPLICATION.evaluate(longs);
+    }
+
+    @Benchmark
+    public IValue greaterThanInteger() throws EvaluationException {
+        return Operators.RELATIONAL_GT.evaluate(integers);
+    }
+
+    @Benchmark
+    public IValue lessThanLong() throws EvaluationException {
+        return Operators.RELATIONAL_LT.evaluate(longs);
+    }
+
+    @Benchmark
+    public IValue binaryAndInteger() throws EvaluationException {
+        return Operators.BINARY_AND.evaluate(integers);
+    }
+
+    @Benchmark
+    public IValue binaryXorInteger() throws EvaluationException {
+        return Operators.BINARY_XOR.evaluate(integers);
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark list operators and pipelines of them over integer lists.
+ * Lazy results are fully iterated, so that the cost of producing all elements is included.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkListOperators {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private DummyVariableList integers;
+    private DummyVariableInteger zero;
+    private DummyVariableInteger half;
+    private DummyVariableOperator increment;
+    private DummyVariableOperator addition;
+    private DummyVariableOperator greaterThanHalf;
+
+    @Setup
+    public void setup() {
+        ValueTypeListProxyFactories.load();
+
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            values.add(ValueTypeInteger.ValueInteger.of(i));
+        }
+        integers = new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, values));
+        zero = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0));
+        half = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(size / 2));
+        increment = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_INCREMENT));
+        addition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        greaterThanHalf = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(
+                new CurriedOperator(Operators.RELATIONAL_LT, half)));
+    }
+
+    protected void consume(IValue list, Blackhole blackhole) {
+        for (Object element : ((ValueTypeList.ValueList) list).getRawValue()) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) throws EvaluationException {
+        consume(Operators.OPERATOR_MAP.evaluate(new IVariable[]{increment, integers}), blackhole);
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws EvaluationException {
+        consume(Operators.OPERATOR_FILTER.evaluate(new IVariable[]{greaterThanHalf, integers}), blackhole);
+    }
+
+    @Benchmark
+    public IValue reduce() throws EvaluationException {
+        return Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{addition, integers, zero});
+    }
+
+    @Benchmark
+    public IValue count() throws EvaluationException {
+        return Operators.LIST_COUNT_PREDICATE.evaluate(new IVariable[]{integers, greaterThanHalf});
+    }
+
+    @Benchmark
+    public IValue containsLast() throws EvaluationException {
+        return Operators.LIST_CONTAINS.evaluate(new IVariable[]{integers, new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(size - 1))});
+    }
+
+    @Benchmark
+    public IValue mapFilterReduce() throws EvaluationException {
+        IValue mapped = Operators.OPERATOR_MAP.evaluate(new IVariable[]{increment, integers});
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{greaterThanHalf, new DummyVariableList((ValueTypeList.ValueList) mapped)});
+        return Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{addition, new DummyVariableList((ValueTypeList.ValueList) filtered), zero});
+    }
+
+}
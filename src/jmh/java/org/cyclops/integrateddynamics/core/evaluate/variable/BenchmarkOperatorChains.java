@@ -0,0 +1,100 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CombinedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark chains of piped, curried and applied operators.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkOperatorChains {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    /**
+     * The number of operators in each chain.
+     */
+    @Param({"1", "16", "256"})
+    public int length;
+
+    private IOperator pipe;
+    private IOperator pipeCurried;
+    private IVariable[] input;
+    private IVariable[] applyInput;
+    private IVariable[] flipInput;
+    private ICompiledExpression compiledPipe;
+
+    @Setup
+    public void setup() throws EvaluationException {
+        IOperator curriedAddition = new CurriedOperator(Operators.ARITHMETIC_ADDITION,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(3)));
+        pipe = Operators.ARITHMETIC_INCREMENT;
+        pipeCurried = curriedAddition;
+        for (int i = 1; i < length; i++) {
+            pipe = CombinedOperator.Pipe.asOperator(Operators.ARITHMETIC_INCREMENT, pipe);
+            pipeCurried = CombinedOperator.Pipe.asOperator(curriedAddition, pipeCurried);
+        }
+
+        input = new IVariable[]{new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1))};
+        applyInput = new IVariable[]{new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(pipe)), input[0]};
+        flipInput = new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(CombinedOperator.Flip.asOperator(Operators.ARITHMETIC_SUBTRACTION))),
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(length)),
+                input[0]
+        };
+        compiledPipe = pipe.compile(input);
+    }
+
+    @Benchmark
+    public IValue pipe() throws EvaluationException {
+        return ValueHelpers.evaluateOperator(pipe, input);
+    }
+
+    @Benchmark
+    public IValue pipeCurried() throws EvaluationException {
+        return ValueHelpers.evaluateOperator(pipeCurried, input);
+    }
+
+    @Benchmark
+    public IValue pipeCompiled() throws EvaluationException {
+        return compiledPipe.evaluate();
+    }
+
+    @Benchmark
+    public IValue applyPipe() throws EvaluationException {
+        return Operators.OPERATOR_APPLY.evaluate(applyInput);
+    }
+
+    @Benchmark
+    public IValue applyFlipped() throws EvaluationException {
+        return Operators.OPERATOR_APPLY_2.evaluate(flipInput);
+    }
+
+}
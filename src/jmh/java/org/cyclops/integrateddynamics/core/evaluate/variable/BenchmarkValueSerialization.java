@@ -0,0 +1,118 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CombinedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark round-trips of values through NBT and through the binary packet codecs.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkValueSerialization {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    /**
+     * The number of elements in lists, and the number of operators in pipes.
+     */
+    @Param({"16", "1000", "10000"})
+    public int size;
+
+    private ValueDeseralizationContext context;
+    private IValue integers;
+    private IValue strings;
+    private IOperator pipe;
+    private RegistryFriendlyByteBuf buffer;
+
+    @Setup
+    public void setup() throws EvaluationException {
+        ValueTypeListProxyFactories.load();
+        context = ValueDeseralizationContextMocked.get();
+
+        List<ValueTypeInteger.ValueInteger> integerValues = Lists.newArrayListWithCapacity(size);
+        List<ValueTypeString.ValueString> stringValues = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            integerValues.add(ValueTypeInteger.ValueInteger.of(i));
+            stringValues.add(ValueTypeString.ValueString.of("value" + i));
+        }
+        integers = ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, integerValues);
+        strings = ValueTypeList.ValueList.ofList(ValueTypes.STRING, stringValues);
+
+        IOperator increment = new CurriedOperator(Operators.ARITHMETIC_ADDITION,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1)));
+        pipe = increment;
+        for (int i = 1; i < Math.min(size, 256); i++) {
+            pipe = CombinedOperator.Pipe.asOperator(increment, pipe);
+        }
+
+        buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+    }
+
+    protected IValue roundTripNbt(IValue value) {
+        CompoundTag tag = ValueHelpers.serialize(context, value);
+        return ValueHelpers.deserialize(context, tag);
+    }
+
+    protected IValue roundTripPacket(IValue value) {
+        buffer.clear();
+        ValueStreamCodecs.VALUE.encode(buffer, value);
+        return ValueStreamCodecs.VALUE.decode(buffer);
+    }
+
+    @Benchmark
+    public IValue integersNbt() {
+        return roundTripNbt(integers);
+    }
+
+    @Benchmark
+    public IValue integersPacket() {
+        return roundTripPacket(integers);
+    }
+
+    @Benchmark
+    public IValue stringsNbt() {
+        return roundTripNbt(strings);
+    }
+
+    @Benchmark
+    public IValue stringsPacket() {
+        return roundTripPacket(strings);
+    }
+
+    @Benchmark
+    public IOperator pipeNbt() throws EvaluationException {
+        return Operators.REGISTRY.deserialize(context, Operators.REGISTRY.serialize(context, pipe));
+    }
+
+}
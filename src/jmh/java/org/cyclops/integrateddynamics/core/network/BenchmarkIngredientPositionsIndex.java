@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark queries on an ingredient positions index, both on memoized results and right after a mutation.
+ * The energy ingredient component is used, as it does not depend on game registries.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkIngredientPositionsIndex {
+
+    /**
+     * The number of positions in the index, spread over a few priorities.
+     */
+    @Param({"100", "1000", "10000"})
+    public int positions;
+
+    private IngredientPositionsIndex<Long, Boolean> index;
+    private PrioritizedPartPos mutationPos;
+    private List<Long> mutationInstances;
+    private Boolean anyMatch;
+
+    @Setup
+    public void setup() {
+        index = new IngredientPositionsIndex<>(IngredientComponent.ENERGY);
+        for (int i = 0; i < positions; i++) {
+            PrioritizedPartPos pos = createPos(i);
+            long instance = i + 1;
+            index.addAll(pos, Collections.singletonList(instance));
+            index.addPosition(instance, pos);
+        }
+        mutationPos = createPos(positions);
+        mutationInstances = Lists.newArrayList(1L);
+        anyMatch = index.getComponent().getMatcher().getAnyMatchCondition();
+    }
+
+    protected PrioritizedPartPos createPos(int i) {
+        return PrioritizedPartPos.of(PartPos.of(DimPos.of(Level.OVERWORLD, new BlockPos(i, 0, 0)), Direction.NORTH), i % 4);
+    }
+
+    protected void mutate() {
+        index.addAll(mutationPos, mutationInstances);
+        index.removeAll(mutationPos, mutationInstances);
+    }
+
+    protected void consume(Iterator<?> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public long quantity() {
+        return index.getQuantity(1L);
+    }
+
+    @Benchmark
+    public long quantityAfterMutation() {
+        mutate();
+        return index.getQuantity(1L);
+    }
+
+    @Benchmark
+    public void positions(Blackhole blackhole) {
+        consume(index.getPositions(1L, anyMatch), blackhole);
+    }
+
+    @Benchmark
+    public void positionsAfterMutation(Blackhole blackhole) {
+        mutate();
+        consume(index.getPositions(1L, anyMatch), blackhole);
+    }
+
+    @Benchmark
+    public void instances(Blackhole blackhole) {
+        consume(index.iterator(), blackhole);
+    }
+
+    @Benchmark
+    public int sizeAfterMutation() {
+        mutate();
+        return index.size();
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return index.contains(1L, anyMatch);
+    }
+
+}
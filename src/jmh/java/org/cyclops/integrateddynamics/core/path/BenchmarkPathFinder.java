@@ -0,0 +1,127 @@
+package org.cyclops.integrateddynamics.core.path;
+
+import com.google.common.collect.Sets;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
+import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the construction of clusters on synthetic cable networks.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkPathFinder {
+
+    /**
+     * The number of elements in each network, which are either laid out as a cube or as a single line.
+     */
+    @Param({"64", "512", "1728"})
+    public int size;
+
+    private ISidedPathElement cubeHead;
+    private ISidedPathElement lineHead;
+
+    @Setup
+    public void setup() {
+        int cubeSize = (int) Math.round(Math.cbrt(size));
+        Element[][][] cube = new Element[cubeSize][cubeSize][cubeSize];
+        for (int x = 0; x < cubeSize; x++) {
+            for (int y = 0; y < cubeSize; y++) {
+                for (int z = 0; z < cubeSize; z++) {
+                    cube[x][y][z] = new Element(new BlockPos(x, y, z));
+                }
+            }
+        }
+        for (int x = 0; x < cubeSize; x++) {
+            for (int y = 0; y < cubeSize; y++) {
+                for (int z = 0; z < cubeSize; z++) {
+                    for (Direction side : Direction.values()) {
+                        int nx = x + side.getStepX();
+                        int ny = y + side.getStepY();
+                        int nz = z + side.getStepZ();
+                        if (nx >= 0 && ny >= 0 && nz >= 0 && nx < cubeSize && ny < cubeSize && nz < cubeSize) {
+                            cube[x][y][z].connect(cube[nx][ny][nz], side);
+                        }
+                    }
+                }
+            }
+        }
+        cubeHead = SidedPathElement.of(cube[0][0][0], null);
+
+        Element[] line = new Element[size];
+        for (int i = 0; i < size; i++) {
+            line[i] = new Element(new BlockPos(i, 64, 0));
+            if (i > 0) {
+                line[i - 1].connect(line[i], Direction.EAST);
+                line[i].connect(line[i - 1], Direction.WEST);
+            }
+        }
+        lineHead = SidedPathElement.of(line[0], null);
+    }
+
+    @Benchmark
+    public Cluster cube() {
+        return PathFinder.getConnectedCluster(cubeHead);
+    }
+
+    @Benchmark
+    public Cluster line() {
+        return PathFinder.getConnectedCluster(lineHead);
+    }
+
+    /**
+     * A path element that is not backed by a world.
+     */
+    protected static class Element implements IPathElement {
+
+        private final DimPos position;
+        private final Set<ISidedPathElement> reachableElements = Sets.newTreeSet();
+
+        public Element(BlockPos pos) {
+            this.position = DimPos.of(Level.OVERWORLD, pos);
+        }
+
+        public void connect(Element target, Direction side) {
+            this.reachableElements.add(SidedPathElement.of(target, side.getOpposite()));
+        }
+
+        @Override
+        public DimPos getPosition() {
+            return position;
+        }
+
+        @Override
+        public Set<ISidedPathElement> getReachableElements() {
+            return reachableElements;
+        }
+
+        @Override
+        public int compareTo(IPathElement o) {
+            return getPosition().compareTo(o.getPosition());
+        }
+    }
+
+}
@@ -118,12 +118,27 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = "core", comment = "If the ingredient network observer can work on separate thread.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
     public static boolean ingredientNetworkObserverEnableMultithreading = true;
 
+    @ConfigurableProperty(category = "core", comment = "The number of positions per shard when observing large ingredient network channels. Channels with more positions are observed in parallel by multiple threads.", minimalValue = 1, isCommandable = true, configLocation = ModConfig.Type.SERVER)
+    public static int ingredientNetworkObserverShardSize = 256;
+
+    @ConfigurableProperty(category = "core", comment = "If the contents of ingredient network indexes should be persisted together with the network, so that they are available immediately after loading, and unchanged storages are not rescanned. This increases the size of the saved network data.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
+    public static boolean ingredientNetworkObserverPersistIndex = false;
+
+    @ConfigurableProperty(category = "core", comment = "The maximum number of ticks for which crafting capabilities and crafting job states of network crafting handlers may be cached per network channel. Set to 0 to disable caching.", minimalValue = 0, isCommandable = true, configLocation = ModConfig.Type.SERVER)
+    public static int networkCraftingHandlerCacheTicks = 10;
+
     @ConfigurableProperty(category = "core", comment = "If network change events should be logged. Only enable this when debugging.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
     public static boolean logChangeEvents = false;
 
     @ConfigurableProperty(category = "core", comment = "How deep the recursion stack on an operator can become. This is to avoid game crashes when building things like the omega operator.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
     public static int operatorRecursionLimit = 256;
 
+    @ConfigurableProperty(category = "core", comment = "The minimum list length from which pure operators are applied in parallel by the map, filter, reduce and count operators. Set to 0 to disable.", minimalValue = 0, isCommandable = true, configLocation = ModConfig.Type.SERVER)
+    public static int operatorParallelListThreshold = 10000;
+
+    @ConfigurableProperty(category = "core", comment = "The number of threads that can be used for applying operators on large lists in parallel.", minimalValue = 1, requiresMcRestart = true, configLocation = ModConfig.Type.SERVER)
+    public static int operatorParallelThreads = 4;
+
     @ConfigurableProperty(category = "machine", comment = "Priority list of mod id's when determining tag-based recipe outputs.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
     public static List<String> recipeTagOutputModPriorities = Lists.newArrayList();
 
@@ -151,6 +166,9 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = "general", comment = "The default port for running the network diagnostics HTTP server.", configLocation = ModConfig.Type.CLIENT)
     public static int diagnosticsWebServerPort = 3030;
 
+    @ConfigurableProperty(category = "general", comment = "If operator and variable evaluations should be profiled per part while the network diagnostics are open.", isCommandable = true, configLocation = ModConfig.Type.SERVER)
+    public static boolean diagnosticsProfileEvaluations = false;
+
     @ConfigurableProperty(category = "machine", comment = "The maximum offset in blocks a part can target.", minimalValue = 1, configLocation = ModConfig.Type.SERVER)
     public static int maxPartOffset = 32;
 
@@ -47,6 +47,7 @@ import org.cyclops.integrateddynamics.client.render.part.PartOverlayRendererRegi
 import org.cyclops.integrateddynamics.client.render.part.PartOverlayRenderers;
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRendererRegistry;
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
+import org.cyclops.integrateddynamics.command.CommandCacheStats;
 import org.cyclops.integrateddynamics.command.CommandCrash;
 import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
 import org.cyclops.integrateddynamics.command.CommandTest;
@@ -60,6 +61,7 @@ import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastMappings;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueCastRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLightLevelRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeLightLevels;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyFactories;
@@ -150,6 +152,7 @@ public class IntegratedDynamics extends ModBaseVersionable<IntegratedDynamics> {
     protected LiteralArgumentBuilder<CommandSourceStack> constructBaseCommand(Commands.CommandSelection selection, CommandBuildContext context) {
         LiteralArgumentBuilder<CommandSourceStack> root = super.constructBaseCommand(selection, context);
 
+        root.then(CommandCacheStats.make());
         root.then(CommandCrash.make());
         root.then(CommandNetworkDiagnostics.make());
         root.then(CommandTest.make());
@@ -164,6 +167,7 @@ public class IntegratedDynamics extends ModBaseVersionable<IntegratedDynamics> {
         ValueCastMappings.load();
         ValueTypeLightLevels.load();
         ValueTypeListProxyFactories.load();
+        ValueStreamCodecs.load();
         Operators.load();
         Aspects.load();
         PartTypes.register();
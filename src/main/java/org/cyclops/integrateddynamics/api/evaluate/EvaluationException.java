@@ -7,6 +7,9 @@ import java.util.List;
 
 /**
  * Exception to indicate a failed evaluation.
+ *
+ * Since broken programs may fail on every tick, these exceptions do not capture a stack trace,
+ * and their message is only created when requested.
  * @author rubensworks
  */
 public class EvaluationException extends Exception {
@@ -16,7 +19,7 @@ public class EvaluationException extends Exception {
     private final List<Runnable> resolutionListeners;
 
     public EvaluationException(MutableComponent errorMessage) {
-        super(errorMessage.toString());
+        super(null, null, false, false);
         this.errorMessage = errorMessage;
         this.retryEvaluation = false;
         this.resolutionListeners = Lists.newArrayList();
@@ -26,6 +29,11 @@ public class EvaluationException extends Exception {
         return errorMessage;
     }
 
+    @Override
+    public String getMessage() {
+        return errorMessage.toString();
+    }
+
     /**
      * This should only be set at construction time of this exception.
      * @param retryEvaluation If the evaluation may be retried again in the next tick.
@@ -41,6 +49,18 @@ public class EvaluationException extends Exception {
         return retryEvaluation;
     }
 
+    /**
+     * Create a new exception with the same message, but without the resolution listeners of this exception.
+     * Remembered failures should be thrown again as a copy,
+     * so that callers that add resolution listeners on each failure do not keep adding them to the same exception.
+     * @return A copy of this exception.
+     */
+    public EvaluationException copy() {
+        EvaluationException copy = new EvaluationException(errorMessage);
+        copy.setRetryEvaluation(retryEvaluation);
+        return copy;
+    }
+
     public void addResolutionListeners(Runnable listener) {
         this.resolutionListeners.add(listener);
     }
@@ -0,0 +1,19 @@
+package org.cyclops.integrateddynamics.api.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+/**
+ * An operator that has been bound to a fixed input,
+ * so that evaluation can skip work that only depends on the structure of the input.
+ * @author rubensworks
+ */
+public interface ICompiledExpression {
+
+    /**
+     * @return The current evaluation result of the bound input.
+     * @throws EvaluationException When something went wrong while evaluating.
+     */
+    public IValue evaluate() throws EvaluationException;
+
+}
@@ -4,6 +4,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
@@ -114,6 +115,45 @@ public interface IOperator {
      */
     public IValue evaluate(IVariable... input) throws EvaluationException;
 
+    /**
+     * Bind this operator to the given input, so that it can be evaluated repeatedly.
+     * The input array must not be modified afterwards.
+     * Evaluating the result must be equivalent to calling {@link #evaluate(IVariable[])} with the given input,
+     * including any errors that are thrown.
+     * @param input The ordered input values.
+     * @return The compiled expression.
+     */
+    public default ICompiledExpression compile(IVariable[] input) {
+        return () -> evaluate(input);
+    }
+
+    /**
+     * @return If this operator does not read from or modify the world,
+     *         so that it can safely be evaluated from threads other than the server thread.
+     */
+    public default boolean isPure() {
+        return false;
+    }
+
+    /**
+     * @param valueType A value type.
+     * @return If this operator takes two inputs of the given type and outputs the same type,
+     *         and the order in which consecutive applications are grouped does not influence the result.
+     */
+    public default boolean isAssociative(IValueType valueType) {
+        return false;
+    }
+
+    /**
+     * @return A key function for which two values have equal keys if and only if this operator,
+     *         which takes two inputs and outputs a boolean, returns true for them.
+     *         Null if this operator is not known to be such an equivalence relation.
+     */
+    @Nullable
+    public default IEquivalenceKey getEquivalenceKey() {
+        return null;
+    }
+
     /**
      * @return The required input length.
      */
@@ -138,4 +178,18 @@ public interface IOperator {
      */
     public IOperator materialize() throws EvaluationException;
 
+    /**
+     * Maps values to keys, so that equivalent values can be found by hashing instead of pairwise comparison.
+     */
+    public static interface IEquivalenceKey {
+
+        /**
+         * @param value A value of the operator's input type.
+         * @return A key that has proper equals and hashCode implementations.
+         * @throws EvaluationException If the key could not be determined.
+         */
+        public Object getKey(IValue value) throws EvaluationException;
+
+    }
+
 }
@@ -2,6 +2,8 @@ package org.cyclops.integrateddynamics.api.evaluate.variable;
 
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 
+import javax.annotation.Nullable;
+
 /**
  * Facade through which a value can be retrieved.
  * @author rubensworks
@@ -19,6 +21,17 @@ public interface IVariable<V extends IValue> extends IVariableInvalidateListener
      */
     public V getValue() throws EvaluationException;
 
+    /**
+     * Get the failure of a previous evaluation, which will be thrown again by {@link #getValue()}
+     * until this variable is invalidated.
+     * This allows callers that evaluate often to skip evaluation without catching an exception.
+     * @return The remembered failure, or null if no failure is remembered.
+     */
+    @Nullable
+    public default EvaluationException getError() {
+        return null;
+    }
+
     /**
      * Add a dependency relation.
      *
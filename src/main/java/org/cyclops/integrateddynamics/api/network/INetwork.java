@@ -3,7 +3,9 @@ package org.cyclops.integrateddynamics.api.network;
 import org.cyclops.cyclopscore.persist.nbt.INBTSerializable;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
 import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
 
+import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.Set;
 
@@ -78,7 +80,16 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
     public long getLastSecondDuration(INetworkElement networkElement);
 
     /**
-     * Reset the last second duration counts.
+     * Get the operator and variable evaluations of the given network element during the last second.
+     * This is only recorded while the network is being diagnosed and evaluation profiling is enabled.
+     * @param networkElement The networkelement
+     * @return The evaluation profile, or null if none was recorded.
+     */
+    @Nullable
+    public EvaluationProfiler.Profile getLastSecondProfile(INetworkElement networkElement);
+
+    /**
+     * Reset the last second duration counts and evaluation profiles.
      */
     public void resetLastSecondDurations();
 
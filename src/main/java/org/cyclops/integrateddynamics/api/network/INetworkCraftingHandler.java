@@ -53,4 +53,14 @@ public interface INetworkCraftingHandler {
                                 IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition,
                                 boolean ignoreExistingJobs);
 
+    /**
+     * If this handler calls {@link INetworkCraftingHandlerRegistry#invalidateCache(IPositionedAddonsNetworkIngredients, int)}
+     * whenever one of its crafting jobs finishes or is cancelled, and whenever its crafting capabilities change.
+     * Crafting lookups are only cached if all registered handlers report their state changes.
+     * @return If this handler reports its state changes.
+     */
+    public default boolean reportsStateChanges() {
+        return false;
+    }
+
 }
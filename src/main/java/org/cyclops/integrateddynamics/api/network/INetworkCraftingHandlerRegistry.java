@@ -88,4 +88,15 @@ public interface INetworkCraftingHandlerRegistry extends IRegistry {
         return false;
     }
 
+    /**
+     * Invalidate all cached crafting capabilities and crafting job states for the given channel.
+     * Crafting handlers that declare {@link INetworkCraftingHandler#reportsStateChanges()} must call this
+     * when crafting jobs are finished or cancelled, or when their crafting capabilities change.
+     * @param ingredientsNetwork The ingredients network.
+     * @param channel A channel, or {@link IPositionedAddonsNetwork#WILDCARD_CHANNEL} for all channels.
+     */
+    public default void invalidateCache(IPositionedAddonsNetworkIngredients<?, ?> ingredientsNetwork, int channel) {
+
+    }
+
 }
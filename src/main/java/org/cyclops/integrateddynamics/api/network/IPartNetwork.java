@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -9,6 +11,7 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
 
 /**
  * A network capability that can hold parts.
@@ -86,6 +89,19 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public IVariableFacade getVariableFacade(int variableId);
 
+    /**
+     * Get the expression for an operator applied on the given input variables.
+     * Pure operators on constant input may be evaluated in advance,
+     * and identical pure expressions in this network may be shared.
+     * @param id The id of the variable the expression is created for.
+     * @param operator The operator.
+     * @param input The input variables.
+     * @return The expression.
+     */
+    public default IExpression getExpression(int id, IOperator operator, IVariable[] input) {
+        return new LazyExpression(id, operator, input, this);
+    }
+
     /**
      * Add the position of a variable container.
      * @param dimPos The variable container position.
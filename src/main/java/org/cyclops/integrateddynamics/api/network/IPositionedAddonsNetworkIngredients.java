@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.api.network;
 
 import com.google.common.collect.Iterators;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.neoforged.neoforge.capabilities.BlockCapability;
@@ -14,6 +16,7 @@ import org.cyclops.integrateddynamics.api.ingredient.IIngredientComponentStorage
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
@@ -65,8 +68,11 @@ public interface IPositionedAddonsNetworkIngredients<T, M> extends IPositionedAd
      * @return A collection of instances. This can not be a view, and must be a deep copy of the target.
      */
     public default Iterator<T> getRawInstances(PartPos pos) {
-        Iterator<T> it = getPositionedStorage(pos).iterator();
         PositionedAddonsNetworkIngredientsFilter<T> filter = getPositionedStorageFilter(pos);
+        if (filter != null && filter.rejectsAll(true)) {
+            return Collections.emptyIterator();
+        }
+        Iterator<T> it = getPositionedStorage(pos).iterator();
         if (filter != null) {
             it = Iterators.filter(it, filter::testView);
         }
@@ -119,6 +125,27 @@ public interface IPositionedAddonsNetworkIngredients<T, M> extends IPositionedAd
         return wrapperHandler != null ? wrapperHandler.wrapStorage(getChannel(channel)) : null;
     }
 
+    /**
+     * Write a snapshot of the last known contents of all positions in this network,
+     * so that the index can be restored immediately after loading.
+     * @param provider The holder lookup provider.
+     * @return A list of position snapshots.
+     */
+    public default ListTag writeIndexSnapshot(HolderLookup.Provider provider) {
+        return new ListTag();
+    }
+
+    /**
+     * Read a snapshot that was previously created by {@link #writeIndexSnapshot(HolderLookup.Provider)}.
+     * Snapshot data will only be used for positions that are (re-)added to this network,
+     * and will be validated lazily against the inventory states of the live storages.
+     * @param provider The holder lookup provider.
+     * @param tag A list of position snapshots.
+     */
+    public default void readIndexSnapshot(HolderLookup.Provider provider, ListTag tag) {
+
+    }
+
     /**
      * Get the last tick duration of the index observer.
      * @return Duration in nanoseconds
@@ -1,24 +1,99 @@
 package org.cyclops.integrateddynamics.api.network;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * A data object for filter predicates for ingredient networks with their settings.
+ *
+ * Filters can optionally be compiled with a prototype key function,
+ * which maps ingredients to a key that fully determines the outcome of the filter predicate.
+ * If such a key function is provided, the predicate is only evaluated once per key.
+ * If a set of accepted keys is provided as well, the predicate is never evaluated,
+ * and ingredients are only tested for the membership of their key in this set.
+ * This is intended for exact item or tag filters,
+ * and also allows positions to be skipped entirely when looking for a specific prototype.
+ *
  * @author rubensworks
  */
 public class PositionedAddonsNetworkIngredientsFilter<T> {
 
+    private static final int MAX_CACHED_RESULTS = 4096;
+
     private final Predicate<T> filter;
     private final boolean applyToInsertions;
     private final boolean applyToExtractions;
     private final boolean allowAllIfFilterNotApplied;
+    @Nullable
+    private final Function<T, ?> prototypeKey;
+    @Nullable
+    private final Set<?> acceptedPrototypeKeys;
+    @Nullable
+    private final Cache<Object, Boolean> cachedResults;
 
     public PositionedAddonsNetworkIngredientsFilter(Predicate<T> filter, boolean applyToInsertions,
                                                     boolean applyToExtractions, boolean allowAllIfFilterNotApplied) {
+        this(filter, applyToInsertions, applyToExtractions, allowAllIfFilterNotApplied, null, null);
+    }
+
+    /**
+     * Create a compiled filter.
+     * @param filter The ingredient filter.
+     * @param applyToInsertions If the filter should be used for insertions.
+     * @param applyToExtractions If the filter should be used for extractions.
+     * @param allowAllIfFilterNotApplied What to do if insertion or extraction application is disabled.
+     * @param prototypeKey An optional function that maps ingredients to a key that fully determines the outcome of
+     *                     the filter. This must only be provided if the filter is pure, and its outcome does not
+     *                     depend on anything else than this key, such as the ingredient quantity.
+     * @param acceptedPrototypeKeys An optional set of keys that are accepted by the filter.
+     *                              This can only be provided if a prototype key function is provided as well.
+     */
+    public PositionedAddonsNetworkIngredientsFilter(Predicate<T> filter, boolean applyToInsertions,
+                                                    boolean applyToExtractions, boolean allowAllIfFilterNotApplied,
+                                                    @Nullable Function<T, ?> prototypeKey,
+                                                    @Nullable Set<?> acceptedPrototypeKeys) {
+        if (acceptedPrototypeKeys != null && prototypeKey == null) {
+            throw new IllegalArgumentException("Accepted prototype keys can only be provided together with a prototype key function");
+        }
         this.filter = filter;
         this.applyToInsertions = applyToInsertions;
         this.applyToExtractions = applyToExtractions;
         this.allowAllIfFilterNotApplied = allowAllIfFilterNotApplied;
+        this.prototypeKey = prototypeKey;
+        this.acceptedPrototypeKeys = acceptedPrototypeKeys;
+        // Filters may be tested from multiple threads, such as the ingredient observer.
+        this.cachedResults = prototypeKey != null && acceptedPrototypeKeys == null
+                ? CacheBuilder.newBuilder().maximumSize(MAX_CACHED_RESULTS).build() : null;
+    }
+
+    /**
+     * Test the given ingredient against the filter predicate,
+     * making use of the compiled form of this filter if available.
+     * @param ingredient An ingredient to test.
+     * @return If the ingredient passes the filter.
+     */
+    public boolean testFilter(T ingredient) {
+        if (this.prototypeKey == null) {
+            return getFilter().test(ingredient);
+        }
+
+        Object key = this.prototypeKey.apply(ingredient);
+        if (this.acceptedPrototypeKeys != null) {
+            return this.acceptedPrototypeKeys.contains(key);
+        }
+
+        Boolean cachedResult = this.cachedResults.getIfPresent(key);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = getFilter().test(ingredient);
+        this.cachedResults.put(key, result);
+        return result;
     }
 
     /**
@@ -28,7 +103,7 @@ public class PositionedAddonsNetworkIngredientsFilter<T> {
      */
     public boolean testInsertion(T ingredient) {
         if (this.isApplyToInsertions()) {
-            return getFilter().test(ingredient);
+            return testFilter(ingredient);
         } else {
             return this.isAllowAllIfFilterNotApplied();
         }
@@ -41,7 +116,7 @@ public class PositionedAddonsNetworkIngredientsFilter<T> {
      */
     public boolean testExtraction(T ingredient) {
         if (this.isApplyToExtractions()) {
-            return getFilter().test(ingredient);
+            return testFilter(ingredient);
         } else {
             return this.isAllowAllIfFilterNotApplied();
         }
@@ -63,6 +138,63 @@ public class PositionedAddonsNetworkIngredientsFilter<T> {
         return filter;
     }
 
+    /**
+     * @return An optional function that maps ingredients to a key that fully determines the filter outcome.
+     */
+    @Nullable
+    public Function<T, ?> getPrototypeKey() {
+        return prototypeKey;
+    }
+
+    /**
+     * @return An optional set of prototype keys that are exclusively accepted by this filter.
+     */
+    @Nullable
+    public Set<?> getAcceptedPrototypeKeys() {
+        return acceptedPrototypeKeys;
+    }
+
+    /**
+     * Check if this filter rejects all ingredients for the given operation type without testing any ingredient.
+     * This allows positions to be skipped entirely.
+     * @param extraction If extractions or views should be checked, otherwise insertions are checked.
+     * @return If no ingredient can pass this filter.
+     */
+    public boolean rejectsAll(boolean extraction) {
+        if (extraction ? this.isApplyToExtractions() : this.isApplyToInsertions()) {
+            return this.acceptedPrototypeKeys != null && this.acceptedPrototypeKeys.isEmpty();
+        }
+        return !this.isAllowAllIfFilterNotApplied();
+    }
+
+    /**
+     * Check if this filter rejects all ingredients that match the given prototype exactly, ignoring quantities,
+     * for the given operation type without testing any ingredient.
+     * This allows positions to be skipped entirely when looking for a specific prototype.
+     * @param prototype A prototype ingredient.
+     * @param extraction If extractions or views should be checked, otherwise insertions are checked.
+     * @return If no ingredient matching the prototype can pass this filter.
+     */
+    public boolean rejectsPrototype(T prototype, boolean extraction) {
+        if (rejectsAll(extraction)) {
+            return true;
+        }
+        return (extraction ? this.isApplyToExtractions() : this.isApplyToInsertions())
+                && this.acceptedPrototypeKeys != null
+                && !this.acceptedPrototypeKeys.contains(this.prototypeKey.apply(prototype));
+    }
+
+    /**
+     * Forget all memoized predicate results.
+     * This must be called by the owner of this filter when the outcome of its predicate may have changed,
+     * for example because the variable the predicate was read from has changed.
+     */
+    public void invalidateCache() {
+        if (this.cachedResults != null) {
+            this.cachedResults.invalidateAll();
+        }
+    }
+
     /**
      * @return If the ingredient filter should be used for insertions.
      */
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -38,6 +39,7 @@ import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkE
 import org.cyclops.integrateddynamics.core.blockentity.BlockEntityActiveVariableBase;
 import org.cyclops.integrateddynamics.core.evaluate.DelayVariableFacadeHandler;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
@@ -175,8 +177,10 @@ public class BlockEntityDelay extends BlockEntityProxy implements MenuProvider {
     public void saveAdditional(CompoundTag tag, HolderLookup.Provider provider) {
         super.saveAdditional(tag, provider);
         ListTag valueList = new ListTag();
+        ValueDeseralizationContext valueDeseralizationContext = ValueDeseralizationContext.of(provider);
         for (IValue value : getValues()) {
-            valueList.add(ValueHelpers.serialize(ValueDeseralizationContext.of(provider), value));
+            ByteArrayTag binaryValue = ValueStreamCodecs.serializeForClientSync(valueDeseralizationContext, value);
+            valueList.add(binaryValue != null ? binaryValue : ValueHelpers.serialize(valueDeseralizationContext, value));
         }
         tag.put("values", valueList);
     }
@@ -187,9 +191,14 @@ public class BlockEntityDelay extends BlockEntityProxy implements MenuProvider {
         if (this.capacity <= 0) this.capacity = 1;
         values = Queues.newArrayBlockingQueue(this.capacity);
 
+        ValueDeseralizationContext valueDeseralizationContext = ValueDeseralizationContext.of(getLevel());
+        ListTag binaryValueList = tag.getList("values", Tag.TAG_BYTE_ARRAY);
+        for (int i = 0; i < binaryValueList.size(); i++) {
+            this.values.add(ValueStreamCodecs.deserializeFromClientSync(valueDeseralizationContext, (ByteArrayTag) binaryValueList.get(i)));
+        }
         ListTag valueList = tag.getList("values", Tag.TAG_COMPOUND);
         for (int i = 0; i < valueList.size(); i++) {
-            IValue value = ValueHelpers.deserialize(ValueDeseralizationContext.of(getLevel()), valueList.getCompound(i));
+            IValue value = ValueHelpers.deserialize(valueDeseralizationContext, valueList.getCompound(i));
             if (value != null) {
                 this.values.add(value);
             }
@@ -0,0 +1,39 @@
+package org.cyclops.integrateddynamics.command;
+
+import com.google.common.cache.CacheStats;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CompiledSourceCache;
+
+/**
+ * A command to show the hit and miss statistics of the compiled source caches.
+ * @author rubensworks
+ *
+ */
+public class CommandCacheStats implements Command<CommandSourceStack> {
+
+    @Override
+    public int run(CommandContext<CommandSourceStack> context) throws CommandSyntaxException {
+        sendStats(context.getSource(), "regex", CompiledSourceCache.REGEX);
+        sendStats(context.getSource(), "nbt_path", CompiledSourceCache.NBT_PATH);
+        return 0;
+    }
+
+    protected void sendStats(CommandSourceStack source, String name, CompiledSourceCache<?, ?> cache) {
+        CacheStats stats = cache.getStats();
+        source.sendSystemMessage(Component.literal(String.format("%s: %s hits, %s misses (%.1f%% hit rate), %s entries, %s evictions",
+                name, stats.hitCount(), stats.missCount(), stats.hitRate() * 100, cache.size(), stats.evictionCount())));
+    }
+
+    public static LiteralArgumentBuilder<CommandSourceStack> make() {
+        return Commands.literal("cachestats")
+                .requires((commandSource) -> commandSource.hasPermission(2))
+                        .executes(new CommandCacheStats());
+    }
+
+}
@@ -33,7 +33,9 @@ public class CommandTest implements Command<CommandSourceStack> {
             P + "TestEntityOperators",
             P + "TestFluidStackOperators",
             P + "TestIngredientsOperators",
-            P + "TestRecipeOperators"
+            P + "TestRecipeOperators",
+            P + "TestIngredientPositionsIndex",
+            P + "TestIngredientPositionSnapshot"
     );
 
     @Override
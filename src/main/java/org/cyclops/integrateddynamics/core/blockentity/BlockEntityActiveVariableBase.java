@@ -18,6 +18,7 @@ import org.cyclops.integrateddynamics.api.network.INetworkEventListener;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.core.evaluate.InventoryVariableEvaluator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
@@ -85,6 +86,11 @@ public abstract class BlockEntityActiveVariableBase<E> extends BlockEntityCableC
         NBTClassType.writeNbt(List.class, "errors", errors, tag, provider);
     }
 
+    @Override
+    public CompoundTag getUpdateTag(HolderLookup.Provider provider) {
+        return ValueStreamCodecs.writeForClientSync(() -> super.getUpdateTag(provider));
+    }
+
     @Override
     public void read(CompoundTag tag, HolderLookup.Provider provider) {
         evaluator.setErrors(NBTClassType.readNbt(List.class, "errors", tag, provider));
@@ -44,6 +44,7 @@ import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkE
 import org.cyclops.integrateddynamics.capability.partcontainer.PartContainerTileMultipartTicking;
 import org.cyclops.integrateddynamics.capability.path.PathElementTileMultipartTicking;
 import org.cyclops.integrateddynamics.client.model.CableRenderState;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.helper.CableHelpers;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
@@ -176,6 +177,11 @@ public class BlockEntityMultipartTicking extends CyclopsBlockEntity implements P
         tag.putBoolean("realCable", cableFakeable.isRealCable());
     }
 
+    @Override
+    public CompoundTag getUpdateTag(HolderLookup.Provider provider) {
+        return ValueStreamCodecs.writeForClientSync(() -> super.getUpdateTag(provider));
+    }
+
     @Override
     public void read(CompoundTag tag, HolderLookup.Provider provider) {
         EnumFacingMap<Boolean> lastConnected = EnumFacingMap.newMap(connected);
@@ -0,0 +1,120 @@
+package org.cyclops.integrateddynamics.core.evaluate;
+
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Records the cost of operator and variable evaluations while network elements are being updated.
+ *
+ * Profiling only happens while a network is being diagnosed and {@link GeneralConfig#diagnosticsProfileEvaluations} is enabled.
+ * When no profile is active, the overhead of the recording hooks is a single static field read.
+ * Evaluations on other threads than the one that started the profile are not recorded.
+ *
+ * @author rubensworks
+ */
+public class EvaluationProfiler {
+
+    private static final ThreadLocal<Profile> CURRENT = new ThreadLocal<>();
+    private static boolean active = false;
+
+    /**
+     * @return The profile of the current thread, or null if nothing is being profiled.
+     */
+    @Nullable
+    public static Profile getActiveProfile() {
+        return active ? CURRENT.get() : null;
+    }
+
+    /**
+     * Start recording evaluations in the current thread into the given profile.
+     * @param profile A profile.
+     */
+    public static void start(Profile profile) {
+        CURRENT.set(profile);
+        active = true;
+    }
+
+    /**
+     * Stop recording evaluations in the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+        active = false;
+    }
+
+    /**
+     * The evaluation costs recorded for a single network element.
+     */
+    public static class Profile {
+
+        private final Map<String, Stats> operators = Maps.newHashMap();
+        private final Int2ObjectMap<Stats> variables = new Int2ObjectOpenHashMap<>();
+
+        public void recordOperator(IOperator operator, long durationNs) {
+            operators.computeIfAbsent(operator.getUniqueName().toString(), k -> new Stats()).record(durationNs, false);
+        }
+
+        public void recordVariable(int variableId, long durationNs, boolean cacheHit) {
+            variables.computeIfAbsent(variableId, k -> new Stats()).record(durationNs, cacheHit);
+        }
+
+        /**
+         * @return The stats per operator unique name.
+         */
+        public Map<String, Stats> getOperators() {
+            return operators;
+        }
+
+        /**
+         * @return The stats per variable id.
+         */
+        public Int2ObjectMap<Stats> getVariables() {
+            return variables;
+        }
+
+    }
+
+    /**
+     * Aggregated evaluation costs.
+     */
+    public static class Stats {
+
+        private int invocations;
+        private int cacheHits;
+        private long totalNs;
+        private long maxNs;
+
+        protected void record(long durationNs, boolean cacheHit) {
+            this.invocations++;
+            if (cacheHit) {
+                this.cacheHits++;
+            }
+            this.totalNs += durationNs;
+            this.maxNs = Math.max(this.maxNs, durationNs);
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+
+        public int getCacheHits() {
+            return cacheHits;
+        }
+
+        public long getTotalNs() {
+            return totalNs;
+        }
+
+        public long getMaxNs() {
+            return maxNs;
+        }
+
+    }
+
+}
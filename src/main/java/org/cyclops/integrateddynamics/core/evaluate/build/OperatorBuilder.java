@@ -44,12 +44,19 @@ public class OperatorBuilder<O> {
     private final IConditionalOutputTypeDeriver conditionalOutputTypeDeriver;
     private final ITypeValidator typeValidator;
     private final List<IOperatorValuePropagator> valuePropagators;
+    private final boolean pure;
+    @Nullable
+    private final IValueType[] associativeTypes;
+    @Nullable
+    private final IOperator.IEquivalenceKey equivalenceKey;
 
     protected OperatorBuilder(String symbol, String operatorName, String interactName, String globalInteractNamePrefix, boolean alsoPrefixLocalScope,
                               IValueType[] inputTypes, IValueType outputType,
                               OperatorBase.IFunction function, IConfigRenderPattern renderPattern, String modId,
                               List<String> kinds, IConditionalOutputTypeDeriver conditionalOutputTypeDeriver,
-                              ITypeValidator typeValidator, List<IOperatorValuePropagator> valuePropagators) {
+                              ITypeValidator typeValidator, List<IOperatorValuePropagator> valuePropagators,
+                              boolean pure, @Nullable IValueType[] associativeTypes,
+                              @Nullable IOperator.IEquivalenceKey equivalenceKey) {
         this.symbol = symbol;
         this.operatorName = operatorName;
         this.interactName = interactName;
@@ -64,6 +71,9 @@ public class OperatorBuilder<O> {
         this.conditionalOutputTypeDeriver = conditionalOutputTypeDeriver;
         this.typeValidator = typeValidator;
         this.valuePropagators = valuePropagators;
+        this.pure = pure;
+        this.associativeTypes = associativeTypes;
+        this.equivalenceKey = equivalenceKey;
     }
 
     /**
@@ -73,7 +83,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> output(IValueType outputType) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -83,7 +93,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> symbol(String symbol) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -93,7 +103,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> operatorName(String operatorName) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -103,7 +113,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> interactName(String interactName) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -115,7 +125,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> interactName(String interactName, String globalInteractNamePrefix, boolean alsoPrefixLocalScope) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -126,7 +136,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> symbolOperator(String symbolOperator) {
         return new OperatorBuilder<>(symbolOperator, symbolOperator, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern,
-                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -137,7 +147,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> symbolOperatorInteract(String symbolOperator) {
         return new OperatorBuilder<>(symbolOperator, symbolOperator, symbolOperator, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern,
-                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -147,7 +157,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> operatorInteract(String operatorInteract) {
         return new OperatorBuilder<>(symbol, operatorInteract, operatorInteract, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern,
-                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -157,7 +167,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> inputTypes(IValueType... inputTypes) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -168,7 +178,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> inputTypes(int length, IValueType defaultType) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, OperatorBase.constructInputVariables(length, defaultType),
-                outputType, function, renderPattern, modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                outputType, function, renderPattern, modId, kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -190,7 +200,7 @@ public class OperatorBuilder<O> {
             throw new IllegalStateException("Can not add a function when value propagators are present.");
         }
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -200,7 +210,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> renderPattern(IConfigRenderPattern renderPattern) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -210,7 +220,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> modId(String modId) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -220,7 +230,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> appendKind(String kind) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
-                Helpers.joinList(kinds, kind), conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                Helpers.joinList(kinds, kind), conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -231,7 +241,7 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> conditionalOutputTypeDeriver(IConditionalOutputTypeDeriver conditionalOutputTypeDeriver) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
-                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -241,7 +251,40 @@ public class OperatorBuilder<O> {
      */
     public OperatorBuilder<O> typeValidator(ITypeValidator typeValidator) {
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
-                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators);
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
+    }
+
+    /**
+     * Mark the operator as pure.
+     * Pure operators do not read from or modify the world, and can be evaluated from any thread.
+     * @return The builder instance.
+     */
+    public OperatorBuilder<O> pure() {
+        return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, true, associativeTypes, equivalenceKey);
+    }
+
+    /**
+     * Mark the operator as associative.
+     * This only makes sense for operators with two inputs of the same type as the output.
+     * @param valueTypes The value types for which the operator is associative, or none if it is associative for all types.
+     * @return The builder instance.
+     */
+    public OperatorBuilder<O> associative(IValueType... valueTypes) {
+        return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, valueTypes, equivalenceKey);
+    }
+
+    /**
+     * Mark the operator as an equivalence relation.
+     * This only makes sense for operators with two inputs of the same type and a boolean output.
+     * @param equivalenceKey A key function for which the keys of two values are equal
+     *                       if and only if the operator returns true for them.
+     * @return The builder instance.
+     */
+    public OperatorBuilder<O> equivalence(IOperator.IEquivalenceKey equivalenceKey) {
+        return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId,
+                kinds, conditionalOutputTypeDeriver, typeValidator, valuePropagators, pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -255,7 +298,7 @@ public class OperatorBuilder<O> {
             throw new IllegalStateException("Can not add a function when value propagators are present.");
         }
         return new OperatorBuilder<>(symbol, operatorName, interactName, globalInteractNamePrefix, alsoPrefixLocalScope, inputTypes, outputType, function, renderPattern, modId, kinds,
-                conditionalOutputTypeDeriver, typeValidator, Helpers.joinList(valuePropagators, valuePropagator));
+                conditionalOutputTypeDeriver, typeValidator, Helpers.joinList(valuePropagators, valuePropagator), pure, associativeTypes, equivalenceKey);
     }
 
     /**
@@ -273,7 +316,7 @@ public class OperatorBuilder<O> {
      */
     public static OperatorBuilder<OperatorBase.SafeVariablesGetter> forType(IValueType<?> outputType) {
         return new OperatorBuilder<>(null, null, null, null, false, null, outputType, null, null, Reference.MOD_ID,
-                Collections.<String>emptyList(), null, null, null);
+                Collections.<String>emptyList(), null, null, null, false, null, null);
     }
 
     private static class Built extends OperatorBase {
@@ -282,6 +325,11 @@ public class OperatorBuilder<O> {
         private final String unlocalizedType;
         private final IConditionalOutputTypeDeriver conditionalOutputTypeDeriver;
         private final ITypeValidator typeValidator;
+        private final boolean pure;
+        @Nullable
+        private final IValueType[] associativeTypes;
+        @Nullable
+        private final IEquivalenceKey equivalenceKey;
 
         protected Built(OperatorBuilder operatorBuilder) {
             super(Objects.requireNonNull(operatorBuilder.symbol),
@@ -296,6 +344,9 @@ public class OperatorBuilder<O> {
             this.unlocalizedType = deriveUnlocalizedType(operatorBuilder);
             this.conditionalOutputTypeDeriver = operatorBuilder.conditionalOutputTypeDeriver;
             this.typeValidator = operatorBuilder.typeValidator;
+            this.pure = operatorBuilder.pure;
+            this.associativeTypes = operatorBuilder.associativeTypes;
+            this.equivalenceKey = operatorBuilder.equivalenceKey;
         }
 
         protected static IFunction deriveFunction(OperatorBuilder operatorBuilder) {
@@ -342,6 +393,33 @@ public class OperatorBuilder<O> {
                     ? typeValidator.validateTypes(this, input)
                     : super.validateTypes(input);
         }
+
+        @Override
+        public boolean isPure() {
+            return this.pure;
+        }
+
+        @Override
+        public boolean isAssociative(IValueType valueType) {
+            if (this.associativeTypes == null) {
+                return false;
+            }
+            if (this.associativeTypes.length == 0) {
+                return true;
+            }
+            for (IValueType associativeType : this.associativeTypes) {
+                if (associativeType == valueType) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        @Override
+        public IEquivalenceKey getEquivalenceKey() {
+            return this.equivalenceKey;
+        }
     }
 
     public static interface IConditionalOutputTypeDeriver {
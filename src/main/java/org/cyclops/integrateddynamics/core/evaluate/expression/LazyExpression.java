@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.core.evaluate.expression;
 
 import net.minecraft.network.chat.Component;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
 import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
@@ -9,8 +10,11 @@ import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
+import javax.annotation.Nullable;
+
 /**
  * A generic expression with arbitrarily nested binary operations.
  * This is evaluated in a lazy manner.
@@ -22,7 +26,9 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
     private final IOperator op;
     private final IVariable[] input;
     private final ILazyExpressionValueCache valueCache;
+    private ICompiledExpression compiled = null;
     private boolean errored = false;
+    private EvaluationException error = null;
 
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
@@ -37,22 +43,73 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
 
     @Override
     public IValue evaluate() throws EvaluationException {
+        EvaluationProfiler.Profile profile = EvaluationProfiler.getActiveProfile();
         if(valueCache.hasValue(id)) {
+            if (profile != null) {
+                profile.recordVariable(id, 0, true);
+            }
             return valueCache.getValue(id);
         }
-        IValue value = op.evaluate(input);
-        for (IVariable inputVariable : input) {
-            inputVariable.addInvalidationListener(this);
+        if (error != null) {
+            throw error.copy();
+        }
+        long startTime = profile != null ? System.nanoTime() : 0;
+        IValue value;
+        try {
+            value = compute();
+        } catch (EvaluationException e) {
+            // Remember the failure until our inputs change, unless it may resolve by itself
+            if (!e.isRetryEvaluation()) {
+                error = e;
+                for (IVariable dependency : getDependencies()) {
+                    dependency.addInvalidationListener(this);
+                }
+            }
+            throw e;
+        }
+        for (IVariable dependency : getDependencies()) {
+            dependency.addInvalidationListener(this);
         }
         valueCache.setValue(id, value);
+        if (profile != null) {
+            profile.recordVariable(id, System.nanoTime() - startTime, false);
+        }
         return value;
     }
 
+    /**
+     * Calculate the value of this expression, without caching.
+     * @return The value.
+     * @throws EvaluationException If evaluation failed.
+     */
+    protected IValue compute() throws EvaluationException {
+        if (compiled == null) {
+            compiled = op.compile(input);
+        }
+        return compiled.evaluate();
+    }
+
+    /**
+     * @return The variables that will invalidate this expression when they are invalidated.
+     */
+    protected IVariable[] getDependencies() {
+        return input;
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
     }
 
+    /**
+     * @return The error of the last evaluation, of which a copy will be thrown again until this expression is invalidated.
+     */
+    @Nullable
+    @Override
+    public EvaluationException getError() {
+        return error;
+    }
+
     @Override
     public IValueType<V> getType() {
         return op.getConditionalOutputType(input);
@@ -82,6 +139,7 @@ public class LazyExpression<V extends IValue> extends VariableAdapter<V> impleme
 
     @Override
     public void invalidate() {
+        error = null;
         valueCache.removeValue(id);
         super.invalidate();
     }
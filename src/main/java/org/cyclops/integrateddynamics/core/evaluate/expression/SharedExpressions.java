@@ -0,0 +1,246 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyBase;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates the expressions for operator variables within a network.
+ *
+ * Pure operators that are applied on constant values are folded into a {@link ConstantExpression} once.
+ * Pure operators that are applied on the same operator and inputs as an existing expression share their computation,
+ * so that each distinct computation is only evaluated once per invalidation.
+ * Each variable still gets its own expression, so that values are cached and profiled under its own id.
+ * Since inputs are shared in the same way, identical subtrees always end up sharing the same computation.
+ *
+ * Shared computations are only weakly referenced, so they are forgotten once no variable uses them anymore.
+ *
+ * @author rubensworks
+ */
+public class SharedExpressions {
+
+    private final ILazyExpressionValueCache valueCache;
+    private final Cache<Key, Computation> computations = CacheBuilder.newBuilder().weakValues().build();
+
+    public SharedExpressions(ILazyExpressionValueCache valueCache) {
+        this.valueCache = valueCache;
+    }
+
+    /**
+     * Get the expression for the given operator and input.
+     * @param id The id of the variable the expression is created for.
+     * @param operator The operator.
+     * @param input The input variables.
+     * @return A constant, shared or new expression.
+     */
+    public IExpression get(int id, IOperator operator, IVariable[] input) {
+        if (!operator.isPure()) {
+            return new LazyExpression(id, operator, input, valueCache);
+        }
+        ConstantExpression constant = fold(operator, input);
+        if (constant != null) {
+            return constant;
+        }
+        Key key = new Key(operator, input);
+        Computation computation = computations.getIfPresent(key);
+        if (computation == null) {
+            computation = new Computation(operator, input);
+            computations.put(key, computation);
+        }
+        return new SharedLazyExpression<>(id, operator, input, valueCache, computation);
+    }
+
+    /**
+     * Evaluate the given pure operator if all inputs are constant.
+     * Lists that are read live from the world are not considered constant.
+     * @param operator An operator.
+     * @param input The input variables.
+     * @return The constant result, or null if the operator is not pure, if an input is not constant,
+     *         or if evaluation failed, in which case the error will be reported when the variable is evaluated.
+     */
+    @Nullable
+    public static ConstantExpression fold(IOperator operator, IVariable[] input) {
+        if (!operator.isPure()) {
+            return null;
+        }
+        try {
+            for (IVariable variable : input) {
+                if (!(variable instanceof Variable) || !isConstant(variable.getValue())) {
+                    return null;
+                }
+            }
+            IValue value = operator.evaluate(input);
+            return new ConstantExpression(operator.getConditionalOutputType(input), value);
+        } catch (EvaluationException | RuntimeException e) {
+            // Defer the error to the regular evaluation, where it is handled as before
+            return null;
+        }
+    }
+
+    protected static boolean isConstant(IValue value) {
+        return !(value instanceof ValueTypeList.ValueList<?, ?> list) || ValueTypeListProxyBase.isStable(list.getRawValue());
+    }
+
+    /**
+     * A computation that is shared by the expressions of multiple variables.
+     * Its value and failure are kept until one of its inputs is invalidated.
+     */
+    protected static final class Computation extends VariableAdapter<IValue> {
+
+        private final IOperator operator;
+        private final IVariable[] input;
+        private ICompiledExpression compiled = null;
+        private IValue value = null;
+        private EvaluationException error = null;
+
+        public Computation(IOperator operator, IVariable[] input) {
+            this.operator = operator;
+            this.input = input;
+        }
+
+        @Override
+        public IValueType<IValue> getType() {
+            return operator.getConditionalOutputType(input);
+        }
+
+        @Override
+        public IValue getValue() throws EvaluationException {
+            if (value != null) {
+                return value;
+            }
+            if (error != null) {
+                throw error.copy();
+            }
+            if (compiled == null) {
+                compiled = operator.compile(input);
+            }
+            try {
+                value = compiled.evaluate();
+            } catch (EvaluationException e) {
+                if (!e.isRetryEvaluation()) {
+                    error = e;
+                    listenToInput();
+                }
+                throw e;
+            }
+            listenToInput();
+            return value;
+        }
+
+        protected void listenToInput() {
+            for (IVariable inputVariable : input) {
+                inputVariable.addInvalidationListener(this);
+            }
+        }
+
+        public boolean hasErrored() {
+            return error != null;
+        }
+
+        @Override
+        public void invalidate() {
+            value = null;
+            error = null;
+            super.invalidate();
+        }
+    }
+
+    /**
+     * The expression of a single variable that evaluates a shared computation.
+     * @param <V> The value type.
+     */
+    public static class SharedLazyExpression<V extends IValue> extends LazyExpression<V> {
+
+        private final Computation computation;
+
+        protected SharedLazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache,
+                                       Computation computation) {
+            super(id, op, input, valueCache);
+            this.computation = computation;
+        }
+
+        @Override
+        protected IValue compute() throws EvaluationException {
+            return computation.getValue();
+        }
+
+        @Override
+        protected IVariable[] getDependencies() {
+            return new IVariable[]{computation};
+        }
+
+        @Override
+        public void invalidate() {
+            // A failed computation is retried for all sharing variables
+            if (computation.hasErrored()) {
+                computation.invalidate();
+            }
+            super.invalidate();
+        }
+
+        /**
+         * @param other Another expression.
+         * @return If the given expression shares its computation with this expression.
+         */
+        public boolean sharesComputation(IExpression<?> other) {
+            return other instanceof SharedLazyExpression<?> that && this.computation == that.computation;
+        }
+    }
+
+    /**
+     * Identifies a computation by its operator and inputs.
+     * Constant inputs are compared by value, all other inputs by identity.
+     */
+    protected static final class Key {
+
+        private final IOperator operator;
+        private final IVariable[] input;
+        private final int hash;
+
+        public Key(IOperator operator, IVariable[] input) {
+            this.operator = operator;
+            this.input = input;
+            int hash = operator.hashCode();
+            for (IVariable variable : input) {
+                hash = 31 * hash + (variable instanceof Variable ? variable.hashCode() : System.identityHashCode(variable));
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that) || this.hash != that.hash
+                    || this.input.length != that.input.length || !this.operator.equals(that.operator)) {
+                return false;
+            }
+            for (int i = 0; i < input.length; i++) {
+                IVariable a = this.input[i];
+                IVariable b = that.input[i];
+                if (a != b && !(a instanceof Variable && a.equals(b))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
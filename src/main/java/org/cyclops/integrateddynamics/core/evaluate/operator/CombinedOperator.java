@@ -23,6 +23,7 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -32,6 +33,7 @@ import java.util.Objects;
 public class CombinedOperator extends OperatorBase {
 
     private final String unlocalizedType;
+    private final boolean pure;
 
     public CombinedOperator(String symbol, String operatorName, String interactName, OperatorsFunction function, IValueType outputType) {
         this(symbol, operatorName, interactName, function, new IValueType[]{ValueTypes.CATEGORY_ANY}, outputType, null);
@@ -42,6 +44,7 @@ public class CombinedOperator extends OperatorBase {
         super(symbol, operatorName, interactName, null, false,
                 inputTypes, outputType, function, configRenderPattern);
         this.unlocalizedType = "virtual";
+        this.pure = Arrays.stream(function.getOperators()).allMatch(IOperator::isPure);
     }
 
     @Override
@@ -54,6 +57,29 @@ public class CombinedOperator extends OperatorBase {
         return this;
     }
 
+    @Override
+    public boolean isPure() {
+        return pure;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CombinedOperator)) return false;
+        CombinedOperator that = (CombinedOperator) o;
+        return getClass() == that.getClass()
+                && getFunction().getClass() == that.getFunction().getClass()
+                && getUniqueName().equals(that.getUniqueName())
+                && Arrays.equals(((OperatorsFunction) getFunction()).getOperators(), ((OperatorsFunction) that.getFunction()).getOperators());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = getUniqueName().hashCode();
+        result = 31 * result + Arrays.hashCode(((OperatorsFunction) getFunction()).getOperators());
+        return result;
+    }
+
     public static abstract class OperatorsFunction implements IFunction {
 
         private final IOperator[] operators;
@@ -189,7 +215,7 @@ public class CombinedOperator extends OperatorBase {
 
         @Override
         public IValue evaluate(SafeVariablesGetter variables) throws EvaluationException {
-            return pipeVariablesToOperators(variables.getVariables(), getOperators());
+            return pipeVariablesToOperators(variables.getVariables(), getOperators(), true);
         }
 
         /**
@@ -202,6 +228,21 @@ public class CombinedOperator extends OperatorBase {
          * @throws EvaluationException If evaluation failed.
          */
         public static IValue pipeVariablesToOperators(IVariable[] allVariables, IOperator[] operators) throws EvaluationException {
+            return pipeVariablesToOperators(allVariables, operators, false);
+        }
+
+        /**
+         * Pass the first variable to all n-1 first operators.
+         * Prepend the results of these operators to the variables array.
+         * Pass the final variables array to the last operator.
+         * @param allVariables The input variables.
+         * @param operators The operators to apply to. The n-1 first ones are the inputs, and the last one is the target to pipe to.
+         * @param tailCall If the last operator must be returned as a {@link EvaluationContext.TailCall} instead of being evaluated.
+         *                 This may only be enabled from within an operator function.
+         * @return The final result, or the tail call to it.
+         * @throws EvaluationException If evaluation failed.
+         */
+        public static IValue pipeVariablesToOperators(IVariable[] allVariables, IOperator[] operators, boolean tailCall) throws EvaluationException {
             int firstInputRange = operators.length - 1;
             IVariable input = allVariables[0];
             IVariable[] intermediates = new IVariable[firstInputRange];
@@ -210,7 +251,8 @@ public class CombinedOperator extends OperatorBase {
             }
             IVariable[] remaining = ArrayUtils.subarray(allVariables, 1, allVariables.length);
             IVariable[] newVariables = ArrayUtils.addAll(intermediates, remaining);
-            return ValueHelpers.evaluateOperator(operators[operators.length - 1], newVariables);
+            IOperator last = operators[operators.length - 1];
+            return tailCall ? EvaluationContext.tailCall(last, newVariables) : ValueHelpers.evaluateOperator(last, newVariables);
         }
 
         /**
@@ -289,7 +331,7 @@ public class CombinedOperator extends OperatorBase {
 
         @Override
         public IValue evaluate(SafeVariablesGetter variables) throws EvaluationException {
-            return Pipe.pipeVariablesToOperators(variables.getVariables(), getOperators());
+            return Pipe.pipeVariablesToOperators(variables.getVariables(), getOperators(), true);
         }
 
         public static CombinedOperator asOperator(IOperator... operators) {
@@ -324,7 +366,7 @@ public class CombinedOperator extends OperatorBase {
                 int targetI = i < 2 ? 1 - i : i;
                 values[i] = variables.getValue(targetI);
             }
-            return ValueHelpers.evaluateOperator(getOperators()[0], values);
+            return EvaluationContext.tailCall(getOperators()[0], values);
         }
 
         public static CombinedOperator asOperator(IOperator operator) throws EvaluationException {
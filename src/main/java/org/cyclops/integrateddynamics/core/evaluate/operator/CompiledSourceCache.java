@@ -0,0 +1,99 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.re2j.Pattern;
+import com.google.re2j.PatternSyntaxException;
+import org.cyclops.cyclopscore.nbt.path.INbtPathExpression;
+import org.cyclops.cyclopscore.nbt.path.NbtParseException;
+import org.cyclops.cyclopscore.nbt.path.NbtPath;
+
+/**
+ * A bounded and thread-safe cache of objects that are compiled from a source string,
+ * such as regular expressions and NBT path expressions.
+ *
+ * Compilation failures are cached as well, so that invalid sources are not compiled again on every evaluation.
+ * The cached exception instance is rethrown in that case.
+ *
+ * @param <T> The compiled object type.
+ * @param <E> The exception type that is thrown for invalid sources.
+ * @author rubensworks
+ */
+public class CompiledSourceCache<T, E extends Exception> {
+
+    public static final int MAX_SIZE = 1024;
+
+    public static final CompiledSourceCache<Pattern, PatternSyntaxException> REGEX =
+            new CompiledSourceCache<>(Pattern::compile, PatternSyntaxException.class);
+    public static final CompiledSourceCache<INbtPathExpression, NbtParseException> NBT_PATH =
+            new CompiledSourceCache<>(NbtPath::parse, NbtParseException.class);
+
+    private final ICompiler<T, E> compiler;
+    private final Class<E> exceptionClass;
+    private final Cache<String, Entry<T, E>> cache;
+
+    public CompiledSourceCache(ICompiler<T, E> compiler, Class<E> exceptionClass) {
+        this.compiler = compiler;
+        this.exceptionClass = exceptionClass;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the compiled object for the given source.
+     * @param source A source string.
+     * @return The compiled object.
+     * @throws E If the source is invalid.
+     */
+    public T get(String source) throws E {
+        Entry<T, E> entry = this.cache.getIfPresent(source);
+        if (entry == null) {
+            try {
+                entry = new Entry<>(this.compiler.compile(source), null);
+            } catch (Exception e) {
+                if (!this.exceptionClass.isInstance(e)) {
+                    throw e;
+                }
+                entry = new Entry<>(null, this.exceptionClass.cast(e));
+            }
+            this.cache.put(source, entry);
+        }
+        if (entry.error() != null) {
+            throw entry.error();
+        }
+        return entry.value();
+    }
+
+    /**
+     * @return The hit and miss statistics of this cache.
+     */
+    public CacheStats getStats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * @return The number of cached entries.
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public void clear() {
+        this.cache.invalidateAll();
+    }
+
+    protected static record Entry<T, E>(T value, E error) {
+
+    }
+
+    public static interface ICompiler<T, E extends Exception> {
+        public T compile(String source) throws E;
+    }
+
+}
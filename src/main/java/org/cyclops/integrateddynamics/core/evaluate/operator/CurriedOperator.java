@@ -8,6 +8,7 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import org.cyclops.integrateddynamics.Reference;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -16,6 +17,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeOperator;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -139,6 +141,37 @@ public class CurriedOperator implements IOperator {
         return baseOperator.evaluate(deriveFullInputVariables(input));
     }
 
+    @Override
+    public ICompiledExpression compile(IVariable[] input) {
+        return baseOperator.compile(deriveFullInputVariables(input));
+    }
+
+    @Override
+    public boolean isPure() {
+        if (!baseOperator.isPure()) {
+            return false;
+        }
+        // Applied values must be constant, and must not be able to read from the world themselves
+        for (IVariable appliedVariable : appliedVariables) {
+            if (!(appliedVariable instanceof Variable<?>)) {
+                return false;
+            }
+            try {
+                IValue value = appliedVariable.getValue();
+                if (value instanceof ValueTypeOperator.ValueOperator valueOperator) {
+                    if (!valueOperator.getRawValue().isPure()) {
+                        return false;
+                    }
+                } else if (!ParallelListEvaluator.isSafeValueType(value.getType())) {
+                    return false;
+                }
+            } catch (EvaluationException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int getRequiredInputLength() {
         return baseOperator.getRequiredInputLength() - appliedVariables.length;
@@ -0,0 +1,201 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.network.chat.Component;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
+
+import java.util.List;
+
+/**
+ * The state of the operator evaluations that are running in a single thread.
+ *
+ * It keeps track of how deep each operator is currently being evaluated,
+ * so that infinite recursion is reported as an error once {@link GeneralConfig#operatorRecursionLimit} is reached.
+ * Pure operators are not tracked.
+ * Pure pipes and curried operators do invoke other operators, but only the ones they were created from,
+ * which already existed at that time.
+ * So pure operator graphs are finite and acyclic, and their evaluation depth is bounded by their size.
+ * Recursion can only happen through impure operators, such as applies of operator values from the input, which are tracked.
+ *
+ * Higher-order operators such as pipes and applies can return a {@link TailCall} from their function
+ * instead of evaluating their final operator themselves.
+ * These tail calls are run in a loop by {@link #run(TailCall)}, so that long chains of them do not grow the call stack.
+ *
+ * @author rubensworks
+ */
+public class EvaluationContext {
+
+    private static final ThreadLocal<EvaluationContext> CURRENT = ThreadLocal.withInitial(EvaluationContext::new);
+
+    private final Reference2IntOpenHashMap<IOperator> depths = new Reference2IntOpenHashMap<>();
+
+    /**
+     * @return The evaluation context of the current thread.
+     */
+    public static EvaluationContext get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Create a tail call, which may only be returned from within the function of an {@link OperatorBase}.
+     * @param operator The operator to evaluate.
+     * @param variables The variables to evaluate the operator with.
+     * @return The tail call.
+     */
+    public static IValue tailCall(IOperator operator, IVariable... variables) {
+        return new TailCall(operator, variables);
+    }
+
+    /**
+     * Create a tail call, which may only be returned from within the function of an {@link OperatorBase}.
+     * @param operator The operator to evaluate.
+     * @param values The values to evaluate the operator with.
+     * @return The tail call.
+     */
+    public static IValue tailCall(IOperator operator, IValue... values) {
+        IVariable[] variables = new IVariable[values.length];
+        for (int i = 0; i < variables.length; i++) {
+            IValue value = values[i];
+            variables[i] = new Variable<>(value.getType(), value);
+        }
+        return tailCall(operator, variables);
+    }
+
+    /**
+     * @param operator An operator.
+     * @return How many evaluations of the given operator are currently active in this thread.
+     */
+    public int getDepth(IOperator operator) {
+        return depths.getInt(operator);
+    }
+
+    /**
+     * Register the start of an evaluation of the given operator.
+     * Each successful call must be followed by a call to {@link #exit(IOperator)}.
+     * @param operator An operator.
+     * @throws EvaluationException If the recursion limit was reached.
+     */
+    public void enter(IOperator operator) throws EvaluationException {
+        if (depths.addTo(operator, 1) > GeneralConfig.operatorRecursionLimit) {
+            exit(operator);
+            throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
+                    GeneralConfig.operatorRecursionLimit,
+                    Component.translatable(operator.getTranslationKey())
+            ));
+        }
+    }
+
+    /**
+     * Register the end of an evaluation of the given operator.
+     * @param operator An operator.
+     */
+    public void exit(IOperator operator) {
+        if (depths.addTo(operator, -1) <= 1) {
+            depths.removeInt(operator);
+        }
+    }
+
+    /**
+     * Evaluate the given tail call, and all tail calls that it results in, until a regular value is produced.
+     * This corresponds to {@link ValueHelpers#evaluateOperator(IOperator, IVariable...)}.
+     *
+     * Operators in the chain remain registered as being evaluated until the whole chain has finished,
+     * so that infinite recursion through tail calls is still detected.
+     *
+     * @param tailCall A tail call.
+     * @return The resulting value.
+     * @throws EvaluationException If something went wrong during operator evaluation.
+     */
+    public IValue run(TailCall tailCall) throws EvaluationException {
+        List<IOperator> entered = null;
+        try {
+            IValue result = tailCall;
+            while (result instanceof TailCall call) {
+                IOperator operator = call.getOperator();
+                IVariable[] variables = call.getVariables();
+                int requiredLength = operator.getRequiredInputLength();
+                if (variables.length < requiredLength) {
+                    result = ValueHelpers.evaluateOperator(operator, variables);
+                } else if (variables.length > requiredLength) {
+                    IOperator nextOperator = ValueHelpers.evaluateOperatorOverflow(operator, variables);
+                    result = new TailCall(nextOperator, ArrayUtils.subarray(variables, requiredLength, variables.length));
+                } else if (operator instanceof CurriedOperator curriedOperator) {
+                    result = new TailCall(curriedOperator.getBaseOperator(), curriedOperator.deriveFullInputVariables(variables));
+                } else if (operator instanceof OperatorBase operatorBase) {
+                    if (!operatorBase.isPure()) {
+                        enter(operatorBase);
+                        if (entered == null) {
+                            entered = Lists.newArrayList();
+                        }
+                        entered.add(operatorBase);
+                    }
+                    result = operatorBase.evaluateStep(variables);
+                } else {
+                    result = operator.evaluate(variables);
+                }
+            }
+            return result;
+        } finally {
+            if (entered != null) {
+                for (int i = entered.size() - 1; i >= 0; i--) {
+                    exit(entered.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * A pending evaluation of an operator, returned by the function of a higher-order operator in tail position.
+     * This value never escapes from {@link OperatorBase#evaluate(IVariable...)}.
+     */
+    public static final class TailCall implements IValue {
+
+        private final IOperator operator;
+        private final IVariable[] variables;
+
+        private TailCall(IOperator operator, IVariable[] variables) {
+            this.operator = operator;
+            this.variables = variables;
+        }
+
+        public IOperator getOperator() {
+            return operator;
+        }
+
+        public IVariable[] getVariables() {
+            return variables;
+        }
+
+        @Override
+        public IValueType getType() {
+            return ValueTypes.CATEGORY_ANY;
+        }
+
+        @Override
+        public <V extends IValue> V cast(IValueType<V> valueType) {
+            throw new IllegalStateException("Tail calls must be run before their value can be used");
+        }
+
+        @Override
+        public <V extends IValue> boolean canCast(IValueType<V> valueType) {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "[TailCall: " + operator + "]";
+        }
+    }
+
+}
@@ -5,14 +5,15 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
-import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.Reference;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
@@ -26,6 +27,8 @@ import java.util.List;
  */
 public abstract class OperatorBase implements IOperator {
 
+    private static final int VALIDATED_SIGNATURES = 4;
+
     private final String symbol;
     private final String operatorName;
     private final String interactName;
@@ -39,7 +42,8 @@ public abstract class OperatorBase implements IOperator {
     private final IConfigRenderPattern renderPattern;
 
     private String translationKey = null;
-    private int recursiveInvocations;
+    private final IValueType[][] validatedSignatures = new IValueType[VALIDATED_SIGNATURES][];
+    private int validatedSignaturesNext = 0;
 
     protected OperatorBase(String symbol, String operatorName, String interactName, String globalInteractNamePrefix, boolean alsoPrefixLocalScope, IValueType[] inputTypes,
                            IValueType outputType, IFunction function, @Nullable IConfigRenderPattern renderPattern) {
@@ -199,21 +203,109 @@ public abstract class OperatorBase implements IOperator {
 
     @Override
     public IValue evaluate(IVariable... input) throws EvaluationException {
-        if (this.recursiveInvocations++ > GeneralConfig.operatorRecursionLimit) {
-            this.recursiveInvocations = 0;
-            throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_RECURSIONLIMIT,
-                    GeneralConfig.operatorRecursionLimit,
-                    Component.translatable(this.getTranslationKey())
-            ));
+        if (isPure()) {
+            // Pure operators form acyclic graphs, so their depth is bounded and does not need to be tracked
+            return evaluateTailCalls(evaluateStep(input));
+        }
+        EvaluationContext context = EvaluationContext.get();
+        context.enter(this);
+        try {
+            return evaluateTailCalls(evaluateStep(input));
+        } finally {
+            context.exit(this);
+        }
+    }
+
+    /**
+     * Validate the given input and apply the function of this operator on it,
+     * without registering the evaluation in the {@link EvaluationContext}.
+     * @param input The ordered input variables.
+     * @return The resulting value, which may be a {@link EvaluationContext.TailCall}.
+     * @throws EvaluationException If the input is invalid or if evaluation failed.
+     */
+    protected IValue evaluateStep(IVariable[] input) throws EvaluationException {
+        if (!isValidatedSignature(input)) {
+            IValueType[] signature = ValueHelpers.from(input);
+            MutableComponent error = validateTypes(signature);
+            if (error != null) {
+                throw new EvaluationException(error);
+            }
+            addValidatedSignature(signature);
         }
-        MutableComponent error = validateTypes(ValueHelpers.from(input));
-        if(error != null) {
-            this.recursiveInvocations--;
-            throw new EvaluationException(error);
+        return applyFunction(new SafeVariablesGetter(input));
+    }
+
+    protected IValue applyFunction(SafeVariablesGetter variables) throws EvaluationException {
+        EvaluationProfiler.Profile profile = EvaluationProfiler.getActiveProfile();
+        if (profile != null) {
+            long startTime = System.nanoTime();
+            try {
+                return function.evaluate(variables);
+            } finally {
+                profile.recordOperator(this, System.nanoTime() - startTime);
+            }
+        }
+        return function.evaluate(variables);
+    }
+
+    protected static IValue evaluateTailCalls(IValue result) throws EvaluationException {
+        if (result instanceof EvaluationContext.TailCall tailCall) {
+            return EvaluationContext.get().run(tailCall);
+        }
+        return result;
+    }
+
+    @Override
+    public ICompiledExpression compile(IVariable[] input) {
+        IValueType[] signature = ValueHelpers.from(input);
+        if (validateTypes(signature) != null) {
+            // Let the regular evaluation path report the error
+            return IOperator.super.compile(input);
+        }
+        addValidatedSignature(signature);
+        return new Compiled(this, input, signature);
+    }
+
+    /**
+     * Check if the types of the given input exactly match a signature that has successfully passed
+     * {@link #validateTypes(IValueType[])} before, in which case validation can be skipped.
+     * @param input The ordered input values.
+     * @return If the input types have been validated before.
+     */
+    protected boolean isValidatedSignature(IVariable[] input) {
+        for (IValueType[] signature : this.validatedSignatures) {
+            if (signature != null && signature.length == input.length) {
+                boolean matches = true;
+                for (int i = 0; i < input.length; i++) {
+                    IValueType inputType = input[i].getType();
+                    if (inputType == null || inputType != signature[i]) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remember a signature that successfully passed {@link #validateTypes(IValueType[])}.
+     * Only a small number of signatures are remembered, the oldest one is replaced first.
+     * @param signature The ordered input value types.
+     */
+    protected void addValidatedSignature(IValueType[] signature) {
+        synchronized (this.validatedSignatures) {
+            for (IValueType[] validatedSignature : this.validatedSignatures) {
+                if (validatedSignature != null && Arrays.equals(validatedSignature, signature)) {
+                    return;
+                }
+            }
+            this.validatedSignatures[this.validatedSignaturesNext] = signature.clone();
+            this.validatedSignaturesNext = (this.validatedSignaturesNext + 1) % this.validatedSignatures.length;
         }
-        IValue res = function.evaluate(new SafeVariablesGetter(input));
-        this.recursiveInvocations--;
-        return res;
     }
 
     @Override
@@ -264,6 +356,44 @@ public abstract class OperatorBase implements IOperator {
         return this;
     }
 
+    /**
+     * An operator bound to an input of which the types have been validated at compile-time.
+     * As long as the input types remain unchanged, type validation and input wrapping is skipped.
+     */
+    protected static class Compiled implements ICompiledExpression {
+
+        private final OperatorBase operator;
+        private final IVariable[] input;
+        private final IValueType[] signature;
+        private final SafeVariablesGetter variables;
+
+        public Compiled(OperatorBase operator, IVariable[] input, IValueType[] signature) {
+            this.operator = operator;
+            this.input = input;
+            this.signature = signature;
+            this.variables = new SafeVariablesGetter(input);
+        }
+
+        @Override
+        public IValue evaluate() throws EvaluationException {
+            for (int i = 0; i < input.length; i++) {
+                if (input[i].getType() != signature[i]) {
+                    return operator.evaluate(input);
+                }
+            }
+            if (operator.isPure()) {
+                return evaluateTailCalls(operator.applyFunction(variables));
+            }
+            EvaluationContext context = EvaluationContext.get();
+            context.enter(operator);
+            try {
+                return evaluateTailCalls(operator.applyFunction(variables));
+            } finally {
+                context.exit(operator);
+            }
+        }
+    }
+
     public static class SafeVariablesGetter {
 
         private final IVariable[] variables;
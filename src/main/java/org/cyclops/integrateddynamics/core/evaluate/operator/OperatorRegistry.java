@@ -2,12 +2,17 @@ package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -30,8 +35,10 @@ import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.item.OperatorVariableFacade;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,6 +62,9 @@ public class OperatorRegistry implements IOperatorRegistry {
     private final List<IOperatorSerializer> serializers = Lists.newArrayList();
     private final Map<String, IOperatorSerializer> namedSerializers = Maps.newHashMap();
     private final IOperatorSerializer DEFAULT_SERIALIZER = new OperatorSerializerDefault();
+    private final Interner<IOperator> interner = Interners.newWeakInterner();
+    private final ThreadLocal<SerializationScope> serializationScopes = new ThreadLocal<>();
+    private final ThreadLocal<DeserializationScope> deserializationScopes = new ThreadLocal<>();
 
     private OperatorRegistry() {
         if(MinecraftHelpers.isModdedEnvironment()) {
@@ -130,30 +140,118 @@ public class OperatorRegistry implements IOperatorRegistry {
         namedSerializers.put(serializer.getUniqueName().toString(), serializer);
     }
 
+    /**
+     * Serialize the given operator.
+     *
+     * Operators that occur more than once within the same root operator are only serialized once,
+     * and are referred to by index at other occurrences.
+     * In that case, the root tag contains the list of shared operators next to the root operator itself.
+     * @param valueDeseralizationContext The context.
+     * @param value The operator.
+     * @return The serialized operator.
+     */
     @Override
     public Tag serialize(ValueDeseralizationContext valueDeseralizationContext, IOperator value) {
+        SerializationScope scope = serializationScopes.get();
+        if (scope != null) {
+            return serializeShared(valueDeseralizationContext, value, scope);
+        }
+        scope = new SerializationScope();
+        serializationScopes.set(scope);
+        try {
+            Tag tag = serializeShared(valueDeseralizationContext, value, scope);
+            if (scope.shared.isEmpty()) {
+                return tag;
+            }
+            CompoundTag rootTag = new CompoundTag();
+            rootTag.put("shared", scope.sortShared());
+            rootTag.put("root", tag);
+            return rootTag;
+        } finally {
+            serializationScopes.remove();
+        }
+    }
+
+    protected Tag serializeShared(ValueDeseralizationContext valueDeseralizationContext, IOperator value, SerializationScope scope) {
         for (IOperatorSerializer serializer : serializers) {
             if (serializer.canHandle(value)) {
+                Map<IOperator, CompoundTag> tags = value.isPure() ? scope.pureTags : scope.identityTags;
+                CompoundTag existingTag = tags.get(value);
+                if (existingTag != null) {
+                    return scope.createReference(scope.share(existingTag));
+                }
+
                 CompoundTag tag = new CompoundTag();
                 tag.putString("serializer", serializer.getUniqueName().toString());
                 tag.put("value", serializer.serialize(valueDeseralizationContext, value));
+                tags.put(value, tag);
                 return tag;
             }
         }
         return DEFAULT_SERIALIZER.serialize(valueDeseralizationContext, value);
     }
 
+    /**
+     * Deserialize the given operator.
+     *
+     * Deserialized pure operators are interned,
+     * so that equal operators that are loaded from different places share the same instance.
+     * @param valueDeseralizationContext The context.
+     * @param value The serialized operator.
+     * @return The operator.
+     * @throws EvaluationException If deserialization failed.
+     */
     @Override
     public IOperator deserialize(ValueDeseralizationContext valueDeseralizationContext, Tag value) throws EvaluationException {
         if (value.getId() == Tag.TAG_COMPOUND) {
             CompoundTag tag = (CompoundTag) value;
+            if (tag.contains("shared", Tag.TAG_LIST)) {
+                DeserializationScope scopePrevious = deserializationScopes.get();
+                deserializationScopes.set(new DeserializationScope(tag.getList("shared", Tag.TAG_COMPOUND)));
+                try {
+                    return deserialize(valueDeseralizationContext, tag.get("root"));
+                } finally {
+                    deserializationScopes.set(scopePrevious);
+                }
+            }
+            if (tag.contains("ref", Tag.TAG_INT)) {
+                DeserializationScope scope = deserializationScopes.get();
+                int index = tag.getInt("ref");
+                // Shared operators may only refer to shared operators with a lower index
+                if (scope == null || index < 0 || index >= scope.operators.length || index >= scope.maxIndex) {
+                    throw new EvaluationException(Component.translatable(L10NValues.VALUETYPE_ERROR_DESERIALIZE,
+                            value, "Invalid shared operator reference"));
+                }
+                IOperator operator = scope.operators[index];
+                if (operator == null) {
+                    if (scope.resolving[index]) {
+                        throw new EvaluationException(Component.translatable(L10NValues.VALUETYPE_ERROR_DESERIALIZE,
+                                value, "Cyclic shared operator reference"));
+                    }
+                    scope.resolving[index] = true;
+                    int maxIndexPrevious = scope.maxIndex;
+                    scope.maxIndex = index;
+                    try {
+                        operator = deserialize(valueDeseralizationContext, scope.shared.getCompound(index));
+                    } finally {
+                        scope.maxIndex = maxIndexPrevious;
+                        scope.resolving[index] = false;
+                    }
+                    scope.operators[index] = operator;
+                }
+                return operator;
+            }
             String serializerName = tag.getString("serializer");
             IOperatorSerializer serializer = namedSerializers.get(serializerName);
             if (serializer == null) {
                 throw new EvaluationException(
                         Component.translatable(L10NValues.OPERATOR_ERROR_NO_DESERIALIZER, value));
             }
-            return serializer.deserialize(valueDeseralizationContext, tag.get("value"));
+            IOperator operator = serializer.deserialize(valueDeseralizationContext, tag.get("value"));
+            if (operator != null && operator.isPure()) {
+                operator = interner.intern(operator);
+            }
+            return operator;
         }
         return DEFAULT_SERIALIZER.deserialize(valueDeseralizationContext, value);
     }
@@ -247,4 +345,119 @@ public class OperatorRegistry implements IOperatorRegistry {
             return inputPredicates.map(map -> map);
         }
     }
+    /**
+     * Keeps track of the operators that were already serialized within a root operator.
+     */
+    protected static class SerializationScope {
+
+        private final Map<IOperator, CompoundTag> pureTags = Maps.newHashMap();
+        private final Map<IOperator, CompoundTag> identityTags = new IdentityHashMap<>();
+        private final Map<CompoundTag, Integer> sharedIndexes = new IdentityHashMap<>();
+        private final Map<CompoundTag, Integer> references = new IdentityHashMap<>();
+        private final ListTag shared = new ListTag();
+
+        /**
+         * Move the contents of the given operator tag into the shared list,
+         * and turn the tag itself into a reference to it.
+         * @param tag An operator tag that was serialized before.
+         * @return The index of the shared operator.
+         */
+        public int share(CompoundTag tag) {
+            Integer index = sharedIndexes.get(tag);
+            if (index == null) {
+                index = shared.size();
+                CompoundTag sharedTag = new CompoundTag();
+                for (String key : Lists.newArrayList(tag.getAllKeys())) {
+                    sharedTag.put(key, tag.get(key));
+                    tag.remove(key);
+                }
+                tag.putInt("ref", index);
+                shared.add(sharedTag);
+                sharedIndexes.put(tag, index);
+                references.put(tag, index);
+            }
+            return index;
+        }
+
+        /**
+         * Create a new reference to the shared operator at the given index.
+         * @param index The index of a shared operator.
+         * @return The reference tag.
+         */
+        public CompoundTag createReference(int index) {
+            CompoundTag tag = new CompoundTag();
+            tag.putInt("ref", index);
+            references.put(tag, index);
+            return tag;
+        }
+
+        /**
+         * Reorder the shared operators so that they only refer to shared operators with a lower index,
+         * and update all references accordingly.
+         * This is needed because operators can be shared after an operator containing them was shared.
+         * @return The sorted shared operators.
+         */
+        public ListTag sortShared() {
+            int[] sortedIndexes = new int[shared.size()];
+            Arrays.fill(sortedIndexes, -1);
+            ListTag sorted = new ListTag();
+            for (int i = 0; i < shared.size(); i++) {
+                addSorted(i, sortedIndexes, sorted);
+            }
+            for (Map.Entry<CompoundTag, Integer> entry : references.entrySet()) {
+                entry.getKey().putInt("ref", sortedIndexes[entry.getValue()]);
+            }
+            return sorted;
+        }
+
+        protected void addSorted(int index, int[] sortedIndexes, ListTag sorted) {
+            if (sortedIndexes[index] >= 0) {
+                return;
+            }
+            IntList referencedIndexes = new IntArrayList();
+            collectReferences(shared.get(index), referencedIndexes);
+            for (int i = 0; i < referencedIndexes.size(); i++) {
+                addSorted(referencedIndexes.getInt(i), sortedIndexes, sorted);
+            }
+            sortedIndexes[index] = sorted.size();
+            sorted.add(shared.get(index));
+        }
+
+        protected void collectReferences(Tag tag, IntList referencedIndexes) {
+            if (tag instanceof CompoundTag compoundTag) {
+                Integer index = references.get(compoundTag);
+                if (index != null) {
+                    referencedIndexes.add(index.intValue());
+                } else {
+                    for (String key : compoundTag.getAllKeys()) {
+                        collectReferences(compoundTag.get(key), referencedIndexes);
+                    }
+                }
+            } else if (tag instanceof ListTag listTag) {
+                for (Tag element : listTag) {
+                    collectReferences(element, referencedIndexes);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Holds the shared operators of a root operator that is being deserialized.
+     */
+    protected static class DeserializationScope {
+
+        private final ListTag shared;
+        private final IOperator[] operators;
+        private final boolean[] resolving;
+        private int maxIndex = Integer.MAX_VALUE;
+
+        public DeserializationScope(ListTag shared) {
+            this.shared = shared;
+            this.operators = new IOperator[shared.size()];
+            this.resolving = new boolean[shared.size()];
+        }
+
+    }
+
 }
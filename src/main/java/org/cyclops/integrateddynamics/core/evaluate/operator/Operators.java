@@ -36,6 +36,7 @@ import net.minecraft.world.entity.vehicle.AbstractMinecart;
 import net.minecraft.world.item.BlockItem;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.block.Block;
@@ -72,7 +73,6 @@ import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.nbt.path.INbtPathExpression;
 import org.cyclops.cyclopscore.nbt.path.NbtParseException;
-import org.cyclops.cyclopscore.nbt.path.NbtPath;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -122,7 +122,7 @@ public final class Operators {
     /**
      * Short-circuit logical AND operator with two input booleans and one output boolean.
      */
-    public static final IOperator LOGICAL_AND = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("&&").operatorInteract("and")
+    public static final IOperator LOGICAL_AND = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("&&").operatorInteract("and").associative()
             .function(variables -> {
                 ValueTypeBoolean.ValueBoolean a = variables.getValue(0, ValueTypes.BOOLEAN);
                 if (!a.getRawValue()) {
@@ -135,7 +135,7 @@ public final class Operators {
     /**
      * Short-circuit logical AND operator with two input booleans and one output boolean.
      */
-    public static final IOperator LOGICAL_OR = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("||").operatorInteract("or")
+    public static final IOperator LOGICAL_OR = REGISTRY.register(OperatorBuilders.LOGICAL_2.symbol("||").operatorInteract("or").associative()
             .function(variables -> {
                 ValueTypeBoolean.ValueBoolean a = variables.getValue(0, ValueTypes.BOOLEAN);
                 if (a.getRawValue()) {
@@ -177,6 +177,7 @@ public final class Operators {
      * Arithmetic ADD operator with two input numbers and one output number.
      */
     public static final IOperator ARITHMETIC_ADDITION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("+").operatorName("addition").interactName("add")
+            .associative(ValueTypes.INTEGER, ValueTypes.LONG)
             .function(
                 variables -> ValueTypes.CATEGORY_NUMBER.add(variables.getVariables()[0], variables.getVariables()[1])
             ).build());
@@ -193,6 +194,7 @@ public final class Operators {
      * Arithmetic MULTIPLY operator with two input numbers and one output number.
      */
     public static final IOperator ARITHMETIC_MULTIPLICATION = REGISTRY.register(OperatorBuilders.ARITHMETIC_2.symbol("*").operatorName("multiplication").interactName("multiply")
+            .associative(ValueTypes.INTEGER, ValueTypes.LONG)
             .function(
                 variables -> ValueTypes.CATEGORY_NUMBER.multiply(variables.getVariables()[0], variables.getVariables()[1])
             ).build());
@@ -208,7 +210,7 @@ public final class Operators {
     /**
      * Arithmetic MAX operator with two input numbers and one output number.
      */
-    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("max").operatorName("maximum").interactName("max")
+    public static final IOperator ARITHMETIC_MAXIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("max").operatorName("maximum").interactName("max").associative()
             .function(
                 variables -> ValueTypes.CATEGORY_NUMBER.max(variables.getVariables()[0], variables.getVariables()[1])
             ).build());
@@ -216,7 +218,7 @@ public final class Operators {
     /**
      * Arithmetic MIN operator with two input numbers and one output number.
      */
-    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("min").operatorName("minimum").interactName("min")
+    public static final IOperator ARITHMETIC_MINIMUM = REGISTRY.register(OperatorBuilders.ARITHMETIC_2_PREFIX.symbol("min").operatorName("minimum").interactName("min").associative()
             .function(
                 variables -> ValueTypes.CATEGORY_NUMBER.min(variables.getVariables()[0], variables.getVariables()[1])
             ).build());
@@ -261,6 +263,7 @@ public final class Operators {
     public static final IOperator RELATIONAL_EQUALS = REGISTRY.register(OperatorBuilders.RELATIONAL
             .inputTypes(2, ValueTypes.CATEGORY_ANY).renderPattern(IConfigRenderPattern.INFIX)
             .symbol("==").operatorInteract("equals")
+            .equivalence(value -> value)
             .function(
                 variables -> ValueTypeBoolean.ValueBoolean.of(variables.getValue(0).equals(variables.getValue(1)))
             )
@@ -341,7 +344,7 @@ public final class Operators {
     /**
      * Binary AND operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and").interactName("binaryAnd")
+    public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and").interactName("binaryAnd").associative()
             .function(variables -> {
                 ValueTypeInteger.ValueInteger a = variables.getValue(0, ValueTypes.INTEGER);
                 ValueTypeInteger.ValueInteger b = variables.getValue(1, ValueTypes.INTEGER);
@@ -351,7 +354,7 @@ public final class Operators {
     /**
      * Binary OR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or").interactName("binaryOr")
+    public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or").interactName("binaryOr").associative()
             .function(variables -> {
                 ValueTypeInteger.ValueInteger a = variables.getValue(0, ValueTypes.INTEGER);
                 ValueTypeInteger.ValueInteger b = variables.getValue(1, ValueTypes.INTEGER);
@@ -361,7 +364,7 @@ public final class Operators {
     /**
      * Binary XOR operator with two input integers and one output integers.
      */
-    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorInteract("xor")
+    public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorInteract("xor").associative()
             .function(variables -> {
                 ValueTypeInteger.ValueInteger a = variables.getValue(0, ValueTypes.INTEGER);
                 ValueTypeInteger.ValueInteger b = variables.getValue(1, ValueTypes.INTEGER);
@@ -415,25 +418,28 @@ public final class Operators {
      * String length operator with one input string and one output integer.
      */
     public static final IOperator STRING_LENGTH = REGISTRY.register(OperatorBuilders.STRING_1_PREFIX.symbol("len").operatorInteract("length")
+            .pure()
             .output(ValueTypes.INTEGER).function(variables -> {
                 ValueTypeString.ValueString a = variables.getValue(0, ValueTypes.STRING);
-                return ValueTypeInteger.ValueInteger.of(a.getRawValue().length());
+                return ValueTypeInteger.ValueInteger.of(a.length());
             }).build());
 
     /**
      * String concat operator with two input strings and one output string.
      */
-    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.symbol("+").operatorInteract("concat")
+    public static final IOperator STRING_CONCAT = REGISTRY.register(OperatorBuilders.STRING_2.symbol("+").operatorInteract("concat").associative()
+            .pure()
             .function(variables -> {
                 ValueTypeString.ValueString a = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString b = variables.getValue(1, ValueTypes.STRING);
-                return ValueTypeString.ValueString.of(a.getRawValue() + b.getRawValue());
+                return a.concat(b);
             }).build());
 
     /**
      * String contains operator which checks whether a given (literal) string is contained in the given string.
      */
     public static final IOperator STRING_CONTAINS = REGISTRY.register(OperatorBuilders.STRING_2.symbolOperatorInteract("contains")
+            .pure()
         .output(ValueTypes.BOOLEAN).function(variables -> {
                 ValueTypeString.ValueString search = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
@@ -444,11 +450,12 @@ public final class Operators {
      * String match operator which checks whether a given regular expression is contained within a string.
      */
     public static final IOperator STRING_CONTAINS_REGEX = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("contains_regex").interactName("containsRegex")
+            .pure()
         .output(ValueTypes.BOOLEAN).function(variables -> {
                 ValueTypeString.ValueString pattern = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                     return ValueTypeBoolean.ValueBoolean.of(m.find());
                 } catch (PatternSyntaxException e) {
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_REGEX_INVALID,
@@ -460,11 +467,12 @@ public final class Operators {
      * String match operator which checks whether a given regular expression matches a string.
      */
     public static final IOperator STRING_MATCHES_REGEX = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("matches_regex").interactName("matchesRegex")
+            .pure()
             .output(ValueTypes.BOOLEAN).function(variables -> {
                 ValueTypeString.ValueString pattern = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                     return ValueTypeBoolean.ValueBoolean.of(m.matches());
                 } catch (PatternSyntaxException e) {
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_REGEX_INVALID,
@@ -476,6 +484,7 @@ public final class Operators {
      * String operator which returns the integral index of the first position where the search string appears in the given string.
      */
     public static final IOperator STRING_INDEX_OF = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("index_of").interactName("indexOf")
+            .pure()
         .output(ValueTypes.INTEGER).function(variables -> {
                 ValueTypeString.ValueString search = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
@@ -486,11 +495,12 @@ public final class Operators {
      * String operator which returns the integral index where the a substring matching the regular expression appears in the given string.
      */
     public static final IOperator STRING_INDEX_OF_REGEX = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("index_of_regex").interactName("indexOfRegex")
+            .pure()
         .output(ValueTypes.INTEGER).function(variables -> {
                 ValueTypeString.ValueString pattern = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
                 try {
-                    Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                    Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                     if (m.find()) {
                         return ValueTypeInteger.ValueInteger.of(m.start());
                     } else {
@@ -506,6 +516,7 @@ public final class Operators {
      * String match operator which checks whether a given string matches the beginning of the given string.
      */
     public static final IOperator STRING_STARTS_WITH = REGISTRY.register(OperatorBuilders.STRING_2.symbolOperator("starts_with").interactName("startsWith")
+            .pure()
         .output(ValueTypes.BOOLEAN).function(variables -> {
                 ValueTypeString.ValueString search = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
@@ -516,6 +527,7 @@ public final class Operators {
      * String match operator which checks whether a given string matches the end of the given string.
      */
     public static final IOperator STRING_ENDS_WITH = REGISTRY.register(OperatorBuilders.STRING_2.symbolOperator("ends_with").interactName("endsWith")
+            .pure()
         .output(ValueTypes.BOOLEAN).function(variables -> {
                 ValueTypeString.ValueString search = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
@@ -526,6 +538,7 @@ public final class Operators {
      * String operator which splits on the given (literal) delimiter the input string .
      */
     public static final IOperator STRING_SPLIT_ON = REGISTRY.register(OperatorBuilders.STRING_2.symbolOperator("split_on").interactName("splitOn")
+            .pure()
         .output(ValueTypes.LIST).function(variables -> {
                 ValueTypeString.ValueString search = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
@@ -541,11 +554,12 @@ public final class Operators {
      * String operator which splits on the given (regular expression) delimiter the input string.
      */
     public static final IOperator STRING_SPLIT_ON_REGEX = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("split_on_regex").interactName("splitOnRegex")
+            .pure()
         .output(ValueTypes.LIST).function(variables -> {
                 ValueTypeString.ValueString pattern = variables.getValue(0, ValueTypes.STRING);
                 ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
                 try {
-                    List<String> pieces = Arrays.asList(Pattern.compile(pattern.getRawValue()).split(str.getRawValue()));
+                    List<String> pieces = Arrays.asList(CompiledSourceCache.REGEX.get(pattern.getRawValue()).split(str.getRawValue()));
                     List<ValueTypeString.ValueString> values = Lists.newArrayList();
                     for (String piece : pieces) {
                         values.add(ValueTypeString.ValueString.of(piece));
@@ -561,6 +575,7 @@ public final class Operators {
      * String operator which takes the substring of the given string between the two integer indices.
      */
     public static final IOperator STRING_SUBSTRING = REGISTRY.register(OperatorBuilders.STRING.symbolOperatorInteract("substring")
+            .pure()
         .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
         .inputTypes(ValueTypes.INTEGER, ValueTypes.INTEGER, ValueTypes.STRING)
         .output(ValueTypes.STRING)
@@ -586,6 +601,7 @@ public final class Operators {
      * String operator which matches against a regex and takes the group at the index of the integer given (including zero), in the input string. It is invalid for the pattern to not match.
      */
     public static final IOperator STRING_REGEX_GROUP = REGISTRY.register(OperatorBuilders.STRING.symbolOperator("regex_group").interactName("regexGroup")
+            .pure()
         .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
         .inputTypes(ValueTypes.STRING, ValueTypes.INTEGER, ValueTypes.STRING)
         .output(ValueTypes.STRING)
@@ -597,7 +613,7 @@ public final class Operators {
                 throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_GROUP_INDEXNEGATIVE));
             }
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                 if (m.find()) {
                     String result = m.group(group.getRawValue());
                     return ValueTypeString.ValueString.of(result == null ? "" : result);
@@ -619,12 +635,13 @@ public final class Operators {
      * String operator which matches against a regex the input string and returns a list containing all groups matched (including zero). An empty list is returned if the regex does not match.
      */
     public static final IOperator STRING_REGEX_GROUPS = REGISTRY.register(OperatorBuilders.STRING_2_LONG.symbolOperator("regex_groups").interactName("regexGroups")
+            .pure()
         .output(ValueTypes.LIST)
         .function(variables -> {
             ValueTypeString.ValueString pattern = variables.getValue(0, ValueTypes.STRING);
             ValueTypeString.ValueString str = variables.getValue(1, ValueTypes.STRING);
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                 if (m.find()) {
                     List<ValueTypeString.ValueString> values = Lists.newArrayList();
                     for (int i = 0; i <= m.groupCount(); i++) {
@@ -646,6 +663,7 @@ public final class Operators {
      * String operator which finds all matches of the regular expression in the given string and returns the given group for each match.
      */
     public static final IOperator STRING_REGEX_SCAN = REGISTRY.register(OperatorBuilders.STRING.symbolOperator("regex_scan").interactName("regexScan")
+            .pure()
         .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
         .inputTypes(ValueTypes.STRING, ValueTypes.INTEGER, ValueTypes.STRING)
         .output(ValueTypes.LIST)
@@ -657,7 +675,7 @@ public final class Operators {
                 throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_REGEXSCAN_INDEXNEGATIVE));
             }
             try {
-                Matcher m = Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue());
+                Matcher m = CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue());
                 List<ValueTypeString.ValueString> values = Lists.newArrayList();
                 while (m.find()) {
                     String match = m.group(group.getRawValue());
@@ -680,6 +698,7 @@ public final class Operators {
      * String operator which, finds all the matches of the (literal) search and replaces them with the given replacement, in the input string.
      */
     public static final IOperator STRING_REPLACE = REGISTRY.register(OperatorBuilders.STRING.symbolOperatorInteract("replace")
+            .pure()
         .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
         .inputTypes(3, ValueTypes.STRING)
         .output(ValueTypes.STRING)
@@ -695,6 +714,7 @@ public final class Operators {
      * String operator which, finds all the matches of the regular expression pattern and replaces them with the given replacement, in the input string.
      */
     public static final IOperator STRING_REPLACE_REGEX = REGISTRY.register(OperatorBuilders.STRING.symbolOperator("replace_regex").interactName("replaceRegex")
+            .pure()
         .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
         .inputTypes(3, ValueTypes.STRING)
         .output(ValueTypes.STRING)
@@ -703,7 +723,7 @@ public final class Operators {
             ValueTypeString.ValueString replacement = variables.getValue(1, ValueTypes.STRING);
             ValueTypeString.ValueString str = variables.getValue(2, ValueTypes.STRING);
             try {
-                return ValueTypeString.ValueString.of(Pattern.compile(pattern.getRawValue()).matcher(str.getRawValue()).replaceAll(replacement.getRawValue()));
+                return ValueTypeString.ValueString.of(CompiledSourceCache.REGEX.get(pattern.getRawValue()).matcher(str.getRawValue()).replaceAll(replacement.getRawValue()));
             } catch (PatternSyntaxException e) {
                 throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_REGEX_INVALID,
                         pattern.getRawValue()));
@@ -718,6 +738,7 @@ public final class Operators {
      * String operator to join a list using a string delimiter
      */
     public static final IOperator STRING_JOIN = REGISTRY.register(OperatorBuilders.STRING.symbolOperatorInteract("join")
+            .pure()
             .renderPattern(IConfigRenderPattern.PREFIX_2)
             .inputTypes(ValueTypes.STRING, ValueTypes.LIST)
             .output(ValueTypes.STRING)
@@ -931,6 +952,9 @@ public final class Operators {
                 ValueTypeList.ValueList valueList = variables.getValue(0, ValueTypes.LIST);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 IValue input = variables.getValue(1);
+                if (list instanceof IValueTypeListProxyIndexed indexed) {
+                    return ValueTypeBoolean.ValueBoolean.of(indexed.contains(input));
+                }
                 for (IValue value : list) {
                     if (value.equals(input)) {
                         return ValueTypeBoolean.ValueBoolean.of(true);
@@ -977,6 +1001,9 @@ public final class Operators {
                                 LIST_COUNT.getLocalizedNameFull()));
                     }
                     IValue value = variables.getValue(1);
+                    if (list instanceof IValueTypeListProxyIndexed indexed) {
+                        return ValueTypeInteger.ValueInteger.of(indexed.count(value));
+                    }
                     int count = 0;
                     for (IValue listValue : list) {
                         if (listValue.equals(value)) {
@@ -1005,6 +1032,16 @@ public final class Operators {
                     }
                     IOperator operator = OperatorBuilders.getSafePredictate(variables.getValue(1, ValueTypes.OPERATOR));
                     int count = 0;
+                    if (ParallelListEvaluator.canEvaluate(operator, list)) {
+                        IValue[] results = ParallelListEvaluator.apply(ParallelListEvaluator.toArray(list),
+                                ParallelListEvaluator.predicate(operator));
+                        for (IValue result : results) {
+                            if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
+                                count++;
+                            }
+                        }
+                        return ValueTypeInteger.ValueInteger.of(count);
+                    }
                     for (IValue listValue : list) {
                         IValue result = ValueHelpers.evaluateOperator(operator, listValue);
                         ValueHelpers.validatePredicateOutput(operator, result);
@@ -1033,6 +1070,9 @@ public final class Operators {
                             Component.translatable(a.getValueType().getTranslationKey()),
                             Component.translatable(value.getType().getTranslationKey())));
                 }
+                if (ValueTypeListProxyVector.shouldConvert(a)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyVector.of(a).append(value));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyAppend(a, value));
             }).build());
 
@@ -1054,6 +1094,10 @@ public final class Operators {
                             Component.translatable(a.getValueType().getTranslationKey()),
                             Component.translatable(b.getValueType().getTranslationKey())));
                 }
+                if ((ValueTypeListProxyVector.shouldConvert(a) || ValueTypeListProxyVector.shouldConvert(b))
+                        && ValueTypeListProxyVector.canConvert(a) && ValueTypeListProxyVector.canConvert(b)) {
+                    return ValueTypeList.ValueList.ofFactory(ValueTypeListProxyVector.of(a).concat(ValueTypeListProxyVector.of(b)));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyConcat(a, b));
             }).build());
 
@@ -1104,6 +1148,10 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeList.ValueList list = variables.getValue(0, ValueTypes.LIST);
                 IValueTypeListProxy a = list.getRawValue();
+                if (ValueTypeListProxyVector.shouldConvert(a)) {
+                    ValueTypeListProxyVector vector = ValueTypeListProxyVector.of(a);
+                    return ValueTypeList.ValueList.ofFactory(vector.slice(1, vector.getLength()));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyTail(a));
             }).build());
 
@@ -1119,6 +1167,18 @@ public final class Operators {
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
                 final IOperator operator = OperatorBuilders.getSafePredictate(variables.getValue(1, ValueTypes.OPERATOR));
                 List<IValue> values = new ArrayList<>();
+                IOperator.IEquivalenceKey equivalenceKey = operator.getEquivalenceKey();
+                if (equivalenceKey != null && (operator.getInputTypes()[0] == ValueTypes.CATEGORY_ANY
+                        || operator.getInputTypes()[0] == list.getValueType())) {
+                    // Deduplicate in O(n) by hashing the keys of known equivalence relations
+                    Set<Object> keys = new HashSet<>();
+                    for (IValue value : list) {
+                        if (keys.add(equivalenceKey.getKey(value))) {
+                            values.add(value);
+                        }
+                    }
+                    return ValueTypeList.ValueList.ofList(list.getValueType(), values);
+                }
                 outerLoop:
                 for(IValue value : list) {
                     for(IValue existing : values) {
@@ -1146,6 +1206,9 @@ public final class Operators {
             .function(variables -> {
                 ValueTypeList.ValueList valueList =variables.getValue(0, ValueTypes.LIST);
                 IValueTypeListProxy<IValueType<IValue>, IValue> list = valueList.getRawValue();
+                if (list instanceof IValueTypeListProxyIndexed indexed && indexed.isDistinct()) {
+                    return valueList;
+                }
                 return ValueTypeList.ValueList.ofList(list.getValueType(), new ArrayList<>(Sets.newLinkedHashSet(list)));
             }).build());
 
@@ -1167,6 +1230,15 @@ public final class Operators {
                 if (from.getRawValue() < 0 || to.getRawValue() < 0){
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_SLICE_INDEXNEGATIVE));
                 }
+                if (list instanceof ValueTypeListProxySlice<IValueType<IValue>, IValue> slice) {
+                    // Fuse nested slices into a single slice over the original list
+                    int fusedFrom = (int) Math.min(Integer.MAX_VALUE, (long) slice.getFrom() + from.getRawValue());
+                    int fusedTo = (int) Math.min(slice.getTo(), (long) slice.getFrom() + to.getRawValue());
+                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(slice.getList(), fusedFrom, fusedTo));
+                }
+                if (list instanceof ValueTypeListProxyVector<IValueType<IValue>, IValue> vector) {
+                    return ValueTypeList.ValueList.ofFactory(vector.slice(from.getRawValue(), to.getRawValue()));
+                }
                 return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxySlice<>(list, from.getRawValue(), to.getRawValue()));
             }).build());
 
@@ -1184,7 +1256,11 @@ public final class Operators {
                                 LIST_INTERSECTION.getLocalizedNameFull()));
                     }
                     LinkedHashSet<IValue> result = Sets.newLinkedHashSet(rawList1);
-                    result.retainAll(Sets.newLinkedHashSet(rawList2));
+                    if (rawList2 instanceof IValueTypeListProxyIndexed indexed2) {
+                        result.removeIf(value -> !indexed2.contains(value));
+                    } else {
+                        result.retainAll(Sets.newLinkedHashSet(rawList2));
+                    }
 
                     return ValueTypeList.ValueList.ofList(rawList1.getValueType(), result.stream().toList());
                 }
@@ -1372,6 +1448,7 @@ public final class Operators {
      * Item Stack size operator with one input itemstack and one output integer.
      */
     public static final IOperator OBJECT_ITEMSTACK_SIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperator("size").interactName("size")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
                 itemStack -> !itemStack.isEmpty() ? itemStack.getCount() : 0
@@ -1381,6 +1458,7 @@ public final class Operators {
      * Item Stack maxsize operator with one input itemstack and one output integer.
      */
     public static final IOperator OBJECT_ITEMSTACK_MAXSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperator("maxsize").interactName("maxSize")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
                 itemStack -> !itemStack.isEmpty() ? itemStack.getMaxStackSize() : 0
@@ -1390,6 +1468,7 @@ public final class Operators {
      * Item Stack isstackable operator with one input itemstack and one output boolean.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISSTACKABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("stackable").interactName("isStackable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
                 itemStack -> !itemStack.isEmpty() && itemStack.isStackable()
@@ -1399,6 +1478,7 @@ public final class Operators {
      * Item Stack isdamageable operator with one input itemstack and one output boolean.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISDAMAGEABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("damageable").interactName("isDamageable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
                 itemStack -> !itemStack.isEmpty() && itemStack.isDamageableItem()
@@ -1408,6 +1488,7 @@ public final class Operators {
      * Item Stack damage operator with one input itemstack and one output integer.
      */
     public static final IOperator OBJECT_ITEMSTACK_DAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperator("damage").interactName("damage")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
                 itemStack -> !itemStack.isEmpty() ? itemStack.getDamageValue() : 0
@@ -1417,6 +1498,7 @@ public final class Operators {
      * Item Stack maxdamage operator with one input itemstack and one output integer.
      */
     public static final IOperator OBJECT_ITEMSTACK_MAXDAMAGE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbol("max_damage").operatorName("maxdamage").interactName("maxDamage")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
                 itemStack -> !itemStack.isEmpty() ? itemStack.getMaxDamage() : 0
@@ -1426,6 +1508,7 @@ public final class Operators {
      * Item Stack isenchanted operator with one input itemstack and one output boolean.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISENCHANTED = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("enchanted").interactName("isEnchanted")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
                 itemStack -> !itemStack.isEmpty() && itemStack.isEnchanted()
@@ -1435,6 +1518,7 @@ public final class Operators {
      * Item Stack isenchantable operator with one input itemstack and one output boolean.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISENCHANTABLE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("enchantable").interactName("isEnchantable")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
                 itemStack -> !itemStack.isEmpty() && itemStack.isEnchantable()
@@ -1444,6 +1528,7 @@ public final class Operators {
      * Item Stack repair cost with one input itemstack and one output integer.
      */
     public static final IOperator OBJECT_ITEMSTACK_REPAIRCOST = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER)
             .symbol("repair_cost").operatorName("repaircost").interactName("repairCost")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
@@ -1454,6 +1539,7 @@ public final class Operators {
      * Get the rarity of an itemstack.
      */
     public static final IOperator OBJECT_ITEMSTACK_RARITY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).symbolOperatorInteract("rarity")
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack a = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -1488,6 +1574,7 @@ public final class Operators {
      * The block from the stack
      */
     public static final IOperator OBJECT_ITEMSTACK_BLOCK = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperatorInteract("block")
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack a = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -1498,6 +1585,7 @@ public final class Operators {
      * If the given stack has a fluid.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISFLUIDSTACK = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN)
             .symbol("is_fluidstack").operatorName("isfluidstack").interactName("isFluidStack")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
@@ -1508,6 +1596,7 @@ public final class Operators {
      * The fluidstack from the stack
      */
     public static final IOperator OBJECT_ITEMSTACK_FLUIDSTACK = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.OBJECT_FLUIDSTACK).symbolOperator("fluidstack").interactName("fluidStack")
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack a = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -1518,6 +1607,7 @@ public final class Operators {
      * The capacity of the fluidstack from the stack.
      */
     public static final IOperator OBJECT_ITEMSTACK_FLUIDSTACKCAPACITY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER)
             .symbol("fluidstack_capacity").operatorName("fluidstackcapacity").interactName("fluidCapacity")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_INT.build(
@@ -1528,6 +1618,7 @@ public final class Operators {
      * If the data components of the given stacks are equal.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISDATAEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+            .pure()
             .output(ValueTypes.BOOLEAN).symbol("=NBT=").operatorName("isnbtequal").interactName("isNbtEqual")
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack valueStack0 = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -1547,7 +1638,12 @@ public final class Operators {
      * If the raw items of the given stacks are equal, ignoring data components but including damage value.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISITEMEQUALNODATA = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+            .pure()
             .output(ValueTypes.BOOLEAN).symbol("=NoNBT=").operatorName("isitemequalnonbt").interactName("isEqualNonNbt")
+            .equivalence(value -> {
+                ItemStack stack = ((ValueObjectTypeItemStack.ValueItemStack) value).getRawValue();
+                return stack.isEmpty() ? Items.AIR : stack.getItem();
+            })
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack valueStack0 = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
                 ValueObjectTypeItemStack.ValueItemStack valueStack1 = variables.getValue(1, ValueTypes.OBJECT_ITEMSTACK);
@@ -1566,7 +1662,12 @@ public final class Operators {
      * If the raw items of the given stacks are equal, ignoring data components and damage value.
      */
     public static final IOperator OBJECT_ITEMSTACK_ISRAWITEMEQUAL = REGISTRY.register(OperatorBuilders.ITEMSTACK_2
+            .pure()
             .output(ValueTypes.BOOLEAN).symbol("=Raw=").operatorName("israwitemequal").interactName("isEqualRaw")
+            .equivalence(value -> {
+                ItemStack stack = ((ValueObjectTypeItemStack.ValueItemStack) value).getRawValue();
+                return stack.isEmpty() ? Items.AIR : stack.getItem();
+            })
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack valueStack0 = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
                 ValueObjectTypeItemStack.ValueItemStack valueStack1 = variables.getValue(1, ValueTypes.OBJECT_ITEMSTACK);
@@ -1585,6 +1686,7 @@ public final class Operators {
      * The name of the mod owning this item
      */
     public static final IOperator OBJECT_ITEMSTACK_MODNAME = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG.output(ValueTypes.STRING)
+            .pure()
             .symbolOperatorInteract("mod")
             .function(new IterativeFunction(Lists.newArrayList(
                     (OperatorBase.SafeVariablesGetter variables) -> {
@@ -1663,6 +1765,7 @@ public final class Operators {
      * ItemStack operator that applies the given stacksize to the given itemstack and creates a new ItemStack.
      */
     public static final IOperator OBJECT_ITEMSTACK_WITHSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_INTEGER_1
+            .pure()
             .output(ValueTypes.OBJECT_ITEMSTACK)
             .symbol("with_size").operatorName("withsize").interactName("withSize")
             .function(variables -> {
@@ -1711,6 +1814,7 @@ public final class Operators {
      * If the given item has an inventory.
      */
     public static final IOperator OBJECT_ITEMSTACK_HASINVENTORY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN)
             .symbol("has_inventory").operatorName("hasinventory").interactName("hasInventory")
             .function(variables -> {
@@ -1725,6 +1829,7 @@ public final class Operators {
      * Retrieve the inventory size of the given item handler contents.
      */
     public static final IOperator OBJECT_ITEMSTACK_INVENTORYSIZE = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER)
             .symbol("inventory_size").operatorName("inventorysize").interactName("inventorySize")
             .function(variables -> {
@@ -1737,6 +1842,7 @@ public final class Operators {
      * Retrieve the inventory of the given item handler contents.
      */
     public static final IOperator OBJECT_ITEMSTACK_INVENTORY = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).symbolOperator("inventory").interactName("inventory")
             .function(variables -> {
                 ValueObjectTypeItemStack.ValueItemStack a = variables.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -1755,6 +1861,7 @@ public final class Operators {
      * Get an item by name.
      */
     public static final IOperator OBJECT_ITEMSTACK_BY_NAME = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.STRING).output(ValueTypes.OBJECT_ITEMSTACK)
             .symbol("item_by_name").operatorName("itembyname").interactName("itemByName")
             .function(OperatorBuilders.FUNCTION_STRING_TO_RESOURCE_LOCATION
@@ -1771,6 +1878,7 @@ public final class Operators {
      * Get the total item count of the given item in a list.
      */
     public static final IOperator OBJECT_ITEMSTACK_LIST_COUNT = REGISTRY.register(OperatorBuilders.ITEMSTACK_2_LONG
+            .pure()
             .inputTypes(ValueTypes.LIST, ValueTypes.OBJECT_ITEMSTACK)
             .output(ValueTypes.INTEGER)
             .symbol("item_list_count").operatorName("itemlistcount").interactName("itemListCount")
@@ -1823,6 +1931,7 @@ public final class Operators {
      * Item Stack has_nbt operator with one input itemstack and one output boolean.
      */
     public static final IOperator OBJECT_ITEMSTACK_HASDATA = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_PREFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbol("has_nbt").operatorName("hasnbt").interactName("hasNbt")
             .function(OperatorBuilders.FUNCTION_ITEMSTACK_TO_BOOLEAN.build(
                     itemStack -> !itemStack.isEmpty() && itemStack.getComponents().stream().anyMatch(t -> !t.type().isTransient())
@@ -1832,6 +1941,7 @@ public final class Operators {
      * Get the data component keys of an itemstack.
      */
     public static final IOperator OBJECT_ITEMSTACK_DATA_KEYS = REGISTRY.register(OperatorBuilders.ITEMSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).symbol("data_keys").operatorName("datakeys").interactName("dataKeys")
             .function(input -> {
                 ValueObjectTypeItemStack.ValueItemStack itemStack = input.getValue(0, ValueTypes.OBJECT_ITEMSTACK);
@@ -2458,6 +2568,7 @@ public final class Operators {
      * The amount of fluid in the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_AMOUNT = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperatorInteract("amount")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(
                     FluidStack::getAmount
@@ -2467,6 +2578,7 @@ public final class Operators {
      * The block from the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_BLOCK = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.OBJECT_BLOCK).symbolOperatorInteract("block")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2478,6 +2590,7 @@ public final class Operators {
      * The fluidstack luminosity
      */
     public static final IOperator OBJECT_FLUIDSTACK_LIGHT_LEVEL = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperator("light_level").interactName("lightLevel")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(
                 fluidStack -> fluidStack.getFluid().getFluidType().getLightLevel(fluidStack)
@@ -2487,6 +2600,7 @@ public final class Operators {
      * The fluidstack density
      */
     public static final IOperator OBJECT_FLUIDSTACK_DENSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperatorInteract("density")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(
                 fluidStack -> fluidStack.getFluid().getFluidType().getDensity(fluidStack)
@@ -2496,6 +2610,7 @@ public final class Operators {
      * The fluidstack temperature
      */
     public static final IOperator OBJECT_FLUIDSTACK_TEMPERATURE = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperatorInteract("temperature")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(
                     fluidStack -> fluidStack.getFluid().getFluidType().getTemperature(fluidStack)
@@ -2505,6 +2620,7 @@ public final class Operators {
      * The fluidstack viscosity
      */
     public static final IOperator OBJECT_FLUIDSTACK_VISCOSITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).symbolOperatorInteract("viscosity")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_INT.build(
                 fluidStack -> fluidStack.getFluid().getFluidType().getViscosity(fluidStack)
@@ -2514,6 +2630,7 @@ public final class Operators {
      * If the fluidstack is gaseous
      */
     public static final IOperator OBJECT_FLUIDSTACK_IS_LIGHTER_THAN_AIR = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).symbolOperator("lighter_than_air").interactName("isLighterThanAir")
             .function(OperatorBuilders.FUNCTION_FLUIDSTACK_TO_BOOLEAN.build(
                 fluidStack -> fluidStack.getFluid().getFluidType().isLighterThanAir()
@@ -2523,6 +2640,7 @@ public final class Operators {
      * The rarity of the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_RARITY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).symbolOperatorInteract("rarity")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2534,6 +2652,7 @@ public final class Operators {
      * The bucket empty sound of the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_SOUND_BUCKET_EMPTY = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).symbolOperator("sound_bucket_empty").interactName("bucketEmptySound")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2547,6 +2666,7 @@ public final class Operators {
      * The fluid vaporize sound of the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_SOUND_FLUID_VAPORIZE = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).symbolOperator("sound_fluid_vaporize").interactName("fluidVaporizeSound")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2560,6 +2680,7 @@ public final class Operators {
      * The bucket fill sound of the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_SOUND_BUCKET_FILL = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).symbolOperator("sound_bucket_fill").interactName("bucketFillSound")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2573,6 +2694,7 @@ public final class Operators {
      * The bucket of the fluidstack
      */
     public static final IOperator OBJECT_FLUIDSTACK_BUCKET = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.OBJECT_ITEMSTACK).symbolOperatorInteract("bucket")
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2584,7 +2706,9 @@ public final class Operators {
      * If the fluid types of the two given fluidstacks are equal
      */
     public static final IOperator OBJECT_FLUIDSTACK_ISRAWFLUIDEQUAL = REGISTRY.register(OperatorBuilders.FLUIDSTACK_2
+            .pure()
             .output(ValueTypes.BOOLEAN).symbol("=Raw=").operatorName("israwfluidequal").interactName("isRawEqual")
+            .equivalence(value -> ((ValueObjectTypeFluidStack.ValueFluidStack) value).getRawValue().getFluid())
             .function(variables -> {
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack0 = variables.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
                 ValueObjectTypeFluidStack.ValueFluidStack valueFluidStack1 = variables.getValue(1, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2595,6 +2719,7 @@ public final class Operators {
      * The name of the mod owning this fluid
      */
     public static final IOperator OBJECT_FLUIDSTACK_MODNAME = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG.output(ValueTypes.STRING)
+            .pure()
             .symbolOperatorInteract("mod")
             .function(new IterativeFunction(Lists.newArrayList(
                     (OperatorBase.SafeVariablesGetter variables) -> {
@@ -2621,6 +2746,7 @@ public final class Operators {
      * Create a new fluidstack with the given amount.
      */
     public static final IOperator OBJECT_FLUIDSTACK_WITH_AMOUNT = REGISTRY.register(OperatorBuilders.FLUIDSTACK_2
+            .pure()
             .inputTypes(ValueTypes.OBJECT_FLUIDSTACK, ValueTypes.INTEGER)
             .output(ValueTypes.OBJECT_FLUIDSTACK).symbolOperator("with_amount").interactName("withAmount")
             .function(variables -> {
@@ -2635,6 +2761,7 @@ public final class Operators {
      * Get the data component keys of an fluidstack.
      */
     public static final IOperator OBJECT_FLUIDSTACK_DATA_KEYS = REGISTRY.register(OperatorBuilders.FLUIDSTACK_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).symbol("data_keys").operatorName("datakeys").interactName("dataKeys")
             .function(input -> {
                 ValueObjectTypeFluidStack.ValueFluidStack fluidStack = input.getValue(0, ValueTypes.OBJECT_FLUIDSTACK);
@@ -2731,7 +2858,7 @@ public final class Operators {
                         IOperator innerOperator = input.getLeft();
                         OperatorBase.SafeVariablesGetter variables = input.getRight();
                         IVariable variable = variables.getVariables()[0];
-                        return ValueHelpers.evaluateOperator(innerOperator, variable);
+                        return EvaluationContext.tailCall(innerOperator, variable);
                     })).build());
     static {
         REGISTRY.registerSerializer(new CurriedOperator.Serializer());
@@ -2752,7 +2879,7 @@ public final class Operators {
                         OperatorBase.SafeVariablesGetter variables = input.getRight();
                         IVariable variable0 = variables.getVariables()[0];
                         IVariable variable1 = variables.getVariables()[1];
-                        return ValueHelpers.evaluateOperator(innerOperator, variable0, variable1);
+                        return EvaluationContext.tailCall(innerOperator, variable0, variable1);
                     })).build());
 
     /**
@@ -2771,7 +2898,7 @@ public final class Operators {
                         IVariable variable0 = variables.getVariables()[0];
                         IVariable variable1 = variables.getVariables()[1];
                         IVariable variable2 = variables.getVariables()[2];
-                        return ValueHelpers.evaluateOperator(innerOperator, variable0, variable1, variable2);
+                        return EvaluationContext.tailCall(innerOperator, variable0, variable1, variable2);
                     })).build());
 
     /**
@@ -2787,7 +2914,7 @@ public final class Operators {
                         IOperator innerOperator = input.getLeft();
                         OperatorBase.SafeVariablesGetter variables = input.getRight();
                         IValueTypeListProxy<IValueType<IValue>, IValue> list = variables.getValue(0, ValueTypes.LIST).getRawValue();
-                        return ValueHelpers.evaluateOperator(innerOperator, Iterables.toArray(list, IValue.class));
+                        return EvaluationContext.tailCall(innerOperator, Iterables.toArray(list, IValue.class));
                     })).build());
 
     /**
@@ -2800,7 +2927,7 @@ public final class Operators {
             .function(OperatorBuilders.FUNCTION_OPERATOR_TAKE_OPERATOR.build(
                     input -> {
                         IOperator innerOperator = input.getLeft();
-                        return ValueHelpers.evaluateOperator(innerOperator, new IVariable[0]);
+                        return EvaluationContext.tailCall(innerOperator, new IVariable[0]);
                     })).build());
 
     /**
@@ -2832,6 +2959,17 @@ public final class Operators {
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
                             ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0, ValueTypes.LIST);
                             List<IValue> filtered = Lists.newArrayList();
+                            if (ParallelListEvaluator.canEvaluate(innerOperator, inputList.getRawValue())) {
+                                IValue[] elements = ParallelListEvaluator.toArray(inputList.getRawValue());
+                                IValue[] results = ParallelListEvaluator.apply(elements, ParallelListEvaluator.predicate(innerOperator));
+                                for (int i = 0; i < elements.length; i++) {
+                                    if (((ValueTypeBoolean.ValueBoolean) results[i]).getRawValue()) {
+                                        filtered.add(elements[i]);
+                                    }
+                                }
+                                IValueType valueType = inputList.getRawValue().getValueType();
+                                return ValueTypeList.ValueList.ofList(valueType, filtered);
+                            }
                             for (IValue value : inputList.getRawValue()) {
                                 IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
                                 ValueHelpers.validatePredicateOutput(innerOperator, result);
@@ -2938,6 +3076,10 @@ public final class Operators {
                 final IOperator innerOperator = OperatorBuilders.getSafeOperator(
                         variables.getValue(0, ValueTypes.OPERATOR), accumulator.getType());
                 ValueTypeList.ValueList<IValueType<IValue>, IValue> inputList = variables.getValue(1, ValueTypes.LIST);
+                if (ParallelListEvaluator.canReduce(innerOperator, inputList.getRawValue(), accumulator.getType())) {
+                    IValue reduced = ParallelListEvaluator.reduce(innerOperator, ParallelListEvaluator.toArray(inputList.getRawValue()));
+                    return ValueHelpers.evaluateOperator(innerOperator, accumulator, reduced);
+                }
                 for (IValue listValue : inputList.getRawValue()) {
                     accumulator = ValueHelpers.evaluateOperator(innerOperator, accumulator, listValue);
                 }
@@ -2969,6 +3111,9 @@ public final class Operators {
                 IValue accumulator = iter.next();
                 final IOperator innerOperator = OperatorBuilders.getSafeOperator(
                         variables.getValue(0, ValueTypes.OPERATOR), accumulator.getType());
+                if (ParallelListEvaluator.canReduce(innerOperator, valueList.getRawValue(), accumulator.getType())) {
+                    return ParallelListEvaluator.reduce(innerOperator, ParallelListEvaluator.toArray(valueList.getRawValue()));
+                }
 
                 while (iter.hasNext()) {
                     IValue listValue = iter.next();
@@ -3006,6 +3151,7 @@ public final class Operators {
      * The number of entries in an NBT tag
      */
     public static final IOperator NBT_COMPOUND_SIZE = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).operatorName("compound_size").symbol("NBT{}.size").interactName("size")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_TO_INT.build(
                 opt -> opt.map(CompoundTag::size).orElse(0)
@@ -3015,6 +3161,7 @@ public final class Operators {
      * The list of keys in an NBT tag
      */
     public static final IOperator NBT_COMPOUND_KEYS = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).operatorName("compound_keys").symbol("NBT{}.keys").interactName("keys")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3025,6 +3172,7 @@ public final class Operators {
      * If an NBT tag has the given key
      */
     public static final IOperator NBT_COMPOUND_HASKEY = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.BOOLEAN).operatorName("compound_haskey").symbol("NBT{}.has_key").interactName("hasKey")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_BOOLEAN.build(
                     Optional::isPresent
@@ -3034,6 +3182,7 @@ public final class Operators {
      * The NBT value type of an entry
      */
     public static final IOperator NBT_COMPOUND_VALUE_TYPE = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.STRING).operatorName("compound_type").symbol("NBT{}.type").interactName("type")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_STRING.build(tag -> {
                 if (tag.isPresent()) {
@@ -3050,6 +3199,7 @@ public final class Operators {
      * The NBT tag value
      */
     public static final IOperator NBT_COMPOUND_VALUE_TAG = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_value_tag").symbol("NBT{}.get_tag").interactName("getTag")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_NBT.build(o -> o)).build());
 
@@ -3057,6 +3207,7 @@ public final class Operators {
      * The NBT boolean value
      */
     public static final IOperator NBT_COMPOUND_VALUE_BOOLEAN = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.BOOLEAN).operatorName("compound_value_boolean").symbol("NBT{}.get_boolean").interactName("getBoolean")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_BOOLEAN.build(
                     o -> o.map(tag -> tag instanceof NumericTag && ((NumericTag) tag).getAsByte() != 0).orElse(false)
@@ -3066,6 +3217,7 @@ public final class Operators {
      * The NBT integer value
      */
     public static final IOperator NBT_COMPOUND_VALUE_INTEGER = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.INTEGER).operatorName("compound_value_integer").symbol("NBT{}.get_integer").interactName("getInteger")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_INT.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsInt() : 0).orElse(0)
@@ -3075,6 +3227,7 @@ public final class Operators {
      * The NBT long value
      */
     public static final IOperator NBT_COMPOUND_VALUE_LONG = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.LONG).operatorName("compound_value_long").symbol("NBT{}.get_long").interactName("getLong")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_LONG.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsLong() : 0).orElse(0L)
@@ -3084,6 +3237,7 @@ public final class Operators {
      * The NBT double value
      */
     public static final IOperator NBT_COMPOUND_VALUE_DOUBLE = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.DOUBLE).operatorName("compound_value_double").symbol("NBT{}.get_double").interactName("getDouble")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_DOUBLE.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsDouble() : 0).orElse(0D)
@@ -3093,6 +3247,7 @@ public final class Operators {
      * The NBT string value
      */
     public static final IOperator NBT_COMPOUND_VALUE_STRING = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.STRING).operatorName("compound_value_string").symbol("NBT{}.get_string").interactName("getString")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_STRING.build(
                     o -> o.map(tag -> tag instanceof StringTag ? tag.getAsString() : "").orElse("")
@@ -3102,6 +3257,7 @@ public final class Operators {
      * The NBT compound value
      */
     public static final IOperator NBT_COMPOUND_VALUE_COMPOUND = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_value_compound").symbol("NBT{}.get_compound").interactName("getCompound")
             .function(OperatorBuilders.FUNCTION_NBT_COMPOUND_ENTRY_TO_NBT.build(
                     o -> o.map(tag -> tag instanceof CompoundTag ? (CompoundTag) tag : new CompoundTag())
@@ -3111,6 +3267,7 @@ public final class Operators {
      * The NBT tag list value
      */
     public static final IOperator NBT_COMPOUND_VALUE_LIST_TAG = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.LIST).operatorName("compound_value_list_tag").symbol("NBT{}.get_list_tag").interactName("getListTag")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3122,6 +3279,7 @@ public final class Operators {
      * The NBT boolean list value
      */
     public static final IOperator NBT_COMPOUND_VALUE_LIST_BYTE = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.LIST).operatorName("compound_value_list_byte").symbol("NBT{}.get_list_byte").interactName("getListByte")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3133,6 +3291,7 @@ public final class Operators {
      * The NBT int list value
      */
     public static final IOperator NBT_COMPOUND_VALUE_LIST_INT = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.LIST).operatorName("compound_value_list_int").symbol("NBT{}.get_list_int").interactName("getListInt")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3144,6 +3303,7 @@ public final class Operators {
      * The NBT long list value
      */
     public static final IOperator NBT_COMPOUND_VALUE_LIST_LONG = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.LIST).operatorName("compound_value_list_long").symbol("NBT{}.get_list_long").interactName("getListLong")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3155,6 +3315,7 @@ public final class Operators {
      * Remove an entry from an NBT compound
      */
     public static final IOperator NBT_COMPOUND_WITHOUT = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_without").symbol("NBT{}.without").interactName("without")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt valueNbt = variables.getValue(0, ValueTypes.NBT);
@@ -3168,7 +3329,7 @@ public final class Operators {
                     CompoundTag tagCompound = (CompoundTag) tag.get();
                     if (tagCompound.contains(key)) {
                         // Copy the tag to ensure immutability
-                        tagCompound = tagCompound.copy();
+                        tagCompound = NbtHelpers.copyShallow(tagCompound);
                         tagCompound.remove(key);
                     }
                     return ValueTypeNbt.ValueNbt.of(tagCompound);
@@ -3182,6 +3343,7 @@ public final class Operators {
      * Set an NBT compound boolean value
      */
     public static final IOperator NBT_COMPOUND_WITH_BOOLEAN = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .renderPattern(IConfigRenderPattern.INFIX_2_VERYLONG)
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.BOOLEAN)
             .operatorName("compound_with_boolean").symbol("NBT{}.with_boolean").interactName("withBoolean")
@@ -3195,6 +3357,7 @@ public final class Operators {
      * Set an NBT compound short value
      */
     public static final IOperator NBT_COMPOUND_WITH_SHORT = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.INTEGER)
             .operatorName("compound_with_short").symbol("NBT{}.with_short").interactName("withShort")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3207,6 +3370,7 @@ public final class Operators {
      * Set an NBT compound integer value
      */
     public static final IOperator NBT_COMPOUND_WITH_INTEGER = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.INTEGER)
             .operatorName("compound_with_integer").symbol("NBT{}.with_integer").interactName("withInteger")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3219,6 +3383,7 @@ public final class Operators {
      * Set an NBT compound long value
      */
     public static final IOperator NBT_COMPOUND_WITH_LONG = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.LONG)
             .operatorName("compound_with_long").symbol("NBT{}.with_long").interactName("withLong")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3231,6 +3396,7 @@ public final class Operators {
      * Set an NBT compound double value
      */
     public static final IOperator NBT_COMPOUND_WITH_DOUBLE = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.DOUBLE)
             .operatorName("compound_with_double").symbol("NBT{}.with_double").interactName("withDouble")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3243,6 +3409,7 @@ public final class Operators {
      * Set an NBT compound float value
      */
     public static final IOperator NBT_COMPOUND_WITH_FLOAT = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.DOUBLE)
             .operatorName("compound_with_float").symbol("NBT{}.with_float").interactName("withFloat")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3255,6 +3422,7 @@ public final class Operators {
      * Set an NBT compound string value
      */
     public static final IOperator NBT_COMPOUND_WITH_STRING = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.STRING)
             .operatorName("compound_with_string").symbol("NBT{}.with_string").interactName("withString")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3267,6 +3435,7 @@ public final class Operators {
      * Set an NBT compound compound value
      */
     public static final IOperator NBT_COMPOUND_WITH_COMPOUND = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.NBT)
             .operatorName("compound_with_tag").symbol("NBT{}.with_tag").interactName("withTag")
             .function(OperatorBuilders.FUNCTION_NBT_COPY_FOR_VALUE_TO_NBT.build(input -> {
@@ -3281,6 +3450,7 @@ public final class Operators {
      * Set an NBT compound tag list value
      */
     public static final IOperator NBT_COMPOUND_WITH_LIST_TAG = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .renderPattern(IConfigRenderPattern.INFIX_2_VERYLONG)
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.LIST)
             .operatorName("compound_with_list_tag").symbol("NBT{}.with_tag_list").interactName("withTagList")
@@ -3298,6 +3468,7 @@ public final class Operators {
      * Set an NBT compound byte list value
      */
     public static final IOperator NBT_COMPOUND_WITH_LIST_BYTE = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .renderPattern(IConfigRenderPattern.INFIX_2_VERYLONG)
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.LIST)
             .operatorName("compound_with_list_byte").symbol("NBT{}.with_byte_list").interactName("withByteList")
@@ -3315,6 +3486,7 @@ public final class Operators {
      * Set an NBT compound int list value
      */
     public static final IOperator NBT_COMPOUND_WITH_LIST_INT = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .renderPattern(IConfigRenderPattern.INFIX_2_VERYLONG)
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.LIST)
             .operatorName("compound_with_list_int").symbol("NBT{}.with_int_list").interactName("withIntList")
@@ -3332,6 +3504,7 @@ public final class Operators {
      * Set an NBT compound long list value
      */
     public static final IOperator NBT_COMPOUND_WITH_LIST_LONG = REGISTRY.register(OperatorBuilders.NBT_3
+            .pure()
             .renderPattern(IConfigRenderPattern.INFIX_2_VERYLONG)
             .inputTypes(ValueTypes.NBT, ValueTypes.STRING, ValueTypes.LIST)
             .operatorName("compound_with_list_long").symbol("NBT{}.with_list_long").interactName("withListLong")
@@ -3349,6 +3522,7 @@ public final class Operators {
      * Check if the first NBT compound tag is a subset of the second NBT compound tag.
      */
     public static final IOperator NBT_COMPOUND_SUBSET = REGISTRY.register(OperatorBuilders.NBT_2_NBT
+            .pure()
             .output(ValueTypes.BOOLEAN).operatorName("compound_subset").symbol("NBT{}.⊆").interactName("isSubset")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt valueNbt0 = variables.getValue(0, ValueTypes.NBT);
@@ -3366,6 +3540,7 @@ public final class Operators {
      * The union of the given NBT compound tags. Nested tags will be joined recusively.
      */
     public static final IOperator NBT_COMPOUND_UNION = REGISTRY.register(OperatorBuilders.NBT_2_NBT
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_union").symbol("NBT{}.∪").interactName("union")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt valueNbt0 = variables.getValue(0, ValueTypes.NBT);
@@ -3383,6 +3558,7 @@ public final class Operators {
      * The intersection of the given NBT compound tags. Nested tags will be intersected recusively.
      */
     public static final IOperator NBT_COMPOUND_INTERSECTION = REGISTRY.register(OperatorBuilders.NBT_2_NBT
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_intersection").symbol("NBT{}.∩").interactName("intersection")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt valueNbt0 = variables.getValue(0, ValueTypes.NBT);
@@ -3400,6 +3576,7 @@ public final class Operators {
      * The difference of the given NBT compound tags. Nested tags will be subtracted recusively.
      */
     public static final IOperator NBT_COMPOUND_MINUS = REGISTRY.register(OperatorBuilders.NBT_2_NBT
+            .pure()
             .output(ValueTypes.NBT).operatorName("compound_minus").symbol("NBT{}.∖").interactName("minus")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt valueNbt0 = variables.getValue(0, ValueTypes.NBT);
@@ -3417,6 +3594,7 @@ public final class Operators {
      * The boolean value of an NBT value
      */
     public static final IOperator NBT_AS_BOOLEAN = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.BOOLEAN).operatorName("as_boolean").symbol("NBT.as_boolean").interactName("asBoolean")
             .function(OperatorBuilders.FUNCTION_NBT_TO_BOOLEAN.build(
                     o -> o.map(tag -> tag instanceof ByteTag && ((ByteTag) tag).getAsByte() != 0).orElse(false)
@@ -3426,6 +3604,7 @@ public final class Operators {
      * The byte value of an NBT value
      */
     public static final IOperator NBT_AS_BYTE = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).operatorName("as_byte").symbol("NBT.as_byte").interactName("asByte")
             .function(OperatorBuilders.FUNCTION_NBT_TO_INT.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsInt() : 0).orElse(0)
@@ -3435,6 +3614,7 @@ public final class Operators {
      * The short value of an NBT value
      */
     public static final IOperator NBT_AS_SHORT = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).operatorName("as_short").symbol("NBT.as_short").interactName("asShort")
             .function(OperatorBuilders.FUNCTION_NBT_TO_INT.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsInt() : 0).orElse(0)
@@ -3444,6 +3624,7 @@ public final class Operators {
      * The int value of an NBT value
      */
     public static final IOperator NBT_AS_INT = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.INTEGER).operatorName("as_int").symbol("NBT.as_int").interactName("asInt")
             .function(OperatorBuilders.FUNCTION_NBT_TO_INT.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsInt() : 0).orElse(0)
@@ -3453,6 +3634,7 @@ public final class Operators {
      * The long value of an NBT value
      */
     public static final IOperator NBT_AS_LONG = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LONG).operatorName("as_long").symbol("NBT.as_long").interactName("asLong")
             .function(OperatorBuilders.FUNCTION_NBT_TO_LONG.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsLong() : 0L).orElse(0L)
@@ -3462,6 +3644,7 @@ public final class Operators {
      * The double value of an NBT value
      */
     public static final IOperator NBT_AS_DOUBLE = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.DOUBLE).operatorName("as_double").symbol("NBT.as_double").interactName("asDouble")
             .function(OperatorBuilders.FUNCTION_NBT_TO_DOUBLE.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsDouble() : 0D).orElse(0D)
@@ -3471,6 +3654,7 @@ public final class Operators {
      * The float value of an NBT value
      */
     public static final IOperator NBT_AS_FLOAT = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.DOUBLE).operatorName("as_float").symbol("NBT.as_float").interactName("asFloat")
             .function(OperatorBuilders.FUNCTION_NBT_TO_DOUBLE.build(
                     o -> o.map(tag -> tag instanceof NumericTag ? ((NumericTag) tag).getAsFloat() : 0D).orElse(0D)
@@ -3480,6 +3664,7 @@ public final class Operators {
      * The string value of an NBT value
      */
     public static final IOperator NBT_AS_STRING = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.STRING).operatorName("as_string").symbol("NBT.as_string").interactName("asString")
             .function(OperatorBuilders.FUNCTION_NBT_TO_STRING.build(
                     o -> o.map(tag -> tag instanceof StringTag ? ((StringTag) tag).getAsString() : "").orElse("")
@@ -3489,6 +3674,7 @@ public final class Operators {
      * The tag list value of an NBT value
      */
     public static final IOperator NBT_AS_TAG_LIST = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).operatorName("as_tag_list").symbol("NBT.as_tag_list").interactName("asTagList")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3499,6 +3685,7 @@ public final class Operators {
      * The byte list value of an NBT value
      */
     public static final IOperator NBT_AS_BYTE_LIST = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).operatorName("as_byte_list").symbol("NBT.as_byte_list").interactName("asByteList")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3509,6 +3696,7 @@ public final class Operators {
      * The int list value of an NBT value
      */
     public static final IOperator NBT_AS_INT_LIST = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).operatorName("as_int_list").symbol("NBT.as_int_list").interactName("asIntList")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3519,6 +3707,7 @@ public final class Operators {
      * The long list value of an NBT value
      */
     public static final IOperator NBT_AS_LONG_LIST = REGISTRY.register(OperatorBuilders.NBT_1_SUFFIX_LONG
+            .pure()
             .output(ValueTypes.LIST).operatorName("as_long_list").symbol("NBT.as_long_list").interactName("asLongList")
             .function(variables -> {
                 ValueTypeNbt.ValueNbt value = variables.getValue(0, ValueTypes.NBT);
@@ -3529,6 +3718,7 @@ public final class Operators {
      * The NBT value of a boolean value
      */
     public static final IOperator NBT_FROM_BOOLEAN = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.BOOLEAN).output(ValueTypes.NBT)
             .operatorName("from_boolean").symbol("NBT.from_boolean").interactName("asNbt")
             .function(variables -> {
@@ -3540,6 +3730,7 @@ public final class Operators {
      * The NBT value of a short value
      */
     public static final IOperator NBT_FROM_SHORT = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.INTEGER).output(ValueTypes.NBT)
             .operatorName("from_short").symbol("NBT.from_short").interactName("asNbt", "short", true)
             .function(variables -> {
@@ -3551,6 +3742,7 @@ public final class Operators {
      * The NBT value of a byte value
      */
     public static final IOperator NBT_FROM_BYTE = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.INTEGER).output(ValueTypes.NBT)
             .operatorName("from_byte").symbol("NBT.from_byte").interactName("asNbt", "byte", true)
             .function(variables -> {
@@ -3562,6 +3754,7 @@ public final class Operators {
      * The NBT value of an int value
      */
     public static final IOperator NBT_FROM_INT = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.INTEGER).output(ValueTypes.NBT)
             .operatorName("from_int").symbol("NBT.from_int").interactName("asNbt")
             .function(variables -> {
@@ -3573,6 +3766,7 @@ public final class Operators {
      * The NBT value of a long value
      */
     public static final IOperator NBT_FROM_LONG = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.LONG).output(ValueTypes.NBT)
             .operatorName("from_long").symbol("NBT.from_long").interactName("asNbt")
             .function(variables -> {
@@ -3584,6 +3778,7 @@ public final class Operators {
      * The NBT value of a double value
      */
     public static final IOperator NBT_FROM_DOUBLE = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.DOUBLE).output(ValueTypes.NBT)
             .operatorName("from_double").symbol("NBT.from_double").interactName("asNbt")
             .function(variables -> {
@@ -3595,6 +3790,7 @@ public final class Operators {
      * The NBT value of a float value
      */
     public static final IOperator NBT_FROM_FLOAT = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.DOUBLE).output(ValueTypes.NBT)
             .operatorName("from_float").symbol("NBT.from_float").interactName("asNbt", "float", true)
             .function(variables -> {
@@ -3606,6 +3802,7 @@ public final class Operators {
      * The NBT value of a string value
      */
     public static final IOperator NBT_FROM_STRING = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.STRING).output(ValueTypes.NBT)
             .operatorName("from_string").symbol("NBT.from_string").interactName("asNbt")
             .function(variables -> {
@@ -3617,6 +3814,7 @@ public final class Operators {
      * The NBT value of a tag list value
      */
     public static final IOperator NBT_FROM_TAG_LIST = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.LIST).output(ValueTypes.NBT)
             .operatorName("from_tag_list").symbol("NBT.from_tag_list").interactName("asNbt", "tagList", true)
             .function(new OperatorBase.IFunction() {
@@ -3631,6 +3829,7 @@ public final class Operators {
      * The NBT value of a byte list value
      */
     public static final IOperator NBT_FROM_BYTE_LIST = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.LIST).output(ValueTypes.NBT)
             .operatorName("from_byte_list").symbol("NBT.from_byte_list").interactName("asNbt", "byteList", true)
             .function(new OperatorBase.IFunction() {
@@ -3645,6 +3844,7 @@ public final class Operators {
      * The NBT value of a int list value
      */
     public static final IOperator NBT_FROM_INT_LIST = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.LIST).output(ValueTypes.NBT)
             .operatorName("from_int_list").symbol("NBT.from_int_list").interactName("asNbt", "intList", true)
             .function(new OperatorBase.IFunction() {
@@ -3659,6 +3859,7 @@ public final class Operators {
      * The NBT value of a long list value
      */
     public static final IOperator NBT_FROM_LONG_LIST = REGISTRY.register(OperatorBuilders.NBT_1_PREFIX_LONG
+            .pure()
             .inputType(ValueTypes.LIST).output(ValueTypes.NBT)
             .operatorName("from_long_list").symbol("NBT.from_long_list").interactName("asNbt", "longList", true)
             .function(new OperatorBase.IFunction() {
@@ -3673,6 +3874,7 @@ public final class Operators {
      * Apply the given NBT path expression on the given NBT value and get the first result.
      */
     public static final IOperator NBT_PATH_MATCH_FIRST = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .inputTypes(ValueTypes.STRING, ValueTypes.NBT).output(ValueTypes.NBT)
             .operatorName("path_match_first").symbol("NBT.path_match_first").interactName("nbtPathMatchFirst")
             .function(variables -> {
@@ -3680,7 +3882,7 @@ public final class Operators {
                 ValueTypeNbt.ValueNbt nbt = variables.getValue(1, ValueTypes.NBT);
                 INbtPathExpression expression = null;
                 try {
-                    expression = NbtPath.parse(string.getRawValue());
+                    expression = CompiledSourceCache.NBT_PATH.get(string.getRawValue());
                 } catch (NbtParseException e) {
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_NBT_PATH_EXPRESSION,
                             string.getRawValue(),
@@ -3696,6 +3898,7 @@ public final class Operators {
      * Apply the given NBT path expression on the given NBT value and get all results.
      */
     public static final IOperator NBT_PATH_MATCH_ALL = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .inputTypes(ValueTypes.STRING, ValueTypes.NBT).output(ValueTypes.LIST)
             .operatorName("path_match_all").symbol("NBT.path_match_all").interactName("nbtPathMatchAll")
             .function(variables -> {
@@ -3703,7 +3906,7 @@ public final class Operators {
                 ValueTypeNbt.ValueNbt nbt = variables.getValue(1, ValueTypes.NBT);
                 INbtPathExpression expression = null;
                 try {
-                    expression = NbtPath.parse(string.getRawValue());
+                    expression = CompiledSourceCache.NBT_PATH.get(string.getRawValue());
                 } catch (NbtParseException e) {
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_NBT_PATH_EXPRESSION,
                             string.getRawValue(),
@@ -3722,6 +3925,7 @@ public final class Operators {
      * Test the given NBT path expression on the given NBT value.
      */
     public static final IOperator NBT_PATH_TEST = REGISTRY.register(OperatorBuilders.NBT_2
+            .pure()
             .inputTypes(ValueTypes.STRING, ValueTypes.NBT).output(ValueTypes.BOOLEAN)
             .operatorName("path_test").symbol("NBT.path_test").interactName("nbtPathTest")
             .function(variables -> {
@@ -3729,7 +3933,7 @@ public final class Operators {
                 ValueTypeNbt.ValueNbt nbt = variables.getValue(1, ValueTypes.NBT);
                 INbtPathExpression expression = null;
                 try {
-                    expression = NbtPath.parse(string.getRawValue());
+                    expression = CompiledSourceCache.NBT_PATH.get(string.getRawValue());
                 } catch (NbtParseException e) {
                     throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_NBT_PATH_EXPRESSION,
                             string.getRawValue(),
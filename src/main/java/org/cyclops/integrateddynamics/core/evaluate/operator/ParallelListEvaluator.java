@@ -0,0 +1,265 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyBase;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates operators over the elements of large lists in parallel.
+ *
+ * This is only done for pure operators over stable lists of which the elements can not read from the world,
+ * and only if the list contains at least {@link GeneralConfig#operatorParallelListThreshold} elements.
+ * Results are always merged in list order,
+ * and errors are reported for the first element that failed, just like sequential evaluation would.
+ *
+ * @author rubensworks
+ */
+public class ParallelListEvaluator {
+
+    /**
+     * The number of elements below which work is not split any further.
+     */
+    public static final int MIN_CHUNK_SIZE = 512;
+
+    /**
+     * @return If the current thread is a parallel operator evaluation worker.
+     */
+    public static boolean isWorkerThread() {
+        return Thread.currentThread() instanceof WorkerThread;
+    }
+
+    /**
+     * Check if the given operator may be applied on the elements of the given list in parallel.
+     * @param operator An operator.
+     * @param list A list.
+     * @return If parallel evaluation can be used.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    public static boolean canEvaluate(IOperator operator, IValueTypeListProxy<?, ?> list) throws EvaluationException {
+        int threshold = GeneralConfig.operatorParallelListThreshold;
+        return threshold > 0
+                && operator.isPure()
+                && !list.isInfinite()
+                && ValueTypeListProxyBase.isStable(list)
+                && isSafeValueType(list.getValueType())
+                && list.getLength() >= threshold;
+    }
+
+    /**
+     * Check if the given operator may be applied on the elements of the given list as a parallel tree reduction.
+     * @param operator An operator.
+     * @param list A list.
+     * @param valueType The type of the accumulator.
+     * @return If parallel reduction can be used.
+     * @throws EvaluationException If the list length could not be determined.
+     */
+    public static boolean canReduce(IOperator operator, IValueTypeListProxy<?, ?> list, IValueType<?> valueType) throws EvaluationException {
+        return list.getValueType() == valueType && operator.isAssociative(valueType) && canEvaluate(operator, list);
+    }
+
+    /**
+     * @param valueType A value type.
+     * @return If values of the given type can be passed to pure operators on other threads.
+     *         This excludes lists, entities and operators, as these may read from the world,
+     *         and categories, as these can contain any of them.
+     */
+    public static boolean isSafeValueType(IValueType<?> valueType) {
+        return !valueType.isCategory()
+                && valueType != ValueTypes.LIST
+                && valueType != ValueTypes.OBJECT_ENTITY
+                && valueType != ValueTypes.OPERATOR;
+    }
+
+    /**
+     * Copy all elements of the given list into an array.
+     * @param list A finite list.
+     * @return The elements.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static IValue[] toArray(IValueTypeListProxy<?, ?> list) throws EvaluationException {
+        IValue[] elements = new IValue[list.getLength()];
+        int i = 0;
+        for (IValue element : list) {
+            elements[i++] = element;
+        }
+        return elements;
+    }
+
+    /**
+     * Apply a function on all given elements in parallel.
+     * @param elements The input elements.
+     * @param function The function to apply on each element.
+     * @param results The array to write results into, with the same length as the elements.
+     *                Elements for which the function failed will not be written.
+     * @return The error of the first element that failed, or null if all succeeded.
+     */
+    @Nullable
+    public static EvaluationException apply(IValue[] elements, IElementFunction function, IValue[] results) {
+        ApplyAction action = new ApplyAction(elements, function, results, 0, elements.length);
+        PoolHolder.POOL.invoke(action);
+        return action.error;
+    }
+
+    /**
+     * Apply a function on all given elements in parallel.
+     * @param elements The input elements.
+     * @param function The function to apply on each element.
+     * @return The results in element order.
+     * @throws EvaluationException The error of the first element that failed.
+     */
+    public static IValue[] apply(IValue[] elements, IElementFunction function) throws EvaluationException {
+        IValue[] results = new IValue[elements.length];
+        EvaluationException error = apply(elements, function, results);
+        if (error != null) {
+            throw error;
+        }
+        return results;
+    }
+
+    /**
+     * Reduce the given elements with an associative operator as a parallel tree.
+     * @param operator An associative operator with two inputs.
+     * @param elements The non-empty elements.
+     * @return The reduced value.
+     * @throws EvaluationException If the operator failed.
+     */
+    public static IValue reduce(IOperator operator, IValue[] elements) throws EvaluationException {
+        ReduceTask task = new ReduceTask(operator, elements, 0, elements.length);
+        IValue result = PoolHolder.POOL.invoke(task);
+        if (task.error != null) {
+            throw task.error;
+        }
+        return result;
+    }
+
+    /**
+     * Create a function that applies the given predicate on elements,
+     * and validates that its output is a boolean.
+     * @param predicate A predicate.
+     * @return The element function.
+     */
+    public static IElementFunction predicate(IOperator predicate) {
+        return element -> {
+            IValue result = ValueHelpers.evaluateOperator(predicate, element);
+            ValueHelpers.validatePredicateOutput(predicate, result);
+            return result;
+        };
+    }
+
+    protected static int getChunkSize() {
+        return Math.max(MIN_CHUNK_SIZE, GeneralConfig.operatorParallelListThreshold / GeneralConfig.operatorParallelThreads);
+    }
+
+    public static interface IElementFunction {
+        public IValue apply(IValue element) throws EvaluationException;
+    }
+
+    /**
+     * Lazily creates the pool, so that no threads are started unless parallel evaluation is used.
+     */
+    private static class PoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(GeneralConfig.operatorParallelThreads,
+                WorkerThread::new, null, false);
+    }
+
+    protected static class WorkerThread extends ForkJoinWorkerThread {
+        protected WorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+    }
+
+    protected static class ApplyAction extends RecursiveAction {
+
+        private final IValue[] elements;
+        private final IElementFunction function;
+        private final IValue[] results;
+        private final int from;
+        private final int to;
+        @Nullable
+        private EvaluationException error;
+
+        protected ApplyAction(IValue[] elements, IElementFunction function, IValue[] results, int from, int to) {
+            this.elements = elements;
+            this.function = function;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= getChunkSize()) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        results[i] = function.apply(elements[i]);
+                    } catch (EvaluationException e) {
+                        if (error == null) {
+                            error = e;
+                        }
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                ApplyAction left = new ApplyAction(elements, function, results, from, middle);
+                ApplyAction right = new ApplyAction(elements, function, results, middle, to);
+                invokeAll(left, right);
+                error = left.error != null ? left.error : right.error;
+            }
+        }
+    }
+
+    protected static class ReduceTask extends RecursiveTask<IValue> {
+
+        private final IOperator operator;
+        private final IValue[] elements;
+        private final int from;
+        private final int to;
+        @Nullable
+        private EvaluationException error;
+
+        protected ReduceTask(IOperator operator, IValue[] elements, int from, int to) {
+            this.operator = operator;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IValue compute() {
+            try {
+                if (to - from <= getChunkSize()) {
+                    IValue accumulator = elements[from];
+                    for (int i = from + 1; i < to; i++) {
+                        accumulator = ValueHelpers.evaluateOperator(operator, accumulator, elements[i]);
+                    }
+                    return accumulator;
+                }
+                int middle = (from + to) >>> 1;
+                ReduceTask left = new ReduceTask(operator, elements, from, middle);
+                ReduceTask right = new ReduceTask(operator, elements, middle, to);
+                invokeAll(left, right);
+                error = left.error != null ? left.error : right.error;
+                if (error != null) {
+                    return null;
+                }
+                return ValueHelpers.evaluateOperator(operator, left.join(), right.join());
+            } catch (EvaluationException e) {
+                error = e;
+                return null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+/**
+ * A list proxy of immutable elements that can answer membership and count queries
+ * without a linear scan per query.
+ * @author rubensworks
+ */
+public interface IValueTypeListProxyIndexed {
+
+    /**
+     * @param value A value.
+     * @return The number of elements in this list that equal the given value.
+     */
+    public int count(IValue value);
+
+    /**
+     * @param value A value.
+     * @return If this list contains an element that equals the given value.
+     */
+    public boolean contains(IValue value);
+
+    /**
+     * @return If all elements in this list are distinct.
+     */
+    public boolean isDistinct();
+
+}
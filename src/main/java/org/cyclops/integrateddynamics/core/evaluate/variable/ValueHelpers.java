@@ -124,23 +124,10 @@ public class ValueHelpers {
             return operator.evaluate(variables);
         } else {
             if (variables.length > requiredLength) { // We have MORE variables as input than the operator accepts
-                IVariable[] acceptableVariables = ArrayUtils.subarray(variables, 0, requiredLength);
                 IVariable[] remainingVariables = ArrayUtils.subarray(variables, requiredLength, variables.length);
 
-                // Pass all required variables to the operator, and forward all remaining ones to the resulting operator
-                IValue result = evaluateOperator(operator, acceptableVariables);
-
-                // Error if the result is NOT an operator
-                if (result.getType() != ValueTypes.OPERATOR) {
-                    throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_CURRYINGOVERFLOW,
-                            Component.translatable(operator.getTranslationKey()),
-                            requiredLength,
-                            variables.length,
-                            Component.translatable(result.getType().getTranslationKey())));
-                }
-
                 // Pass all remaining variables to the resulting operator
-                IOperator nextOperator = ((ValueTypeOperator.ValueOperator) result).getRawValue();
+                IOperator nextOperator = evaluateOperatorOverflow(operator, variables);
                 return evaluateOperator(nextOperator, remainingVariables);
 
             } else { // Else, the given variables only partially take up the required input
@@ -149,6 +136,32 @@ public class ValueHelpers {
         }
     }
 
+    /**
+     * Evaluate an operator for the first variables it requires, when more variables are given than it accepts.
+     * @param operator The operator.
+     * @param variables The variables, more than the operator requires.
+     * @return The resulting operator, to which the remaining variables must be passed.
+     * @throws EvaluationException If something went wrong during operator evaluation,
+     *                             or if the result is not an operator.
+     */
+    public static IOperator evaluateOperatorOverflow(IOperator operator, IVariable[] variables) throws EvaluationException {
+        int requiredLength = operator.getRequiredInputLength();
+        IVariable[] acceptableVariables = ArrayUtils.subarray(variables, 0, requiredLength);
+
+        // Pass all required variables to the operator, and forward all remaining ones to the resulting operator
+        IValue result = evaluateOperator(operator, acceptableVariables);
+
+        // Error if the result is NOT an operator
+        if (result.getType() != ValueTypes.OPERATOR) {
+            throw new EvaluationException(Component.translatable(L10NValues.OPERATOR_ERROR_CURRYINGOVERFLOW,
+                    Component.translatable(operator.getTranslationKey()),
+                    requiredLength,
+                    variables.length,
+                    Component.translatable(result.getType().getTranslationKey())));
+        }
+        return ((ValueTypeOperator.ValueOperator) result).getRawValue();
+    }
+
     /**
      * Serialize the given value to a raw tag without its value type.
      *
@@ -122,7 +122,7 @@ public class ValueObjectTypeFluidStack extends ValueObjectTypeBase<ValueObjectTy
 
         @Override
         public int hashCode() {
-            return fluidStack.hashCode();
+            return 31 * FluidStack.hashFluidAndComponents(fluidStack) + fluidStack.getAmount();
         }
 
     }
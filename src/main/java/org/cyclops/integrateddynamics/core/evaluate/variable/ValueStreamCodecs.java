@@ -0,0 +1,488 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import io.netty.handler.codec.DecoderException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.EncoderException;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.ByteArrayTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+
+import javax.annotation.Nullable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compact binary codecs for values, to be used for network packets.
+ *
+ * Value types are written as a varint index in a table of all registered value types,
+ * which is sorted by name so that it is identical on both sides of a connection.
+ * Numbers are written as zigzag-encoded varints,
+ * item and fluid stacks use their registry-based stream codecs,
+ * and materialized lists only write their element type once.
+ * All other values, and lists that are not materialized, fall back to their NBT serialization.
+ *
+ * Decoding is bounded in the same way as NBT in packets:
+ * all lists and NBT fallbacks within a single value share one {@link NbtAccounter} quota,
+ * list lengths may not exceed the number of remaining bytes,
+ * and lists may only be nested up to {@link #MAX_LIST_DEPTH} levels.
+ *
+ * @author rubensworks
+ */
+public class ValueStreamCodecs {
+
+    /**
+     * The maximum number of bytes a single decoded value may account for.
+     */
+    public static final long MAX_DECODED_BYTES = 2097152L;
+    /**
+     * The maximum nesting depth of lists in a decoded value.
+     */
+    public static final int MAX_LIST_DEPTH = 64;
+    /**
+     * The number of bytes that are accounted for each list element.
+     */
+    private static final long LIST_ELEMENT_BYTES = 16L;
+
+    private static final Map<IValueType<?>, IValueCodec<?>> CODECS = Maps.newIdentityHashMap();
+    private static final ThreadLocal<DecodingContext> DECODING = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> CLIENT_SYNC = ThreadLocal.withInitial(() -> false);
+    private static final StreamCodec<ByteBuf, Tag> TAG = ByteBufCodecs.tagCodec(() -> getDecodingContext().accounter());
+
+    private static volatile TypeTable TYPE_TABLE = null;
+
+    /**
+     * A codec for values of any type.
+     */
+    public static final StreamCodec<RegistryFriendlyByteBuf, IValue> VALUE = StreamCodec.of(
+            ValueStreamCodecs::write,
+            ValueStreamCodecs::read
+    );
+
+    static {
+        register(ValueTypes.BOOLEAN, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeBoolean.ValueBoolean value) {
+                buffer.writeBoolean(value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeBoolean.ValueBoolean read(RegistryFriendlyByteBuf buffer) {
+                return ValueTypeBoolean.ValueBoolean.of(buffer.readBoolean());
+            }
+        });
+        register(ValueTypes.INTEGER, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeInteger.ValueInteger value) {
+                int raw = value.getRawValue();
+                buffer.writeVarInt((raw << 1) ^ (raw >> 31));
+            }
+
+            @Override
+            public ValueTypeInteger.ValueInteger read(RegistryFriendlyByteBuf buffer) {
+                int zigzag = buffer.readVarInt();
+                return ValueTypeInteger.ValueInteger.of((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+        });
+        register(ValueTypes.LONG, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeLong.ValueLong value) {
+                long raw = value.getRawValue();
+                buffer.writeVarLong((raw << 1) ^ (raw >> 63));
+            }
+
+            @Override
+            public ValueTypeLong.ValueLong read(RegistryFriendlyByteBuf buffer) {
+                long zigzag = buffer.readVarLong();
+                return ValueTypeLong.ValueLong.of((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+        });
+        register(ValueTypes.DOUBLE, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeDouble.ValueDouble value) {
+                buffer.writeDouble(value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeDouble.ValueDouble read(RegistryFriendlyByteBuf buffer) {
+                return ValueTypeDouble.ValueDouble.of(buffer.readDouble());
+            }
+        });
+        register(ValueTypes.STRING, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeString.ValueString value) {
+                buffer.writeUtf(value.getRawValue(), Integer.MAX_VALUE);
+            }
+
+            @Override
+            public ValueTypeString.ValueString read(RegistryFriendlyByteBuf buffer) {
+                String string = buffer.readUtf(Integer.MAX_VALUE);
+                getDecodingContext().accounter().accountBytes(2L, string.length());
+                return ValueTypeString.ValueString.of(string);
+            }
+        });
+        register(ValueTypes.NBT, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeNbt.ValueNbt value) {
+                ByteBufCodecs.optional(TAG).encode(buffer, value.getRawValue());
+            }
+
+            @Override
+            public ValueTypeNbt.ValueNbt read(RegistryFriendlyByteBuf buffer) {
+                return ValueTypeNbt.ValueNbt.of(ByteBufCodecs.optional(TAG).decode(buffer));
+            }
+        });
+        register(ValueTypes.OBJECT_ITEMSTACK, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueObjectTypeItemStack.ValueItemStack value) {
+                ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, value.getRawValue());
+            }
+
+            @Override
+            public ValueObjectTypeItemStack.ValueItemStack read(RegistryFriendlyByteBuf buffer) {
+                return ValueObjectTypeItemStack.ValueItemStack.of(ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+            }
+        });
+        register(ValueTypes.OBJECT_FLUIDSTACK, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueObjectTypeFluidStack.ValueFluidStack value) {
+                FluidStack.OPTIONAL_STREAM_CODEC.encode(buffer, value.getRawValue());
+            }
+
+            @Override
+            public ValueObjectTypeFluidStack.ValueFluidStack read(RegistryFriendlyByteBuf buffer) {
+                return ValueObjectTypeFluidStack.ValueFluidStack.of(FluidStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+            }
+        });
+        register(ValueTypes.LIST, new IValueCodec<>() {
+            @Override
+            public void write(RegistryFriendlyByteBuf buffer, ValueTypeList.ValueList value) {
+                writeList(buffer, value);
+            }
+
+            @Override
+            public ValueTypeList.ValueList read(RegistryFriendlyByteBuf buffer) {
+                return readList(buffer);
+            }
+        });
+    }
+
+    /**
+     * Allow {@link IValue} fields to be used in packets.
+     */
+    public static void load() {
+        PacketCodec.addCodedAction(IValue.class, new PacketCodec.ICodecAction() {
+            @Override
+            public void encode(Object object, RegistryFriendlyByteBuf output) {
+                VALUE.encode(output, (IValue) object);
+            }
+
+            @Override
+            public Object decode(RegistryFriendlyByteBuf input) {
+                return VALUE.decode(input);
+            }
+        });
+    }
+
+    /**
+     * Register a binary codec for the given value type.
+     * Types without a registered codec are written as NBT.
+     * @param valueType A value type.
+     * @param codec The codec for values of that type.
+     * @param <V> The value type.
+     */
+    public static <V extends IValue> void register(IValueType<V> valueType, IValueCodec<V> codec) {
+        CODECS.put(valueType, codec);
+    }
+
+    /**
+     * Write the given value, prefixed with its type.
+     * @param buffer The buffer to write to.
+     * @param value A value.
+     */
+    public static void write(RegistryFriendlyByteBuf buffer, IValue value) {
+        writeType(buffer, value.getType());
+        writeUntyped(buffer, value);
+    }
+
+    /**
+     * Read a value that was written by {@link #write(RegistryFriendlyByteBuf, IValue)}.
+     * @param buffer The buffer to read from.
+     * @return The value.
+     */
+    public static IValue read(RegistryFriendlyByteBuf buffer) {
+        return decode(() -> readUntyped(buffer, readType(buffer)));
+    }
+
+    /**
+     * Write the given value to a byte array.
+     * @param registryAccess The registry access.
+     * @param value A value.
+     * @return The bytes of the value.
+     */
+    public static byte[] toBytes(RegistryAccess registryAccess, IValue value) {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+        try {
+            write(buffer, value);
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            return bytes;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Read a value that was written by {@link #toBytes(RegistryAccess, IValue)}.
+     * @param registryAccess The registry access.
+     * @param bytes The bytes of a value.
+     * @return The value.
+     */
+    public static IValue fromBytes(RegistryAccess registryAccess, byte[] bytes) {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(bytes), registryAccess);
+        try {
+            return read(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Run the given serializer to create the data that is sent to clients,
+     * such as the update tag of a block entity.
+     * During this, {@link #serializeForClientSync(ValueDeseralizationContext, IValue)} will produce binary values.
+     * @param serializer A serializer.
+     * @return The serialized data.
+     * @param <T> The data type.
+     */
+    public static <T> T writeForClientSync(Supplier<T> serializer) {
+        boolean previous = CLIENT_SYNC.get();
+        CLIENT_SYNC.set(true);
+        try {
+            return serializer.get();
+        } finally {
+            CLIENT_SYNC.set(previous);
+        }
+    }
+
+    /**
+     * Serialize the given value in binary form if the current data is being sent to clients.
+     * World storage keeps using NBT, so that it does not depend on registry ids.
+     * @param valueDeseralizationContext The context.
+     * @param value A value.
+     * @return A binary tag containing the typed value, or null if the value should be serialized as NBT.
+     */
+    @Nullable
+    public static ByteArrayTag serializeForClientSync(ValueDeseralizationContext valueDeseralizationContext, IValue value) {
+        if (CLIENT_SYNC.get() && valueDeseralizationContext.holderLookupProvider() instanceof RegistryAccess registryAccess) {
+            return new ByteArrayTag(toBytes(registryAccess, value));
+        }
+        return null;
+    }
+
+    /**
+     * Deserialize a value that was created by {@link #serializeForClientSync(ValueDeseralizationContext, IValue)}.
+     * @param valueDeseralizationContext The context.
+     * @param tag A binary tag.
+     * @return The value.
+     * @throws DecoderException If the value could not be read.
+     */
+    public static IValue deserializeFromClientSync(ValueDeseralizationContext valueDeseralizationContext, ByteArrayTag tag) {
+        if (!(valueDeseralizationContext.holderLookupProvider() instanceof RegistryAccess registryAccess)) {
+            throw new DecoderException("Binary values can only be read with a registry access");
+        }
+        return fromBytes(registryAccess, tag.getAsByteArray());
+    }
+
+    protected static void writeType(RegistryFriendlyByteBuf buffer, IValueType<?> valueType) {
+        buffer.writeVarInt(getTypeTable().getId(valueType));
+    }
+
+    protected static IValueType<?> readType(RegistryFriendlyByteBuf buffer) {
+        return getTypeTable().getType(buffer.readVarInt());
+    }
+
+    protected static void writeUntyped(RegistryFriendlyByteBuf buffer, IValue value) {
+        IValueCodec codec = CODECS.get(value.getType());
+        if (codec != null) {
+            codec.write(buffer, value);
+        } else {
+            TAG.encode(buffer, ValueHelpers.serializeRaw(ValueDeseralizationContext.of(buffer.registryAccess()), value));
+        }
+    }
+
+    protected static IValue readUntyped(RegistryFriendlyByteBuf buffer, IValueType<?> valueType) {
+        return decode(() -> {
+            IValueCodec<?> codec = CODECS.get(valueType);
+            if (codec != null) {
+                return codec.read(buffer);
+            }
+            Tag tag = TAG.decode(buffer);
+            return ValueHelpers.deserializeRaw(ValueDeseralizationContext.of(buffer.registryAccess()), valueType, tag);
+        });
+    }
+
+    protected static void writeList(RegistryFriendlyByteBuf buffer, ValueTypeList.ValueList value) {
+        IValueTypeListProxy<?, ?> list = value.getRawValue();
+        boolean materialized = list instanceof ValueTypeListProxyMaterialized || list instanceof ValueTypeListProxyVector;
+        buffer.writeBoolean(materialized);
+        if (materialized) {
+            IValueType<?> elementType = list.getValueType();
+            boolean heterogeneous = elementType.isCategory();
+            writeType(buffer, elementType);
+            try {
+                buffer.writeVarInt(list.getLength());
+            } catch (EvaluationException e) {
+                throw new EncoderException(e);
+            }
+            for (IValue element : list) {
+                if (heterogeneous) {
+                    write(buffer, element);
+                } else {
+                    writeUntyped(buffer, element);
+                }
+            }
+        } else {
+            TAG.encode(buffer, ValueHelpers.serializeRaw(ValueDeseralizationContext.of(buffer.registryAccess()), value));
+        }
+    }
+
+    protected static ValueTypeList.ValueList readList(RegistryFriendlyByteBuf buffer) {
+        return decode(() -> {
+            DecodingContext context = getDecodingContext();
+            if (buffer.readBoolean()) {
+                IValueType elementType = readType(buffer);
+                boolean heterogeneous = elementType.isCategory();
+                int length = buffer.readVarInt();
+                // Each element takes at least one byte
+                if (length < 0 || length > buffer.readableBytes()) {
+                    throw new DecoderException("Tried to read a list of length " + length + " with only "
+                            + buffer.readableBytes() + " bytes remaining");
+                }
+                context.accounter().accountBytes(LIST_ELEMENT_BYTES, length);
+                context.pushListDepth();
+                try {
+                    List<IValue> elements = Lists.newArrayListWithExpectedSize(length);
+                    for (int i = 0; i < length; i++) {
+                        elements.add(heterogeneous ? read(buffer) : readUntyped(buffer, elementType));
+                    }
+                    return ValueTypeList.ValueList.ofList(elementType, elements);
+                } finally {
+                    context.popListDepth();
+                }
+            }
+            Tag tag = TAG.decode(buffer);
+            return ValueHelpers.deserializeRaw(ValueDeseralizationContext.of(buffer.registryAccess()), ValueTypes.LIST, tag);
+        });
+    }
+
+    /**
+     * Run the given reader within the decoding context of the current value,
+     * or within a new context if no value is being decoded yet.
+     * @param reader A reader.
+     * @return The read value.
+     * @param <T> The value type.
+     */
+    protected static <T> T decode(Supplier<T> reader) {
+        if (DECODING.get() != null) {
+            return reader.get();
+        }
+        DECODING.set(new DecodingContext(NbtAccounter.create(MAX_DECODED_BYTES)));
+        try {
+            return reader.get();
+        } finally {
+            DECODING.remove();
+        }
+    }
+
+    protected static DecodingContext getDecodingContext() {
+        DecodingContext context = DECODING.get();
+        return context != null ? context : new DecodingContext(NbtAccounter.create(MAX_DECODED_BYTES));
+    }
+
+    protected static TypeTable getTypeTable() {
+        TypeTable table = TYPE_TABLE;
+        int size = ValueTypes.REGISTRY.getValueTypes().size();
+        if (table == null || table.types().size() != size) {
+            List<IValueType> types = Lists.newArrayList(ValueTypes.REGISTRY.getValueTypes());
+            types.sort(Comparator.comparing(type -> type.getUniqueName().toString()));
+            Map<IValueType<?>, Integer> ids = Maps.newIdentityHashMap();
+            for (int i = 0; i < types.size(); i++) {
+                ids.put(types.get(i), i);
+            }
+            table = new TypeTable(types, ids);
+            TYPE_TABLE = table;
+        }
+        return table;
+    }
+
+    /**
+     * A binary codec for values of a certain type.
+     * @param <V> The value type.
+     */
+    public static interface IValueCodec<V extends IValue> {
+        public void write(RegistryFriendlyByteBuf buffer, V value);
+        public V read(RegistryFriendlyByteBuf buffer);
+    }
+
+    protected static final class DecodingContext {
+
+        private final NbtAccounter accounter;
+        private int listDepth = 0;
+
+        public DecodingContext(NbtAccounter accounter) {
+            this.accounter = accounter;
+        }
+
+        public NbtAccounter accounter() {
+            return accounter;
+        }
+
+        public void pushListDepth() {
+            if (++listDepth > MAX_LIST_DEPTH) {
+                throw new DecoderException("Tried to read lists that are nested deeper than " + MAX_LIST_DEPTH);
+            }
+        }
+
+        public void popListDepth() {
+            listDepth--;
+        }
+
+    }
+
+    protected static record TypeTable(List<IValueType> types, Map<IValueType<?>, Integer> ids) {
+
+        public int getId(IValueType<?> valueType) {
+            Integer id = ids.get(valueType);
+            if (id == null) {
+                throw new EncoderException("Tried to write the unregistered value type " + valueType.getUniqueName());
+            }
+            return id;
+        }
+
+        public IValueType<?> getType(int id) {
+            if (id < 0 || id >= types.size()) {
+                throw new DecoderException("Tried to read an unknown value type id " + id);
+            }
+            return types.get(id);
+        }
+
+    }
+
+}
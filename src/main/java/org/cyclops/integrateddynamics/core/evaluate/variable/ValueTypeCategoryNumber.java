@@ -39,6 +39,20 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
         return map;
     }
 
+    public IValueTypeNumber getLowestType(IValueTypeNumber a, IValueTypeNumber b) {
+        if (a == b) {
+            return a;
+        }
+        int maxIndex = -1;
+        if (a != null) {
+            maxIndex = INVERTED_ELEMENTS.get(a);
+        }
+        if (b != null) {
+            maxIndex = Math.max(maxIndex, INVERTED_ELEMENTS.get(b));
+        }
+        return ELEMENTS[maxIndex];
+    }
+
     public IValueTypeNumber getLowestType(IValueTypeNumber... types) {
         IValueTypeNumber first = types[0];
         for(int i = 1; i < types.length; i++) {
@@ -75,7 +89,29 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
         return ((IValueTypeNumber) valueType);
     }
 
+    /**
+     * Check if the given variables are both statically typed as integers, or both as longs.
+     * For these cases, operations can be done on the raw values directly,
+     * without any casting or generic dispatching.
+     * @param a The first variable.
+     * @param b The second variable.
+     * @return If primitive fast paths can be attempted.
+     */
+    protected boolean isSameIntegralType(IVariable a, IVariable b) {
+        IValueType type = a.getType();
+        return type == b.getType() && (type == ValueTypes.INTEGER || type == ValueTypes.LONG);
+    }
+
     public IValue add(IVariable a, IVariable b) throws EvaluationException {
+        if (isSameIntegralType(a, b)) {
+            IValue av = a.getValue();
+            IValue bv = b.getValue();
+            if (av instanceof ValueTypeInteger.ValueInteger ai && bv instanceof ValueTypeInteger.ValueInteger bi) {
+                return ValueTypeInteger.ValueInteger.of(ai.getRawValue() + bi.getRawValue());
+            } else if (av instanceof ValueTypeLong.ValueLong al && bv instanceof ValueTypeLong.ValueLong bl) {
+                return ValueTypeLong.ValueLong.of(al.getRawValue() + bl.getRawValue());
+            }
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is neutral element for addition
@@ -91,6 +127,15 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue subtract(IVariable a, IVariable b) throws EvaluationException {
+        if (isSameIntegralType(a, b)) {
+            IValue bv = b.getValue();
+            IValue av = a.getValue();
+            if (av instanceof ValueTypeInteger.ValueInteger ai && bv instanceof ValueTypeInteger.ValueInteger bi) {
+                return ValueTypeInteger.ValueInteger.of(ai.getRawValue() - bi.getRawValue());
+            } else if (av instanceof ValueTypeLong.ValueLong al && bv instanceof ValueTypeLong.ValueLong bl) {
+                return ValueTypeLong.ValueLong.of(al.getRawValue() - bl.getRawValue());
+            }
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue bv = castValue(type, b.getValue());
         if (type.isZero(bv)) { // If b is neutral element for subtraction
@@ -102,6 +147,24 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public IValue multiply(IVariable a, IVariable b) throws EvaluationException {
+        if (isSameIntegralType(a, b)) {
+            IValue av = a.getValue();
+            if (av instanceof ValueTypeInteger.ValueInteger ai) {
+                if (ai.getRawValue() == 0) { // If a is absorbtion element for multiplication
+                    return av;
+                }
+                if (b.getValue() instanceof ValueTypeInteger.ValueInteger bi) {
+                    return ValueTypeInteger.ValueInteger.of(ai.getRawValue() * bi.getRawValue());
+                }
+            } else if (av instanceof ValueTypeLong.ValueLong al) {
+                if (al.getRawValue() == 0) { // If a is absorbtion element for multiplication
+                    return av;
+                }
+                if (b.getValue() instanceof ValueTypeLong.ValueLong bl) {
+                    return ValueTypeLong.ValueLong.of(al.getRawValue() * bl.getRawValue());
+                }
+            }
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         IValue av = castValue(type, a.getValue());
         if (type.isZero(av)) { // If a is absorbtion element for multiplication
@@ -173,6 +236,15 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public boolean greaterThan(IVariable a, IVariable b) throws EvaluationException {
+        if (isSameIntegralType(a, b)) {
+            IValue av = a.getValue();
+            IValue bv = b.getValue();
+            if (av instanceof ValueTypeInteger.ValueInteger ai && bv instanceof ValueTypeInteger.ValueInteger bi) {
+                return ai.getRawValue() > bi.getRawValue();
+            } else if (av instanceof ValueTypeLong.ValueLong al && bv instanceof ValueTypeLong.ValueLong bl) {
+                return al.getRawValue() > bl.getRawValue();
+            }
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.greaterThan(
                 castValue(type, a.getValue()),
@@ -181,6 +253,15 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> imple
     }
 
     public boolean lessThan(IVariable a, IVariable b) throws EvaluationException {
+        if (isSameIntegralType(a, b)) {
+            IValue av = a.getValue();
+            IValue bv = b.getValue();
+            if (av instanceof ValueTypeInteger.ValueInteger ai && bv instanceof ValueTypeInteger.ValueInteger bi) {
+                return ai.getRawValue() < bi.getRawValue();
+            } else if (av instanceof ValueTypeLong.ValueLong al && bv instanceof ValueTypeLong.ValueLong bl) {
+                return al.getRawValue() < bl.getRawValue();
+            }
+        }
         IValueTypeNumber type = getLowestType(getType(a), getType(b));
         return type.lessThan(
                 castValue(type, a.getValue()),
@@ -167,6 +167,9 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
     @ToString
     public static class ValueInteger extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+
         private final int value;
 
         private ValueInteger(int value) {
@@ -175,6 +178,10 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         }
 
         public static ValueInteger of(int value) {
+            // The type must be checked, as values may be created while value types are still being registered.
+            if (value >= CACHE_LOW && value <= CACHE_HIGH && ValueTypes.INTEGER != null) {
+                return Cache.VALUES[value - CACHE_LOW];
+            }
             return new ValueInteger(value);
         }
 
@@ -191,6 +198,19 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         public int hashCode() {
             return getType().hashCode() + value;
         }
+
+        /**
+         * Shared instances for commonly used small values.
+         */
+        private static class Cache {
+            private static final ValueInteger[] VALUES = new ValueInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+            static {
+                for (int i = 0; i < VALUES.length; i++) {
+                    VALUES[i] = new ValueInteger(i + CACHE_LOW);
+                }
+            }
+        }
     }
 
 }
@@ -161,7 +161,7 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
             try {
                 return value.get(index++);
             } catch (EvaluationException e) {
-                e.printStackTrace();
+                // Iterators can not throw checked exceptions, so fall back to the default value
                 return value.getValueType().getDefault();
             }
         }
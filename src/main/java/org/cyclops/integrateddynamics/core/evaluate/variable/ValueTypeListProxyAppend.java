@@ -31,6 +31,15 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
         return list.getLength() + 1;
     }
 
+    @Override
+    public boolean isStable() {
+        return isStable(list);
+    }
+
+    public IValueTypeListProxy<T, V> getList() {
+        return list;
+    }
+
     @Override
     public V get(int index) throws EvaluationException {
         int listLength = list.getLength();
@@ -92,12 +92,15 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         return Arrays.equals(o, o2);
     }
 
+    /**
+     * The hash only depends on the elements, as lists of different implementations
+     * or of corresponding element types can be equal.
+     * @return The hash code.
+     */
     @Override
     public int hashCode() {
         if(this.isInfinite()) return System.identityHashCode(this);
         int result = 1;
-        result = 37 * result + getName().hashCode();
-        result = 37 * result + getValueType().hashCode();
         for(Object obj : this) {
             result = 37 * result + (obj != null ? obj.hashCode() : 0);
         }
@@ -108,4 +111,21 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
     public boolean isInfinite() {
         return false;
     }
+
+    /**
+     * @return If the elements of this list never change,
+     *         which is not the case for lists that are read live from the world.
+     *         Derived lists may only cache elements of stable lists.
+     */
+    public boolean isStable() {
+        return true;
+    }
+
+    /**
+     * @param list A list.
+     * @return If the given list is known to be stable.
+     */
+    public static boolean isStable(IValueTypeListProxy<?, ?> list) {
+        return list instanceof ValueTypeListProxyBase<?, ?> listBase && listBase.isStable();
+    }
 }
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.collect.Lists;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.resources.ResourceLocation;
@@ -11,22 +12,91 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
 
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * A concatenated list.
+ *
+ * Nested concatenations are flattened on construction.
+ * If all sublists are stable, their offsets are calculated once,
+ * so that element lookups do not have to query the length of all preceding sublists.
  * @param <T> The value type type.
  * @param <V> The value type.
  */
 public class ValueTypeListProxyConcat<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
     private final IValueTypeListProxy<T, V>[] lists;
+    private final boolean stable;
+    private volatile int[] offsets;
 
     public ValueTypeListProxyConcat(IValueTypeListProxy<T, V>... lists) {
         super(ValueTypeListProxyFactories.CONCAT.getName(), lists[0].getValueType());
-        this.lists = lists;
+        this.lists = flatten(lists);
+        boolean stable = true;
+        for (IValueTypeListProxy<T, V> list : this.lists) {
+            stable &= isStable(list);
+        }
+        this.stable = stable;
+    }
+
+    protected static <T extends IValueType<V>, V extends IValue> IValueTypeListProxy<T, V>[] flatten(IValueTypeListProxy<T, V>[] lists) {
+        boolean nested = false;
+        for (IValueTypeListProxy<T, V> list : lists) {
+            nested |= list instanceof ValueTypeListProxyConcat;
+        }
+        if (!nested) {
+            return lists;
+        }
+        List<IValueTypeListProxy<T, V>> flattened = Lists.newArrayList();
+        for (IValueTypeListProxy<T, V> list : lists) {
+            if (list instanceof ValueTypeListProxyConcat<T, V> concat) {
+                Collections.addAll(flattened, concat.lists);
+            } else {
+                flattened.add(list);
+            }
+        }
+        return flattened.toArray(new IValueTypeListProxy[0]);
+    }
+
+    /**
+     * @return The cumulative start offsets of all sublists, followed by the total length,
+     *         or null if the sublists are not stable.
+     * @throws EvaluationException If a sublist length could not be determined.
+     */
+    @Nullable
+    protected int[] getOffsets() throws EvaluationException {
+        if (!this.stable) {
+            return null;
+        }
+        int[] offsets = this.offsets;
+        if (offsets == null) {
+            offsets = new int[lists.length + 1];
+            for (int i = 0; i < lists.length; i++) {
+                offsets[i + 1] = offsets[i] + lists[i].getLength();
+            }
+            this.offsets = offsets;
+        }
+        return offsets;
+    }
+
+    @Override
+    public boolean isStable() {
+        return this.stable;
+    }
+
+    public IValueTypeListProxy<T, V>[] getLists() {
+        return lists;
     }
 
     @Override
     public int getLength() throws EvaluationException {
+        int[] offsets = getOffsets();
+        if (offsets != null) {
+            return offsets[lists.length];
+        }
         int length = 0;
         for (IValueTypeListProxy<T, V> list : lists) {
             length += list.getLength();
@@ -36,6 +106,22 @@ public class ValueTypeListProxyConcat<T extends IValueType<V>, V extends IValue>
 
     @Override
     public V get(int index) throws EvaluationException {
+        int[] offsets = getOffsets();
+        if (offsets != null) {
+            if (index < 0 || index >= offsets[lists.length]) {
+                return null;
+            }
+            int i = Arrays.binarySearch(offsets, 0, lists.length, index);
+            if (i < 0) {
+                i = -i - 2;
+            } else {
+                // Skip empty sublists that start at the same offset
+                while (i + 1 < lists.length && offsets[i + 1] == index) {
+                    i++;
+                }
+            }
+            return lists[i].get(index - offsets[i]);
+        }
         for (IValueTypeListProxy<T, V> list : lists) {
             int currentLength = list.getLength();
             if (index < currentLength) {
@@ -0,0 +1,94 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import javax.annotation.Nullable;
+
+/**
+ * A lazily built index of the element counts of an immutable list.
+ *
+ * The first membership or count query is answered by a linear scan,
+ * and the index is only built once queries are done repeatedly.
+ *
+ * @param <V> The value type.
+ */
+public class ValueTypeListProxyElementCounts<V extends IValue> implements IValueTypeListProxyIndexed {
+
+    private final Iterable<V> elements;
+    private final int size;
+    @Nullable
+    private volatile Object2IntMap<V> counts = null;
+    private boolean queried = false;
+
+    public ValueTypeListProxyElementCounts(Iterable<V> elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    @Override
+    public int count(IValue value) {
+        Object2IntMap<V> counts = getCounts();
+        if (counts != null) {
+            return counts.getInt(value);
+        }
+        int count = 0;
+        for (V element : elements) {
+            if (element.equals(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        Object2IntMap<V> counts = getCounts();
+        if (counts != null) {
+            return counts.containsKey(value);
+        }
+        for (V element : elements) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return buildCounts().size() == size;
+    }
+
+    /**
+     * @return The index of element counts, or null if it should not be built yet,
+     *         as the first query is answered by a linear scan.
+     */
+    @Nullable
+    protected Object2IntMap<V> getCounts() {
+        Object2IntMap<V> counts = this.counts;
+        if (counts == null) {
+            synchronized (this) {
+                if (!this.queried) {
+                    this.queried = true;
+                    return null;
+                }
+            }
+            counts = buildCounts();
+        }
+        return counts;
+    }
+
+    protected Object2IntMap<V> buildCounts() {
+        Object2IntMap<V> counts = this.counts;
+        if (counts == null) {
+            counts = new Object2IntOpenHashMap<>(size);
+            for (V element : elements) {
+                counts.mergeInt(element, 1, Integer::sum);
+            }
+            this.counts = counts;
+        }
+        return counts;
+    }
+}
@@ -27,6 +27,11 @@ public abstract class ValueTypeListProxyEntityBase<T extends IValueType<V>, V ex
         this.entity = entity == null ? -1 : entity.getId();
     }
 
+    @Override
+    public boolean isStable() {
+        return false;
+    }
+
     protected Entity getEntity() {
         ServerLevel worldServer = ServerLifecycleHooks.getCurrentServer().getLevel(ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(this.world)));
         if(worldServer != null) {
@@ -47,6 +47,8 @@ public class ValueTypeListProxyFactories {
     public static ValueTypeListProxyNbtAsListInt.Factory NBT_AS_LIST_INT;
     public static ValueTypeListProxyNbtAsListLong.Factory NBT_AS_LIST_LONG;
     public static ValueTypeListProxyOperatorMapped.Factory MAPPED;
+    public static ValueTypeListProxyVector.Factory VECTOR;
+    public static ValueTypeListProxyIngredients.Factory INGREDIENTS;
 
     public static void load() {
         if(MATERIALIZED == null) {
@@ -74,6 +76,8 @@ public class ValueTypeListProxyFactories {
             NBT_AS_LIST_INT = REGISTRY.register(new ValueTypeListProxyNbtAsListInt.Factory());
             NBT_AS_LIST_LONG = REGISTRY.register(new ValueTypeListProxyNbtAsListLong.Factory());
             MAPPED = REGISTRY.register(new ValueTypeListProxyOperatorMapped.Factory());
+            VECTOR = REGISTRY.register(new ValueTypeListProxyVector.Factory());
+            INGREDIENTS = REGISTRY.register(new ValueTypeListProxyIngredients.Factory());
         }
     }
 
@@ -0,0 +1,93 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Maps;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import org.cyclops.commoncapabilities.api.ingredient.IMixedIngredients;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.commoncapabilities.api.ingredient.MixedIngredients;
+import org.cyclops.integrateddynamics.Reference;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.api.ingredient.IIngredientComponentHandler;
+import org.cyclops.integrateddynamics.core.ingredient.IngredientComponentHandlers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list proxy that presents the instances of an ingredient component as values,
+ * which are only converted when they are accessed.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ * @param <I> The instance type.
+ * @param <M> The matching condition parameter.
+ */
+public class ValueTypeListProxyIngredients<T extends IValueType<V>, V extends IValue, I, M> extends ValueTypeListProxyBase<T, V> {
+
+    private final IIngredientComponentHandler<T, V, I, M> componentHandler;
+    private final List<I> instances;
+
+    public ValueTypeListProxyIngredients(IIngredientComponentHandler<T, V, I, M> componentHandler, List<I> instances) {
+        super(ValueTypeListProxyFactories.INGREDIENTS.getName(), componentHandler.getValueType());
+        this.componentHandler = componentHandler;
+        this.instances = instances;
+    }
+
+    public IngredientComponent<I, M> getComponent() {
+        return componentHandler.getComponent();
+    }
+
+    /**
+     * @return An unmodifiable view of the unconverted instances.
+     */
+    public List<I> getInstances() {
+        return Collections.unmodifiableList(instances);
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        return instances.size();
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        return componentHandler.toValue(instances.get(index));
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyIngredients<IValueType<IValue>, IValue, ?, ?>> {
+
+        @Override
+        public ResourceLocation getName() {
+            return ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "ingredients");
+        }
+
+        @Override
+        protected void serializeNbt(ValueDeseralizationContext valueDeseralizationContext, ValueTypeListProxyIngredients<IValueType<IValue>, IValue, ?, ?> value, CompoundTag tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            IngredientComponent<?, ?> component = value.getComponent();
+            Map<IngredientComponent<?, ?>, List<?>> ingredients = Maps.newIdentityHashMap();
+            ingredients.put(component, value.getInstances());
+            tag.putString("component", IngredientComponent.REGISTRY.getKey(component).toString());
+            tag.put("ingredients", IMixedIngredients.serialize(valueDeseralizationContext.holderLookupProvider(), new MixedIngredients(ingredients)));
+        }
+
+        @Override
+        protected ValueTypeListProxyIngredients<IValueType<IValue>, IValue, ?, ?> deserializeNbt(ValueDeseralizationContext valueDeseralizationContext, CompoundTag tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+            IngredientComponent<?, ?> component = IngredientComponent.REGISTRY.get(ResourceLocation.parse(tag.getString("component")));
+            if (component == null) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException("Unknown ingredient component " + tag.getString("component"));
+            }
+            IMixedIngredients ingredients = IMixedIngredients.deserialize(valueDeseralizationContext.holderLookupProvider(), tag.getCompound("ingredients"));
+            return create(component, ingredients.getInstances(component));
+        }
+
+        protected static <I, M> ValueTypeListProxyIngredients<IValueType<IValue>, IValue, ?, ?> create(IngredientComponent<I, M> component, List<I> instances) {
+            IIngredientComponentHandler<IValueType<IValue>, IValue, I, M> componentHandler = IngredientComponentHandlers.REGISTRY.getComponentHandler(component);
+            return new ValueTypeListProxyIngredients<>(componentHandler, instances);
+        }
+    }
+}
@@ -4,16 +4,26 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
  * A list proxy for a list that is fully materialized already.
+ *
+ * The given list is assumed to never change,
+ * so its hash code is calculated only once,
+ * and a hash index is built lazily once membership or count queries are done repeatedly.
+ *
  * @param <T> The value type type.
  * @param <V> The value type.
  */
-public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> implements IValueTypeListProxyIndexed {
 
     private final List<V> list;
+    private int hash;
+    private boolean hashIsZero = false;
+    @Nullable
+    private volatile ValueTypeListProxyElementCounts<V> elementCounts = null;
 
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
@@ -30,6 +40,62 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
         return list.get(index);
     }
 
+    @Override
+    public int count(IValue value) {
+        return getElementCounts().count(value);
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        return getElementCounts().contains(value);
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return getElementCounts().isDistinct();
+    }
+
+    protected ValueTypeListProxyElementCounts<V> getElementCounts() {
+        ValueTypeListProxyElementCounts<V> elementCounts = this.elementCounts;
+        if (elementCounts == null) {
+            synchronized (this) {
+                elementCounts = this.elementCounts;
+                if (elementCounts == null) {
+                    elementCounts = new ValueTypeListProxyElementCounts<>(list, list.size());
+                    this.elementCounts = elementCounts;
+                }
+            }
+        }
+        return elementCounts;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ValueTypeListProxyMaterialized<?, ?> other && this != obj) {
+            // Materialized lists use the same hash function, so differing hashes imply differing lists.
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
+            return ValueHelpers.correspondsTo(getValueType(), other.getValueType()) && this.list.equals(other.list);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same approach as String#hashCode, so that concurrent calls never observe a partially published hash.
+        int hash = this.hash;
+        if (hash == 0 && !this.hashIsZero) {
+            hash = super.hashCode();
+            if (hash == 0) {
+                this.hashIsZero = true;
+            } else {
+                this.hash = hash;
+            }
+        }
+        return hash;
+    }
+
     @Override
     public String toString() {
         return list.toString();
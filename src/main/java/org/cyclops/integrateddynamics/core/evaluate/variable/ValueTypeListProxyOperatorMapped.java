@@ -11,14 +11,26 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.operator.ParallelListEvaluator;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
 
 /**
  * A list proxy for a list that is mapped to another list by an operator.
+ *
+ * If the source list is stable and finite, and the operator is pure, mapped elements are memoized,
+ * so that the operator is applied at most once per element.
+ * Impure operators may read from the world, so their results are never memoized.
+ * For large lists and pure operators, all elements are mapped in parallel once the list is iterated.
  */
 public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IValueType<IValue>, IValue> {
 
     private final IOperator operator;
     private final IValueTypeListProxy listProxy;
+    private volatile IValue[] memoized;
+    private volatile boolean memoizedInitialized;
+    private volatile boolean memoizedParallel;
 
     public ValueTypeListProxyOperatorMapped(IOperator operator, IValueTypeListProxy listProxy) {
         super(ValueTypeListProxyFactories.MAPPED.getName(), operator.getInputTypes().length == 1 ? operator.getOutputType() : (IValueType) ValueTypes.OPERATOR);
@@ -33,10 +45,59 @@ public class ValueTypeListProxyOperatorMapped extends ValueTypeListProxyBase<IVa
 
     @Override
     public IValue get(int index) throws EvaluationException {
+        IValue[] memoized = getMemoized();
+        if (memoized != null && index >= 0 && index < memoized.length) {
+            IValue value = memoized[index];
+            if (value == null) {
+                value = evaluate(index);
+                memoized[index] = value;
+            }
+            return value;
+        }
+        return evaluate(index);
+    }
+
+    @Override
+    public Iterator<IValue> iterator() {
+        try {
+            mapParallel();
+        } catch (EvaluationException e) {
+            // Errors are reported when the failing elements are accessed
+        }
+        return super.iterator();
+    }
+
+    protected void mapParallel() throws EvaluationException {
+        IValue[] memoized = getMemoized();
+        if (memoized != null && !this.memoizedParallel && ParallelListEvaluator.canEvaluate(operator, listProxy)) {
+            this.memoizedParallel = true;
+            // Failed elements are left empty, so that they are evaluated again on access
+            ParallelListEvaluator.apply(ParallelListEvaluator.toArray(listProxy),
+                    value -> ValueHelpers.evaluateOperator(operator, value), memoized);
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return isStable(listProxy) && operator.isPure();
+    }
+
+    protected IValue evaluate(int index) throws EvaluationException {
         IValue value = listProxy.get(index);
         return ValueHelpers.evaluateOperator(operator, value);
     }
 
+    @Nullable
+    protected IValue[] getMemoized() throws EvaluationException {
+        if (!this.memoizedInitialized) {
+            if (isStable() && !listProxy.isInfinite()) {
+                this.memoized = new IValue[listProxy.getLength()];
+            }
+            this.memoizedInitialized = true;
+        }
+        return this.memoized;
+    }
+
     public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyOperatorMapped> {
 
         @Override
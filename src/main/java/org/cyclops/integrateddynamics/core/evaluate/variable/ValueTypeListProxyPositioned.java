@@ -36,6 +36,11 @@ public abstract class ValueTypeListProxyPositioned<T extends IValueType<V>, V ex
         this.side = NBTClassType.readNbt(Direction.class, "side", tag, holderLookupProvider);
     }
 
+    @Override
+    public boolean isStable() {
+        return false;
+    }
+
     protected DimPos getPos() {
         return pos;
     }
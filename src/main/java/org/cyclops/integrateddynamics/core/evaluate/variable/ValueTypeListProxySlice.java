@@ -33,6 +33,23 @@ public class ValueTypeListProxySlice<T extends IValueType<V>, V extends IValue>
         return Math.max(0, Math.min(list.getLength(), this.to) - this.from);
     }
 
+    @Override
+    public boolean isStable() {
+        return isStable(list);
+    }
+
+    public IValueTypeListProxy<T, V> getList() {
+        return list;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getTo() {
+        return to;
+    }
+
     @Override
     public V get(int index) throws EvaluationException {
         if (index < list.getLength()) {
@@ -29,6 +29,15 @@ public class ValueTypeListProxyTail<T extends IValueType<V>, V extends IValue> e
         return Math.max(0, list.getLength() - 1);
     }
 
+    @Override
+    public boolean isStable() {
+        return isStable(list);
+    }
+
+    public IValueTypeListProxy<T, V> getList() {
+        return list;
+    }
+
     @Override
     public V get(int index) throws EvaluationException {
         int listLength = list.getLength();
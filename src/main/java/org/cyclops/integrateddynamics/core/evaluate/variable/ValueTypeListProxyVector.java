@@ -0,0 +1,403 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import org.cyclops.integrateddynamics.Reference;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A persistent list of materialized elements.
+ *
+ * Elements are stored in chunks in a height-balanced tree,
+ * so that appending, concatenating, slicing and indexing take logarithmic time,
+ * while sharing as much structure as possible with the original lists.
+ * This avoids deep chains of appended, concatenated or tail lists when lists are built up incrementally.
+ * Like materialized lists, vectors answer repeated membership and count queries from a lazily built hash index.
+ *
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ */
+public class ValueTypeListProxyVector<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> implements IValueTypeListProxyIndexed {
+
+    /**
+     * The maximum number of elements in a single chunk.
+     */
+    public static final int CHUNK_SIZE = 32;
+
+    @Nullable
+    private final Node root;
+    @Nullable
+    private volatile ValueTypeListProxyElementCounts<V> elementCounts = null;
+
+    protected ValueTypeListProxyVector(T valueType, @Nullable Node root) {
+        super(ValueTypeListProxyFactories.VECTOR.getName(), valueType);
+        this.root = root;
+    }
+
+    /**
+     * Create a vector with the elements of the given list.
+     * @param list A finite list.
+     * @return A vector, or the list itself if it already is a vector.
+     * @param <T> The value type type.
+     * @param <V> The value type.
+     * @throws EvaluationException If the list could not be read.
+     */
+    public static <T extends IValueType<V>, V extends IValue> ValueTypeListProxyVector<T, V> of(IValueTypeListProxy<T, V> list) throws EvaluationException {
+        if (list instanceof ValueTypeListProxyVector<T, V> vector) {
+            return vector;
+        }
+        int length = list.getLength();
+        IValue[] elements = new IValue[length];
+        int i = 0;
+        for (V value : list) {
+            elements[i++] = value;
+        }
+        return new ValueTypeListProxyVector<>(list.getValueType(), build(elements));
+    }
+
+    /**
+     * @param list A list.
+     * @return If the given list can be converted to a vector without evaluating any elements.
+     *         This is the case for materialized lists, and for appended, concatenated and sliced lists on top of them.
+     */
+    public static boolean canConvert(IValueTypeListProxy<?, ?> list) {
+        if (list instanceof ValueTypeListProxyVector || list instanceof ValueTypeListProxyMaterialized) {
+            return true;
+        }
+        if (list instanceof ValueTypeListProxyAppend<?, ?> append) {
+            return canConvert(append.getList());
+        }
+        if (list instanceof ValueTypeListProxyTail<?, ?> tail) {
+            return canConvert(tail.getList());
+        }
+        if (list instanceof ValueTypeListProxySlice<?, ?> slice) {
+            return canConvert(slice.getList());
+        }
+        if (list instanceof ValueTypeListProxyConcat<?, ?> concat) {
+            for (IValueTypeListProxy<?, ?> subList : concat.getLists()) {
+                if (!canConvert(subList)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if the given list should be converted to a vector before deriving a new list from it.
+     * Plain materialized lists are only wrapped once, as converting them is linear in their length.
+     * @param list A list.
+     * @return If the list is a vector, or a derived list that can be converted.
+     */
+    public static boolean shouldConvert(IValueTypeListProxy<?, ?> list) {
+        return !(list instanceof ValueTypeListProxyMaterialized) && canConvert(list);
+    }
+
+    @Override
+    public int getLength() {
+        return size(root);
+    }
+
+    @Override
+    public V get(int index) {
+        if (index < 0 || index >= getLength()) {
+            return null;
+        }
+        Node node = root;
+        while (node instanceof Branch branch) {
+            int leftSize = branch.left.size();
+            if (index < leftSize) {
+                node = branch.left;
+            } else {
+                index -= leftSize;
+                node = branch.right;
+            }
+        }
+        return (V) ((Leaf) node).values[index];
+    }
+
+    @Override
+    public int count(IValue value) {
+        return getElementCounts().count(value);
+    }
+
+    @Override
+    public boolean contains(IValue value) {
+        return getElementCounts().contains(value);
+    }
+
+    @Override
+    public boolean isDistinct() {
+        return getElementCounts().isDistinct();
+    }
+
+    protected ValueTypeListProxyElementCounts<V> getElementCounts() {
+        ValueTypeListProxyElementCounts<V> elementCounts = this.elementCounts;
+        if (elementCounts == null) {
+            synchronized (this) {
+                elementCounts = this.elementCounts;
+                if (elementCounts == null) {
+                    elementCounts = new ValueTypeListProxyElementCounts<>(this, getLength());
+                    this.elementCounts = elementCounts;
+                }
+            }
+        }
+        return elementCounts;
+    }
+
+    /**
+     * @param value A value.
+     * @return A new vector with the given value appended.
+     */
+    public ValueTypeListProxyVector<T, V> append(V value) {
+        return new ValueTypeListProxyVector<>(getValueType(), join(root, new Leaf(new IValue[]{value})));
+    }
+
+    /**
+     * @param other Another vector.
+     * @return A new vector with the elements of this vector followed by those of the other vector.
+     */
+    public ValueTypeListProxyVector<T, V> concat(ValueTypeListProxyVector<T, V> other) {
+        return new ValueTypeListProxyVector<>(getValueType(), join(root, other.root));
+    }
+
+    /**
+     * @param from The start index, inclusive.
+     * @param to The end index, exclusive.
+     * @return A new vector with the elements within the given range.
+     */
+    public ValueTypeListProxyVector<T, V> slice(int from, int to) {
+        int length = getLength();
+        from = Math.max(0, Math.min(from, length));
+        to = Math.max(from, Math.min(to, length));
+        Node node = split(root, to)[0];
+        node = split(node, from)[1];
+        return new ValueTypeListProxyVector<>(getValueType(), node);
+    }
+
+    /**
+     * @return The elements of this vector.
+     */
+    public List<V> toList() {
+        ImmutableList.Builder<V> builder = ImmutableList.builderWithExpectedSize(getLength());
+        addAll(root, builder);
+        return builder.build();
+    }
+
+    protected static <V extends IValue> void addAll(@Nullable Node node, ImmutableList.Builder<V> builder) {
+        if (node instanceof Branch branch) {
+            addAll(branch.left, builder);
+            addAll(branch.right, builder);
+        } else if (node instanceof Leaf leaf) {
+            for (IValue value : leaf.values) {
+                builder.add((V) value);
+            }
+        }
+    }
+
+    protected static int size(@Nullable Node node) {
+        return node == null ? 0 : node.size();
+    }
+
+    protected static int height(@Nullable Node node) {
+        return node == null ? -1 : node.height();
+    }
+
+    /**
+     * Build a perfectly balanced tree from the given elements.
+     * @param elements The elements.
+     * @return The root node, or null if there are no elements.
+     */
+    @Nullable
+    protected static Node build(IValue[] elements) {
+        if (elements.length == 0) {
+            return null;
+        }
+        Node[] nodes = new Node[(elements.length + CHUNK_SIZE - 1) / CHUNK_SIZE];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Leaf(Arrays.copyOfRange(elements, i * CHUNK_SIZE, Math.min(elements.length, (i + 1) * CHUNK_SIZE)));
+        }
+        return build(nodes, 0, nodes.length);
+    }
+
+    protected static Node build(Node[] nodes, int from, int to) {
+        if (to - from == 1) {
+            return nodes[from];
+        }
+        int middle = (from + to) >>> 1;
+        return new Branch(build(nodes, from, middle), build(nodes, middle, to));
+    }
+
+    /**
+     * Concatenate two trees, while keeping the result balanced.
+     * Adjacent small chunks are merged, so that repeated appends do not create a chunk per element.
+     * @param left The left tree.
+     * @param right The right tree.
+     * @return The concatenated tree.
+     */
+    @Nullable
+    protected static Node join(@Nullable Node left, @Nullable Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left instanceof Leaf leftLeaf && right instanceof Leaf rightLeaf
+                && leftLeaf.values.length + rightLeaf.values.length <= CHUNK_SIZE) {
+            IValue[] values = Arrays.copyOf(leftLeaf.values, leftLeaf.values.length + rightLeaf.values.length);
+            System.arraycopy(rightLeaf.values, 0, values, leftLeaf.values.length, rightLeaf.values.length);
+            return new Leaf(values);
+        }
+        int leftHeight = left.height();
+        int rightHeight = right.height();
+        if (leftHeight > rightHeight + 1) {
+            Branch leftBranch = (Branch) left;
+            return balance(leftBranch.left, join(leftBranch.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            Branch rightBranch = (Branch) right;
+            return balance(join(left, rightBranch.left), rightBranch.right);
+        }
+        return new Branch(left, right);
+    }
+
+    protected static Node balance(Node left, Node right) {
+        int leftHeight = left.height();
+        int rightHeight = right.height();
+        if (rightHeight > leftHeight + 1) {
+            Branch rightBranch = (Branch) right;
+            if (height(rightBranch.right) >= height(rightBranch.left)) {
+                return new Branch(new Branch(left, rightBranch.left), rightBranch.right);
+            }
+            Branch rightLeft = (Branch) rightBranch.left;
+            return new Branch(new Branch(left, rightLeft.left), new Branch(rightLeft.right, rightBranch.right));
+        }
+        if (leftHeight > rightHeight + 1) {
+            Branch leftBranch = (Branch) left;
+            if (height(leftBranch.left) >= height(leftBranch.right)) {
+                return new Branch(leftBranch.left, new Branch(leftBranch.right, right));
+            }
+            Branch leftRight = (Branch) leftBranch.right;
+            return new Branch(new Branch(leftBranch.left, leftRight.left), new Branch(leftRight.right, right));
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Split a tree at the given index.
+     * @param node A tree.
+     * @param index An index within [0, size].
+     * @return A pair of the tree before the index, and the tree from the index on.
+     */
+    protected static Node[] split(@Nullable Node node, int index) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (index <= 0) {
+            return new Node[]{null, node};
+        }
+        if (index >= node.size()) {
+            return new Node[]{node, null};
+        }
+        if (node instanceof Leaf leaf) {
+            return new Node[]{
+                    new Leaf(Arrays.copyOfRange(leaf.values, 0, index)),
+                    new Leaf(Arrays.copyOfRange(leaf.values, index, leaf.values.length))
+            };
+        }
+        Branch branch = (Branch) node;
+        int leftSize = branch.left.size();
+        if (index < leftSize) {
+            Node[] parts = split(branch.left, index);
+            return new Node[]{parts[0], join(parts[1], branch.right)};
+        }
+        Node[] parts = split(branch.right, index - leftSize);
+        return new Node[]{join(branch.left, parts[0]), parts[1]};
+    }
+
+    protected static abstract class Node {
+        public abstract int size();
+        public abstract int height();
+    }
+
+    protected static class Leaf extends Node {
+        private final IValue[] values;
+
+        public Leaf(IValue[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int height() {
+            return 0;
+        }
+    }
+
+    protected static class Branch extends Node {
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        public Branch(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+            this.size = left.size() + right.size();
+            this.height = Math.max(left.height(), right.height()) + 1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int height() {
+            return height;
+        }
+    }
+
+    /**
+     * Serializes vectors flat, in the same format as materialized lists.
+     */
+    public static class Factory implements IValueTypeListProxyFactoryTypeRegistry.IProxyFactory<IValueType<IValue>, IValue, ValueTypeListProxyVector<IValueType<IValue>, IValue>> {
+
+        @Override
+        public ResourceLocation getName() {
+            return ResourceLocation.fromNamespaceAndPath(Reference.MOD_ID, "vector");
+        }
+
+        @Override
+        public Tag serialize(ValueDeseralizationContext valueDeseralizationContext, ValueTypeListProxyVector<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            return ValueTypeListProxyFactories.MATERIALIZED.serialize(valueDeseralizationContext,
+                    new ValueTypeListProxyMaterialized<>(values.getValueType(), values.toList()));
+        }
+
+        @Override
+        public ValueTypeListProxyVector<IValueType<IValue>, IValue> deserialize(ValueDeseralizationContext valueDeseralizationContext, Tag value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.MATERIALIZED.deserialize(valueDeseralizationContext, value);
+            try {
+                return ValueTypeListProxyVector.of(list);
+            } catch (EvaluationException e) {
+                throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+            }
+        }
+    }
+}
@@ -166,6 +166,9 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
     @ToString
     public static class ValueLong extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+
         private final long value;
 
         private ValueLong(long value) {
@@ -174,6 +177,10 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         }
 
         public static ValueLong of(long value) {
+            // The type must be checked, as values may be created while value types are still being registered.
+            if (value >= CACHE_LOW && value <= CACHE_HIGH && ValueTypes.LONG != null) {
+                return Cache.VALUES[(int) value - CACHE_LOW];
+            }
             return new ValueLong(value);
         }
 
@@ -190,6 +197,19 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         public int hashCode() {
             return getType().hashCode() + (int) value;
         }
+
+        /**
+         * Shared instances for commonly used small values.
+         */
+        private static class Cache {
+            private static final ValueLong[] VALUES = new ValueLong[CACHE_HIGH - CACHE_LOW + 1];
+
+            static {
+                for (int i = 0; i < VALUES.length; i++) {
+                    VALUES[i] = new ValueLong(i + CACHE_LOW);
+                }
+            }
+        }
     }
 
 }
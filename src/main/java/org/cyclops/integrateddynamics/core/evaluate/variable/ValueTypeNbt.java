@@ -15,6 +15,7 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNamed;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNullable;
 import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.core.helper.NbtHelpers;
 
 import javax.annotation.Nullable;
 import java.util.Optional;
@@ -93,7 +94,7 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt>
                 if (compountTag.contains(key)) {
                     if (!copied) {
                         copied = true;
-                        compountTag = compountTag.copy();
+                        compountTag = NbtHelpers.copyShallow(compountTag);
                     }
                     compountTag.remove(key);
                 }
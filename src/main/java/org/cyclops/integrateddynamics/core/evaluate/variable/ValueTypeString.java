@@ -1,6 +1,5 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import lombok.ToString;
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
@@ -11,6 +10,9 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeNamed;
 import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 /**
  * Value type with values that are strings.
  * @author rubensworks
@@ -57,32 +59,124 @@ public class ValueTypeString extends ValueTypeBase<ValueTypeString.ValueString>
         return a.getRawValue();
     }
 
-    @ToString
+    /**
+     * A string value.
+     *
+     * Values that are the result of concatenating long strings are stored as a rope of their two parts,
+     * which is only flattened into a single string once its contents are needed,
+     * so that repeatedly appending to a string does not copy the whole string each time.
+     */
     public static class ValueString extends ValueBase {
 
-        private final String value;
+        /**
+         * Concatenations of which the result is not longer than this are flattened immediately.
+         */
+        protected static final int ROPE_THRESHOLD = 64;
+
+        private final int length;
+        // The parts are released once the value is flattened, which always happens after the value is set.
+        private volatile ValueString left;
+        private volatile ValueString right;
+        private volatile String value;
 
         private ValueString(String value) {
             super(ValueTypes.STRING);
+            this.length = value.length();
+            this.left = null;
+            this.right = null;
             this.value = value;
         }
 
+        private ValueString(ValueString left, ValueString right) {
+            super(ValueTypes.STRING);
+            this.length = Math.addExact(left.length(), right.length());
+            this.left = left;
+            this.right = right;
+            this.value = null;
+        }
+
         public static ValueString of(String value) {
             return new ValueString(value);
         }
 
+        /**
+         * Concatenate this string with another string, without necessarily copying their contents.
+         * @param other The string to append.
+         * @return The concatenated string.
+         */
+        public ValueString concat(ValueString other) {
+            if (other.length() == 0) {
+                return this;
+            }
+            if (this.length() == 0) {
+                return other;
+            }
+            if (this.length() + other.length() <= ROPE_THRESHOLD) {
+                return of(this.getRawValue() + other.getRawValue());
+            }
+            return new ValueString(this, other);
+        }
+
+        /**
+         * @return The length of this string, which does not require the string to be flattened.
+         */
+        public int length() {
+            return length;
+        }
+
         public String getRawValue() {
+            String value = this.value;
+            if (value == null) {
+                value = flatten();
+                this.value = value;
+                this.left = null;
+                this.right = null;
+            }
             return value;
         }
 
+        /**
+         * Build the string of this rope without recursion, as ropes built by reductions can be very deep.
+         * @return The flattened string.
+         */
+        protected String flatten() {
+            StringBuilder sb = new StringBuilder(length);
+            Deque<ValueString> stack = new ArrayDeque<>();
+            stack.push(this);
+            while (!stack.isEmpty()) {
+                ValueString node = stack.pop();
+                String nodeValue = node.value;
+                if (nodeValue != null) {
+                    sb.append(nodeValue);
+                } else {
+                    ValueString left = node.left;
+                    ValueString right = node.right;
+                    if (left == null || right == null) {
+                        // The node was flattened concurrently, so its value is available now
+                        sb.append(node.value);
+                    } else {
+                        stack.push(right);
+                        stack.push(left);
+                    }
+                }
+            }
+            return sb.toString();
+        }
+
         @Override
         public boolean equals(Object o) {
-            return o instanceof ValueString && ((ValueString) o).value.equals(this.value);
+            return o instanceof ValueString other && other.length() == this.length()
+                    && other.getRawValue().equals(this.getRawValue());
         }
 
         @Override
         public int hashCode() {
-            return getType().hashCode() + value.hashCode();
+            return getType().hashCode() + getRawValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ValueTypeString.ValueString(value=" + getRawValue() + ")";
         }
     }
 
@@ -87,11 +87,48 @@ public class NbtHelpers {
     public static CompoundTag union(CompoundTag... tags) {
         CompoundTag tag = new CompoundTag();
         for (CompoundTag inputTag : tags) {
-            tag.merge(inputTag);
+            mergeShared(tag, inputTag);
         }
         return tag;
     }
 
+    /**
+     * Add all entries of the source tag to the target tag, merging nested compound tags recursively.
+     * Unlike {@link CompoundTag#merge(CompoundTag)}, entries are not copied but shared with the source tag.
+     * @param target A tag that may be modified.
+     * @param source A tag that will not be modified.
+     */
+    protected static void mergeShared(CompoundTag target, CompoundTag source) {
+        for (String key : source.getAllKeys()) {
+            Tag value = source.get(key);
+            if (value instanceof CompoundTag sourceCompound && target.get(key) instanceof CompoundTag targetCompound) {
+                CompoundTag merged = copyShallow(targetCompound);
+                mergeShared(merged, sourceCompound);
+                target.put(key, merged);
+            } else {
+                target.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Create a copy of the given tag that can be modified without affecting the original tag,
+     * as long as only its direct entries are added, replaced or removed.
+     *
+     * Tags inside NBT values are never modified, which is why nested tags can be shared with the original tag.
+     * This avoids deep copies when values are derived from large NBT tags one entry at a time.
+     *
+     * @param tag An NBT tag.
+     * @return A shallow copy of the tag.
+     */
+    public static CompoundTag copyShallow(CompoundTag tag) {
+        CompoundTag copy = new CompoundTag();
+        for (String key : tag.getAllKeys()) {
+            copy.put(key, tag.get(key));
+        }
+        return copy;
+    }
+
     /**
      * Create a new NBT tag that contains the entries that are present in all given tags.
      * If nested tags are present, these will be intersected recursively.
@@ -105,7 +142,7 @@ public class NbtHelpers {
         CompoundTag tag = null;
         for (CompoundTag inputTag : tags) {
             if (tag == null) {
-                tag = inputTag.copy();
+                tag = copyShallow(inputTag);
             } else {
                 Set<String> keys = Sets.newHashSet(tag.getAllKeys());
                 for (String key : keys) {
@@ -129,7 +166,7 @@ public class NbtHelpers {
      * @return A new tag containing the entries of a minus b.
      */
     public static CompoundTag minus(CompoundTag a, CompoundTag b) {
-        CompoundTag tag = a.copy();
+        CompoundTag tag = copyShallow(a);
         for (String key : b.getAllKeys()) {
             int type = b.get(key).getId();
             if (tag.contains(key, type)) {
@@ -38,7 +38,7 @@ public class ExtendedIngredientsList<T, M> extends WrappedIngredients {
 
     @Override
     public <T2> List<T2> getInstances(IngredientComponent<T2, ?> ingredientComponent) {
-        List<T2> superList = super.getInstances(ingredientComponent);
-        return forComponent(ingredientComponent) ? (List<T2>) this.instances : superList;
+        // Our instances fully replace those of the base, so the base does not have to be consulted
+        return forComponent(ingredientComponent) ? (List<T2>) this.instances : super.getInstances(ingredientComponent);
     }
 }
@@ -23,7 +23,6 @@ import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.client.model.VariableModelProviders;
-import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
@@ -66,7 +65,8 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
     public <V extends IValue> IVariable<V> getVariable(INetwork network, IPartNetwork partNetwork) {
         if(isValid()) {
             int newNetworkHash = network != null ? network.hashCode() : -1;
-            if(expression == null || expression.hasErrored() || newNetworkHash != this.lastNetworkHash) {
+            // Expressions that remember their failure are kept, as they are only retried once their inputs change
+            if(expression == null || (expression.hasErrored() && expression.getError() == null) || newNetworkHash != this.lastNetworkHash) {
                 this.lastNetworkHash = newNetworkHash;
                 IVariable[] variables = new IVariable[variableIds.length];
                 for (int i = 0; i < variableIds.length; i++) {
@@ -88,7 +88,7 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
                         return null;
                     }
                 }
-                expression = new LazyExpression(getId(), operator, variables, partNetwork);
+                expression = partNetwork.getExpression(getId(), operator, variables);
             }
             return expression;
         }
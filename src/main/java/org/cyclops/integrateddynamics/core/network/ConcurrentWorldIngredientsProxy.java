@@ -8,6 +8,7 @@ import org.cyclops.cyclopscore.helper.BlockEntityHelpers;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,6 +59,51 @@ public class ConcurrentWorldIngredientsProxy<T, M> {
         return value;
     }
 
+    /**
+     * @param pos A position.
+     * @return The last known inventory state at the given position, without marking it as read.
+     */
+    @Nullable
+    public Integer getKnownInventoryState(PartPos pos) {
+        return this.states.get(pos);
+    }
+
+    /**
+     * @param pos A position.
+     * @return The last known instances at the given position, without marking them as read.
+     */
+    @Nullable
+    public Collection<T> getKnownInstances(PartPos pos) {
+        return this.instances.get(pos);
+    }
+
+    /**
+     * Pre-fill the given position with previously persisted data.
+     * This data will only be validated against the world once it has been read.
+     * @param pos A position.
+     * @param state The persisted inventory state, or null if the position exposes no state.
+     * @param instances The persisted instances.
+     */
+    public void setSnapshot(PartPos pos, @Nullable Integer state, Collection<T> instances) {
+        if (state != null) {
+            this.states.put(pos, state);
+        }
+        this.instances.put(pos, instances);
+    }
+
+    /**
+     * Read the current inventory state at the given position from the world.
+     * @param pos A position.
+     * @return The inventory state, or null if the position exposes no state.
+     */
+    @Nullable
+    protected Integer readInventoryState(PartPos pos) {
+        return BlockEntityHelpers
+                .getCapability(pos.getPos(), pos.getSide(), Capabilities.InventoryState.BLOCK)
+                .map(IInventoryState::getState)
+                .orElse(null);
+    }
+
     protected Collection<PartPos> getPositions() {
         return Lists.newArrayList(getNetwork().getPositions());
     }
@@ -79,15 +125,12 @@ public class ConcurrentWorldIngredientsProxy<T, M> {
 
             // Fetch inventory states
             if (this.readStates.contains(pos) || !this.states.containsKey(pos)) {
-                IInventoryState inventoryState = BlockEntityHelpers
-                        .getCapability(pos.getPos(), pos.getSide(), Capabilities.InventoryState.BLOCK)
-                        .orElse(null);
-                if (inventoryState != null) {
-                    int newState = inventoryState.getState();
+                Integer newState = readInventoryState(pos);
+                if (newState != null) {
                     Integer previousState = this.states.put(pos, newState);
 
                     // If we find a state change, make sure that we also reload the instances in this iteration
-                    if (previousState == null || newState != previousState) {
+                    if (previousState == null || !newState.equals(previousState)) {
                         this.readInstances.add(pos);
                     }
                 } else {
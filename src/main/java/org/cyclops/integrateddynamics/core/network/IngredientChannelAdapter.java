@@ -15,6 +15,7 @@ import org.cyclops.integrateddynamics.api.network.PositionedAddonsNetworkIngredi
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -107,6 +108,30 @@ public abstract class IngredientChannelAdapter<T, M> implements INetworkIngredie
         return sum;
     }
 
+    /**
+     * Check if the given filter rejects all ingredients that match the given prototype,
+     * without testing any ingredient.
+     * @param filter An optional filter.
+     * @param component The ingredient component.
+     * @param prototype The prototype to match.
+     * @param matchFlags The match flags.
+     * @param <T> The instance type.
+     * @param <M> The matching condition parameter.
+     * @return If the position of the filter can be skipped.
+     */
+    public static <T, M> boolean rejectsMatches(@Nullable PositionedAddonsNetworkIngredientsFilter<T> filter,
+                                                IngredientComponent<T, M> component, T prototype, M matchFlags) {
+        if (filter == null) {
+            return false;
+        }
+        IIngredientMatcher<T, M> matcher = component.getMatcher();
+        if (matcher.hasCondition(matchFlags, matcher.getExactMatchNoQuantityCondition())) {
+            // All matches are equal to the prototype, except for their quantity
+            return filter.rejectsPrototype(prototype, true);
+        }
+        return filter.rejectsAll(true);
+    }
+
     protected Pair<IPartPosIteratorHandler, Iterator<PartPos>> getPartPosIteratorData(Supplier<Iterator<PartPos>> iteratorSupplier, int channel) {
         IPartPosIteratorHandler handler = network.getPartPosIteratorHandler();
         if (handler == null) {
@@ -211,12 +236,17 @@ public abstract class IngredientChannelAdapter<T, M> implements INetworkIngredie
                 continue;
             }
 
+            // Skip if a filter was set that doesn't allow any extractions
+            PositionedAddonsNetworkIngredientsFilter<T> filter = this.network.getPositionedStorageFilter(pos);
+            if (filter != null && filter.rejectsAll(true)) {
+                continue;
+            }
+
             // Obtain storage
             this.network.disablePosition(pos);
             IIngredientComponentStorage<T, M> positionedStorage = this.network.getPositionedStorage(pos);
 
             // If we do an effective extraction, first simulate to check if it matches the filter
-            PositionedAddonsNetworkIngredientsFilter<T> filter = this.network.getPositionedStorageFilter(pos);
             if (filter != null && !simulate) {
                 T extractedSimulated = positionedStorage.extract(maxQuantity, true);
                 if (!filter.testExtraction(extractedSimulated)) {
@@ -295,6 +325,12 @@ public abstract class IngredientChannelAdapter<T, M> implements INetworkIngredie
                 continue;
             }
 
+            // Skip if a filter was set that doesn't allow extracting anything matching our prototype
+            PositionedAddonsNetworkIngredientsFilter<T> filter = this.network.getPositionedStorageFilter(pos);
+            if (rejectsMatches(filter, getComponent(), prototypeFinal, finalMatchFlags)) {
+                continue;
+            }
+
             // Do a simulated extraction
             this.network.disablePosition(pos);
             T extractedSimulated = this.network.getPositionedStorage(pos).extract(prototypeFinal, finalMatchFlags, true);
@@ -302,7 +338,6 @@ public abstract class IngredientChannelAdapter<T, M> implements INetworkIngredie
             T storagePrototype = getComponent().getMatcher().withQuantity(extractedSimulated, 1);
 
             // Skip if a filter was set that doesn't match the simulated extraction
-            PositionedAddonsNetworkIngredientsFilter<T> filter = this.network.getPositionedStorageFilter(pos);
             if (filter != null && !filter.testExtraction(extractedSimulated)) {
                 continue;
             }
@@ -6,6 +6,7 @@ import org.cyclops.integrateddynamics.api.network.PositionedAddonsNetworkIngredi
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
 import javax.annotation.Nonnull;
+import java.util.Collections;
 import java.util.Iterator;
 
 /**
@@ -80,8 +81,13 @@ public class IngredientChannelPositioned<T, M> extends IngredientChannelAdapter<
                     if (!pos.getPos().isLoaded()) {
                         continue;
                     }
-                    this.lastPos = this.network.getPositionedStorage(pos).iterator(prototype, matchFlags);
+                    // Skip if a filter was set that doesn't allow any matching ingredients to be viewed
                     PositionedAddonsNetworkIngredientsFilter<T> filter = this.network.getPositionedStorageFilter(pos);
+                    if (IngredientChannelAdapter.rejectsMatches(filter, this.network.getComponent(), prototype, matchFlags)) {
+                        this.lastPos = Collections.emptyIterator();
+                        continue;
+                    }
+                    this.lastPos = this.network.getPositionedStorage(pos).iterator(prototype, matchFlags);
                     if (filter != null) {
                         this.lastPos = Iterators.filter(this.lastPos, filter::testView);
                     }
@@ -0,0 +1,130 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import org.cyclops.commoncapabilities.api.ingredient.IIngredientMatcher;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.ingredient.IIngredientComponentHandler;
+import org.cyclops.integrateddynamics.api.network.PositionedAddonsNetworkIngredientsFilter;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.ingredient.IngredientComponentHandlers;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Factories for compiled ingredient network filters,
+ * to be used for {@link org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients#setPositionedStorageFilter}.
+ * @author rubensworks
+ */
+public class IngredientFilters {
+
+    /**
+     * Create a filter that only accepts ingredients that match one of the given prototypes exactly,
+     * ignoring quantities.
+     * Ingredients are checked with a single hash lookup,
+     * and positions with this filter are skipped when looking for other prototypes.
+     * @param component The ingredient component.
+     * @param prototypes The accepted prototypes.
+     * @param applyToInsertions If the filter should be used for insertions.
+     * @param applyToExtractions If the filter should be used for extractions.
+     * @param allowAllIfFilterNotApplied What to do if insertion or extraction application is disabled.
+     * @param <T> The instance type.
+     * @param <M> The matching condition parameter.
+     * @return A compiled filter.
+     */
+    public static <T, M> PositionedAddonsNetworkIngredientsFilter<T> ofPrototypes(IngredientComponent<T, M> component, Collection<T> prototypes,
+                                                                                 boolean applyToInsertions, boolean applyToExtractions,
+                                                                                 boolean allowAllIfFilterNotApplied) {
+        Function<T, ?> prototypeKey = instance -> new PrototypeKey<>(component, component.getMatcher().withQuantity(instance, 1));
+        Set<Object> acceptedKeys = Sets.newHashSet();
+        for (T prototype : prototypes) {
+            acceptedKeys.add(prototypeKey.apply(prototype));
+        }
+        return new PositionedAddonsNetworkIngredientsFilter<>(instance -> acceptedKeys.contains(prototypeKey.apply(instance)),
+                applyToInsertions, applyToExtractions, allowAllIfFilterNotApplied, prototypeKey, acceptedKeys);
+    }
+
+    /**
+     * Create a filter that accepts ingredients for which the given predicate operator returns true.
+     * @param component The ingredient component.
+     * @param predicate A predicate operator.
+     * @param applyToInsertions If the filter should be used for insertions.
+     * @param applyToExtractions If the filter should be used for extractions.
+     * @param allowAllIfFilterNotApplied What to do if insertion or extraction application is disabled.
+     * @param <T> The instance type.
+     * @param <M> The matching condition parameter.
+     * @return A filter, that memoizes its results per ingredient if the predicate is pure.
+     */
+    public static <T, M> PositionedAddonsNetworkIngredientsFilter<T> ofPredicate(IngredientComponent<T, M> component, IOperator predicate,
+                                                                                boolean applyToInsertions, boolean applyToExtractions,
+                                                                                boolean allowAllIfFilterNotApplied) {
+        IIngredientComponentHandler<IValueType<IValue>, IValue, T, M> componentHandler = IngredientComponentHandlers.REGISTRY.getComponentHandler(component);
+        return ofPredicate(predicate, componentHandler::toValue, instance -> new PrototypeKey<>(component, instance),
+                applyToInsertions, applyToExtractions, allowAllIfFilterNotApplied);
+    }
+
+    /**
+     * Create a filter that accepts ingredients for which the given predicate operator returns true.
+     * @param predicate A predicate operator.
+     * @param toValue A function to convert ingredients to values.
+     * @param prototypeKey A function that maps ingredients to a key that equals for equal ingredients.
+     *                     This is only used if the predicate is pure.
+     * @param applyToInsertions If the filter should be used for insertions.
+     * @param applyToExtractions If the filter should be used for extractions.
+     * @param allowAllIfFilterNotApplied What to do if insertion or extraction application is disabled.
+     * @param <T> The instance type.
+     * @return A filter, that memoizes its results per key if the predicate is pure.
+     */
+    public static <T> PositionedAddonsNetworkIngredientsFilter<T> ofPredicate(IOperator predicate, Function<T, IValue> toValue,
+                                                                             @Nullable Function<T, ?> prototypeKey,
+                                                                             boolean applyToInsertions, boolean applyToExtractions,
+                                                                             boolean allowAllIfFilterNotApplied) {
+        return new PositionedAddonsNetworkIngredientsFilter<>(instance -> {
+            try {
+                IValue result = ValueHelpers.evaluateOperator(predicate, toValue.apply(instance));
+                ValueHelpers.validatePredicateOutput(predicate, result);
+                return ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+            } catch (EvaluationException e) {
+                return false;
+            }
+        }, applyToInsertions, applyToExtractions, allowAllIfFilterNotApplied, predicate.isPure() ? prototypeKey : null, null);
+    }
+
+    /**
+     * A key for ingredient instances that uses the component's matcher for equality.
+     * @param <T> The instance type.
+     * @param <M> The matching condition parameter.
+     */
+    public static final class PrototypeKey<T, M> {
+
+        private final IngredientComponent<T, M> component;
+        private final T instance;
+
+        public PrototypeKey(IngredientComponent<T, M> component, T instance) {
+            this.component = component;
+            this.instance = instance;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PrototypeKey<?, ?> that) || this.component != that.component) {
+                return false;
+            }
+            IIngredientMatcher<T, M> matcher = this.component.getMatcher();
+            return matcher.matchesExactly(this.instance, (T) that.instance);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.component.getMatcher().hash(this.instance);
+        }
+    }
+
+}
@@ -5,9 +5,14 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.ListTag;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import net.neoforged.neoforge.server.ServerLifecycleHooks;
@@ -22,6 +27,8 @@ import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -52,14 +59,26 @@ public class IngredientObserver<T, M> {
     private final IPositionedAddonsNetworkIngredients<T, M> network;
     private final ConcurrentWorldIngredientsProxy<T, M> worldProxy;
 
+    private static final int TICK_UNSET = Integer.MIN_VALUE;
+    private static final int INTERVAL_UNSET = 0;
+
     private final Set<IIngredientComponentStorageObservable.IIndexChangeObserver<T, M>> changeObservers;
-    private final Int2ObjectMap<Map<PartPos, Integer>> observeTargetTickIntervals;
-    private final Int2ObjectMap<Map<PartPos, Integer>> observeTargetTicks;
+    // Each known position is assigned a dense slot, which is used as index in all per-position arrays below.
+    private final Object2IntMap<PartPos> positionSlots;
+    private final IntArrayList freePositionSlots;
+    private final List<PartPos> pendingSlotReleases;
+    private final Int2ObjectMap<int[]> observeTargetTickIntervals;
+    private final Int2ObjectMap<int[]> observeTargetTicks;
     private final Int2ObjectMap<Map<PrioritizedPartPos, IngredientCollectionDiffManager<T, M>>> channeledDiffManagers;
     private final Int2ObjectMap<Set<PartPos>> pendingTickResets;
+    private final Int2ObjectMap<List<PrioritizedPartPos>> positionBuffers;
+    private final Int2ObjectMap<int[]> positionSlotBuffers;
 
     private final Int2ObjectMap<List<PrioritizedPartPos>> lastRemoved;
-    private final Map<PartPos, Integer> lastInventoryStates;
+    private int[] lastInventoryStates;
+    private boolean[] lastInventoryStatesPresent;
+    private final Map<PrioritizedPartPos, IngredientPositionSnapshot<T>> snapshots;
+    private final List<IngredientPositionSnapshot<T>> pendingSnapshots;
     private Future<?> lastObserverBarrier;
     private boolean runningObserverSync;
     private boolean initialObservation;
@@ -68,12 +87,21 @@ public class IngredientObserver<T, M> {
         this.network = network;
         this.worldProxy = new ConcurrentWorldIngredientsProxy<>(network);
         this.changeObservers = Sets.newIdentityHashSet();
+        this.positionSlots = new Object2IntOpenHashMap<>();
+        this.positionSlots.defaultReturnValue(-1);
+        this.freePositionSlots = new IntArrayList();
+        this.pendingSlotReleases = Lists.newArrayList();
         this.observeTargetTickIntervals = new Int2ObjectOpenHashMap<>();
         this.observeTargetTicks = new Int2ObjectOpenHashMap<>();
         this.channeledDiffManagers = new Int2ObjectOpenHashMap<>();
         this.pendingTickResets = new Int2ObjectOpenHashMap<>();
+        this.positionBuffers = new Int2ObjectOpenHashMap<>();
+        this.positionSlotBuffers = new Int2ObjectOpenHashMap<>();
         this.lastRemoved = new Int2ObjectOpenHashMap<>();
-        this.lastInventoryStates = Maps.newHashMap();
+        this.lastInventoryStates = new int[0];
+        this.lastInventoryStatesPresent = new boolean[0];
+        this.snapshots = Maps.newHashMap();
+        this.pendingSnapshots = Lists.newArrayList();
 
         this.lastObserverBarrier = null;
         this.runningObserverSync = false;
@@ -92,11 +120,168 @@ public class IngredientObserver<T, M> {
     public void onPositionRemoved(int channel, PrioritizedPartPos pos) {
         List<PrioritizedPartPos> positions = this.lastRemoved.get(channel);
         if (positions == null) {
-            positions = Lists.newLinkedList();
+            positions = Lists.newArrayList();
             this.lastRemoved.put(channel, positions);
         }
         positions.add(pos);
-        this.lastInventoryStates.remove(pos.getPartPos());
+        // Slots are only released when no observation is running, as they may be reused by other positions.
+        this.pendingSlotReleases.add(pos.getPartPos());
+    }
+
+    /**
+     * Get the dense slot of the given position, or assign a new one if none exists yet.
+     * @param pos A position.
+     * @return A slot index.
+     */
+    protected synchronized int getPositionSlot(PartPos pos) {
+        int slot = this.positionSlots.getInt(pos);
+        if (slot < 0) {
+            slot = this.freePositionSlots.isEmpty() ? this.positionSlots.size() : this.freePositionSlots.popInt();
+            this.positionSlots.put(pos, slot);
+            ensureSlotCapacity(slot + 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Make sure that all per-position arrays can hold the given number of slots.
+     * @param capacity The minimal slot capacity.
+     */
+    protected synchronized void ensureSlotCapacity(int capacity) {
+        if (capacity > this.lastInventoryStates.length) {
+            int newCapacity = Math.max(capacity, Math.max(16, this.lastInventoryStates.length * 2));
+            this.lastInventoryStates = Arrays.copyOf(this.lastInventoryStates, newCapacity);
+            this.lastInventoryStatesPresent = Arrays.copyOf(this.lastInventoryStatesPresent, newCapacity);
+            for (Int2ObjectMap.Entry<int[]> entry : this.observeTargetTicks.int2ObjectEntrySet()) {
+                entry.setValue(growSlots(entry.getValue(), newCapacity, TICK_UNSET));
+            }
+            for (Int2ObjectMap.Entry<int[]> entry : this.observeTargetTickIntervals.int2ObjectEntrySet()) {
+                entry.setValue(growSlots(entry.getValue(), newCapacity, INTERVAL_UNSET));
+            }
+        }
+    }
+
+    protected static int[] growSlots(int[] slots, int capacity, int unsetValue) {
+        int oldLength = slots.length;
+        int[] newSlots = Arrays.copyOf(slots, capacity);
+        Arrays.fill(newSlots, oldLength, capacity, unsetValue);
+        return newSlots;
+    }
+
+    protected synchronized int[] getChannelSlots(Int2ObjectMap<int[]> channeledSlots, int channel, int unsetValue) {
+        int[] slots = channeledSlots.get(channel);
+        if (slots == null) {
+            slots = new int[this.lastInventoryStates.length];
+            Arrays.fill(slots, unsetValue);
+            channeledSlots.put(channel, slots);
+        }
+        return slots;
+    }
+
+    /**
+     * Release the slots of all removed positions, so that they can be reused.
+     * This may only be called when no observation job is running.
+     */
+    protected synchronized void releasePendingSlots() {
+        for (PartPos pos : this.pendingSlotReleases) {
+            int slot = this.positionSlots.removeInt(pos);
+            if (slot >= 0) {
+                this.lastInventoryStatesPresent[slot] = false;
+                for (int[] ticks : this.observeTargetTicks.values()) {
+                    ticks[slot] = TICK_UNSET;
+                }
+                for (int[] intervals : this.observeTargetTickIntervals.values()) {
+                    intervals[slot] = INTERVAL_UNSET;
+                }
+                this.freePositionSlots.add(slot);
+            }
+        }
+        this.pendingSlotReleases.clear();
+    }
+
+    public void onPositionAdded(int channel, PrioritizedPartPos pos) {
+        // Only use a persisted snapshot if it was taken for the same channel.
+        IngredientPositionSnapshot<T> snapshot = this.snapshots.remove(pos);
+        if (snapshot != null && snapshot.getChannel() == channel) {
+            this.pendingSnapshots.add(snapshot);
+        }
+    }
+
+    /**
+     * Write the last known contents of all positions, so that they can be restored after loading.
+     * @param provider The holder lookup provider.
+     * @return A list of position snapshots.
+     */
+    public ListTag writeSnapshots(HolderLookup.Provider provider) {
+        ListTag list = new ListTag();
+        for (PrioritizedPartPos pos : getNetwork().getPrioritizedPositions()) {
+            Collection<T> instances = this.worldProxy.getKnownInstances(pos.getPartPos());
+            if (instances != null) {
+                int channel = getNetwork().getPositionChannel(pos.getPartPos());
+                Integer state = this.worldProxy.getKnownInventoryState(pos.getPartPos());
+                list.add(new IngredientPositionSnapshot<>(channel, pos, state, instances)
+                        .toNBT(provider, getNetwork().getComponent()));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Read persisted position snapshots.
+     * These will be applied once their positions are added to the network,
+     * and will be discarded after the initial observation.
+     * @param provider The holder lookup provider.
+     * @param list A list of position snapshots.
+     */
+    public void readSnapshots(HolderLookup.Provider provider, ListTag list) {
+        for (int i = 0; i < list.size(); i++) {
+            IngredientPositionSnapshot<T> snapshot = IngredientPositionSnapshot
+                    .fromNBT(provider, getNetwork().getComponent(), list.getCompound(i));
+            if (snapshot != null) {
+                this.snapshots.put(snapshot.getPos(), snapshot);
+            }
+        }
+    }
+
+    /**
+     * Load all pending snapshots into the index.
+     * This may only be called when no observation job is running.
+     */
+    protected void applyPendingSnapshots() {
+        for (IngredientPositionSnapshot<T> snapshot : this.pendingSnapshots) {
+            int channel = snapshot.getChannel();
+            PrioritizedPartPos pos = snapshot.getPos();
+            Map<PrioritizedPartPos, IngredientCollectionDiffManager<T, M>> diffManagers = this.channeledDiffManagers.get(channel);
+            if (diffManagers == null) {
+                diffManagers = Maps.newConcurrentMap();
+                this.channeledDiffManagers.put(channel, diffManagers);
+            }
+
+            // Skip positions that have already been observed in the meantime
+            if (!diffManagers.containsKey(pos)) {
+                IngredientCollectionDiffManager<T, M> diffManager = new IngredientCollectionDiffManager<>(network.getComponent());
+                diffManagers.put(pos, diffManager);
+                IngredientCollectionDiff<T, M> diff = diffManager.onChange(snapshot.getInstances().iterator());
+                if (diff.hasAdditions()) {
+                    this.emitEvent(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, pos,
+                            IIngredientComponentStorageObservable.Change.ADDITION, false, diff.getAdditions(), true), true);
+                }
+
+                // Subsequent observations will only rescan this position if its live state differs from the persisted one
+                if (snapshot.getInventoryState() != null) {
+                    int slot = getPositionSlot(pos.getPartPos());
+                    this.lastInventoryStates[slot] = snapshot.getInventoryState();
+                    this.lastInventoryStatesPresent[slot] = true;
+                }
+                this.worldProxy.setSnapshot(pos.getPartPos(), snapshot.getInventoryState(), snapshot.getInstances());
+            }
+        }
+        this.pendingSnapshots.clear();
+
+        // Snapshots of positions that were not added during the initial observation are outdated
+        if (!this.initialObservation) {
+            this.snapshots.clear();
+        }
     }
 
     /**
@@ -180,6 +365,8 @@ public class IngredientObserver<T, M> {
                 }
 
                 // Run the world proxy in the world thread
+                this.releasePendingSlots();
+                this.applyPendingSnapshots();
                 this.worldProxy.onWorldTick();
 
                 // Schedule the observation job
@@ -196,6 +383,8 @@ public class IngredientObserver<T, M> {
                 }
 
                 // Run the world proxy in the world thread
+                this.releasePendingSlots();
+                this.applyPendingSnapshots();
                 this.worldProxy.onWorldTick();
 
                 this.runningObserverSync = true;
@@ -209,27 +398,60 @@ public class IngredientObserver<T, M> {
         return true;
     }
 
-    protected synchronized Set<PrioritizedPartPos> getPositionsCopy(int channel) {
-        return Sets.newHashSet(getNetwork().getPrioritizedPositions(channel));
+    /**
+     * Copy the positions of the given channel into a buffer that is reused across observations,
+     * and make sure that all positions have a slot.
+     * @param channel A channel.
+     * @return The number of positions that were copied into the position and slot buffers.
+     */
+    protected synchronized int preparePositionBuffers(int channel) {
+        List<PrioritizedPartPos> positions = this.positionBuffers.get(channel);
+        if (positions == null) {
+            positions = Lists.newArrayList();
+            this.positionBuffers.put(channel, positions);
+        }
+        positions.clear();
+        for (PrioritizedPartPos pos : getNetwork().getPrioritizedPositions(channel)) {
+            positions.add(pos);
+        }
+
+        int[] slots = this.positionSlotBuffers.get(channel);
+        if (slots == null || slots.length < positions.size()) {
+            slots = new int[Math.max(16, positions.size() * 2)];
+            this.positionSlotBuffers.put(channel, slots);
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            slots[i] = getPositionSlot(positions.get(i).getPartPos());
+        }
+        return positions.size();
     }
 
     protected void observe(int channel, boolean forceSync) {
         int currentTick = getCurrentTick();
 
+        // Prepare positions and their slots
+        int positionsCount = preparePositionBuffers(channel);
+        List<PrioritizedPartPos> positions = this.positionBuffers.get(channel);
+        int[] positionSlotsBuffer = this.positionSlotBuffers.get(channel);
+
         // Prepare ticking collections
-        Map<PartPos, Integer> channelTargetTicks = observeTargetTicks.get(channel);
-        if (channelTargetTicks == null) {
-            channelTargetTicks = Maps.newHashMap();
-        }
-        Map<PartPos, Integer> channelIntervals = this.observeTargetTickIntervals.get(channel);
-        if (channelIntervals == null) {
-            channelIntervals = Maps.newHashMap();
+        // If these arrays are grown by another thread during this observation, updates to them are lost,
+        // which only causes the affected positions to be observed again in the next observation.
+        int[] channelTargetTicks;
+        int[] channelIntervals;
+        int[] lastInventoryStates;
+        boolean[] lastInventoryStatesPresent;
+        synchronized (this) {
+            channelTargetTicks = getChannelSlots(this.observeTargetTicks, channel, TICK_UNSET);
+            channelIntervals = getChannelSlots(this.observeTargetTickIntervals, channel, INTERVAL_UNSET);
+            lastInventoryStates = this.lastInventoryStates;
+            lastInventoryStatesPresent = this.lastInventoryStatesPresent;
         }
 
         // Calculate diff of all positions
         Map<PrioritizedPartPos, IngredientCollectionDiffManager<T, M>> diffManagers = this.channeledDiffManagers.get(channel);
         if (diffManagers == null) {
-            diffManagers = Maps.newHashMap();
+            diffManagers = Maps.newConcurrentMap();
             this.channeledDiffManagers.put(channel, diffManagers);
         }
 
@@ -241,146 +463,174 @@ public class IngredientObserver<T, M> {
             lastSecondDurations.clear();
         }
 
+        ChannelObservation observation = new ChannelObservation(channel, currentTick, positions, positionSlotsBuffer,
+                channelTargetTicks, channelIntervals, lastInventoryStates, lastInventoryStatesPresent, diffManagers,
+                isBeingDiagnozed, lastSecondDurations);
+
         // Emit diffs for all current positions
-        Set<PrioritizedPartPos> positions = getPositionsCopy(channel);
-        for (PrioritizedPartPos partPos : positions) {
-            // Get current time if diagnostics are enabled
-            long startTime = 0;
-            if (isBeingDiagnozed) {
-                startTime = System.nanoTime();
+        int shardSize = GeneralConfig.ingredientNetworkObserverShardSize;
+        if (GeneralConfig.ingredientNetworkObserverEnableMultithreading && !forceSync
+                && GeneralConfig.ingredientNetworkObserverThreads > 1 && positionsCount > shardSize) {
+            observeSharded(observation, positionsCount, shardSize);
+        } else {
+            for (int i = 0; i < positionsCount; i++) {
+                observePosition(observation, i, event -> this.emitEvent(event, forceSync));
             }
+        }
 
-            // Check if we should observe this position in this tick
-            int lastTick = channelTargetTicks.getOrDefault(partPos.getPartPos(), currentTick);
-            if (lastTick <= currentTick) {
-                // Remove this position from the pending tick reset set
-                synchronized (this.pendingTickResets) {
-                    Set<PartPos> pendingTickResetsChannel = this.pendingTickResets.get(channel);
-                    if (pendingTickResetsChannel != null) {
-                        pendingTickResetsChannel.remove(partPos.getPartPos());
-                        if (pendingTickResetsChannel.isEmpty()) {
-                            this.pendingTickResets.remove(channel);
-                        }
+        // Emit deletions for all removed positions
+        List<PrioritizedPartPos> lastRemovedPositions = this.lastRemoved.get(channel);
+        if (lastRemovedPositions != null) {
+            for (PrioritizedPartPos partPos : lastRemovedPositions) {
+                IngredientCollectionDiffManager<T, M> diffManager = diffManagers.get(partPos);
+                if (diffManager != null) {
+                    // Emit event of diff with *empty* iterator
+                    IngredientCollectionDiff<T, M> diff = diffManager.onChange(Iterators.forArray());
+                    // No additions are possible
+                    if (diff.hasDeletions()) {
+                        this.emitEvent(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
+                                IIngredientComponentStorageObservable.Change.DELETION, diff.isCompletelyEmpty(), diff.getDeletions(), this.initialObservation), forceSync);
                     }
                 }
+            }
+            this.lastRemoved.remove(channel);
+        }
+    }
 
-                // If an inventory state is exposed, check if it has changed since the last observation call.
-                boolean skipPosition = false;
+    /**
+     * Observe the positions of a channel in parallel, split in shards of consecutive positions.
+     * @see IngredientObserverShards
+     * @param observation The channel observation.
+     * @param positionsCount The number of positions to observe.
+     * @param shardSize The number of positions per shard.
+     */
+    protected void observeSharded(ChannelObservation observation, int positionsCount, int shardSize) {
+        IngredientObserverShards.observe(WORKER_POOL, GeneralConfig.ingredientNetworkObserverThreads, positionsCount, shardSize,
+                (i, eventConsumer) -> observePosition(observation, i, eventConsumer),
+                event -> this.emitEvent(event, false));
+    }
 
-                // Skip position forcefully if it is not loaded
-                if (!partPos.getPartPos().getPos().isLoaded()) {
-                    skipPosition = true;
-                }
+    /**
+     * Observe the position at the given index within a channel observation.
+     * This may be called for different positions of the same channel in parallel.
+     * @param observation The channel observation.
+     * @param i The index of the position within the observation.
+     * @param eventConsumer A consumer for the resulting change events.
+     */
+    protected void observePosition(ChannelObservation observation, int i,
+                                   Consumer<IIngredientComponentStorageObservable.StorageChangeEvent<T, M>> eventConsumer) {
+        int channel = observation.channel;
+        int currentTick = observation.currentTick;
+        PrioritizedPartPos partPos = observation.positions.get(i);
+        int slot = observation.positionSlots[i];
+
+        // Get current time if diagnostics are enabled
+        long startTime = 0;
+        if (observation.isBeingDiagnozed) {
+            startTime = System.nanoTime();
+        }
 
-                if (!skipPosition) {
-                    Optional<Integer> newInventoryStateBoxed = this.worldProxy.getInventoryState(partPos.getPartPos());
-                    if (newInventoryStateBoxed.isPresent()) {
-                        Integer lastState = this.lastInventoryStates.get(partPos.getPartPos());
-                        int newState = newInventoryStateBoxed.get();
-                        if (lastState != null && lastState == newState) {
-                            // Skip this position if it hasn't not changed
-                            skipPosition = true;
-                        } else {
-                            this.lastInventoryStates.put(partPos.getPartPos(), newState);
-                        }
+        // Check if we should observe this position in this tick
+        int lastTick = observation.targetTicks[slot];
+        if (lastTick <= currentTick) {
+            // Remove this position from the pending tick reset set
+            synchronized (this.pendingTickResets) {
+                Set<PartPos> pendingTickResetsChannel = this.pendingTickResets.get(channel);
+                if (pendingTickResetsChannel != null) {
+                    pendingTickResetsChannel.remove(partPos.getPartPos());
+                    if (pendingTickResetsChannel.isEmpty()) {
+                        this.pendingTickResets.remove(channel);
                     }
                 }
+            }
 
-                if (!skipPosition) {
-                    IngredientCollectionDiffManager<T, M> diffManager = diffManagers.get(partPos);
-                    if (diffManager == null) {
-                        diffManager = new IngredientCollectionDiffManager<>(network.getComponent());
-                        diffManagers.put(partPos, diffManager);
-                    }
+            // If an inventory state is exposed, check if it has changed since the last observation call.
+            boolean skipPosition = false;
 
-                    // Emit event of diff
-                    Iterator<T> instances = this.worldProxy.getInstances(partPos.getPartPos()).iterator();
-                    IngredientCollectionDiff<T, M> diff = diffManager.onChange(instances);
-                    boolean hasChanges = false;
-                    if (diff.hasAdditions()) {
-                        hasChanges = true;
-                        this.emitEvent(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
-                                IIngredientComponentStorageObservable.Change.ADDITION, false, diff.getAdditions(), this.initialObservation), forceSync);
-                    }
-                    if (diff.hasDeletions()) {
-                        hasChanges = true;
-                        this.emitEvent(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
-                                IIngredientComponentStorageObservable.Change.DELETION, diff.isCompletelyEmpty(), diff.getDeletions(), this.initialObservation), forceSync);
-                    }
+            // Skip position forcefully if it is not loaded
+            if (!partPos.getPartPos().getPos().isLoaded()) {
+                skipPosition = true;
+            }
 
-                    // Update the next tick value
-                    int tickInterval = channelIntervals.getOrDefault(partPos.getPartPos(), GeneralConfig.ingredientNetworkObserverFrequencyMax);
-                    // Decrease the frequency when changes were detected
-                    // Increase the frequency when no changes were detected
-                    // This will make it so that quickly changing storages will be observed
-                    // more frequently than slowly changing storages
-                    boolean tickIntervalChanged = false;
-                    if (hasChanges) {
-                        if (tickInterval > GeneralConfig.ingredientNetworkObserverFrequencyMin) {
-                            tickIntervalChanged = true;
-                            tickInterval = Math.max(GeneralConfig.ingredientNetworkObserverFrequencyMin, tickInterval - GeneralConfig.ingredientNetworkObserverFrequencyDecreaseFactor);
-                        }
+            if (!skipPosition) {
+                Optional<Integer> newInventoryStateBoxed = this.worldProxy.getInventoryState(partPos.getPartPos());
+                if (newInventoryStateBoxed.isPresent()) {
+                    int newState = newInventoryStateBoxed.get();
+                    if (observation.lastInventoryStatesPresent[slot] && observation.lastInventoryStates[slot] == newState) {
+                        // Skip this position if it hasn't not changed
+                        skipPosition = true;
                     } else {
-                        if (tickInterval < GeneralConfig.ingredientNetworkObserverFrequencyMax) {
-                            tickIntervalChanged = true;
-                            tickInterval = Math.min(GeneralConfig.ingredientNetworkObserverFrequencyMax, tickInterval + GeneralConfig.ingredientNetworkObserverFrequencyIncreaseFactor);
-                        }
-                    }
-                    // No need to store the interval if it == 1, as the previous or default value will
-                    // definitely also cause this part to tick in next tick.
-                    // This makes these cases slightly faster, as no map updates are needed.
-                    if (tickInterval != 1) {
-                        channelTargetTicks.put(partPos.getPartPos(), currentTick + tickInterval);
-
-                    }
-                    // Only update when the interval has changed.
-                    // In most cases, this will remain the same.
-                    if (tickIntervalChanged) {
-                        if (tickInterval != GeneralConfig.ingredientNetworkObserverFrequencyMax) {
-                            channelIntervals.put(partPos.getPartPos(), tickInterval);
-                        } else {
-                            channelIntervals.remove(partPos.getPartPos());
-                        }
+                        observation.lastInventoryStates[slot] = newState;
+                        observation.lastInventoryStatesPresent[slot] = true;
                     }
                 }
             }
 
-            // Calculate duration if diagnostics are enabled
-            if (isBeingDiagnozed) {
-                long duration = System.nanoTime() - startTime;
-                PartPos interfacePos = PartTarget.fromCenter(partPos.getPartPos()).getTarget();
-                Long lastDuration = lastSecondDurations.get(interfacePos);
-                if (lastDuration != null) {
-                    duration = duration + lastDuration;
+            if (!skipPosition) {
+                IngredientCollectionDiffManager<T, M> diffManager = observation.diffManagers
+                        .computeIfAbsent(partPos, p -> new IngredientCollectionDiffManager<>(network.getComponent()));
+
+                // Emit event of diff
+                Iterator<T> instances = this.worldProxy.getInstances(partPos.getPartPos()).iterator();
+                IngredientCollectionDiff<T, M> diff = diffManager.onChange(instances);
+                boolean hasChanges = false;
+                if (diff.hasAdditions()) {
+                    hasChanges = true;
+                    eventConsumer.accept(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
+                            IIngredientComponentStorageObservable.Change.ADDITION, false, diff.getAdditions(), this.initialObservation));
+                }
+                if (diff.hasDeletions()) {
+                    hasChanges = true;
+                    eventConsumer.accept(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
+                            IIngredientComponentStorageObservable.Change.DELETION, diff.isCompletelyEmpty(), diff.getDeletions(), this.initialObservation));
                 }
-                lastSecondDurations.put(interfacePos, duration);
-            }
-        }
 
-        // Emit deletions for all removed positions
-        List<PrioritizedPartPos> lastRemovedPositions = this.lastRemoved.get(channel);
-        if (lastRemovedPositions != null) {
-            for (PrioritizedPartPos partPos : lastRemovedPositions) {
-                IngredientCollectionDiffManager<T, M> diffManager = diffManagers.get(partPos);
-                if (diffManager != null) {
-                    // Emit event of diff with *empty* iterator
-                    IngredientCollectionDiff<T, M> diff = diffManager.onChange(Iterators.forArray());
-                    // No additions are possible
-                    if (diff.hasDeletions()) {
-                        this.emitEvent(new IIngredientComponentStorageObservable.StorageChangeEvent<>(channel, partPos,
-                                IIngredientComponentStorageObservable.Change.DELETION, diff.isCompletelyEmpty(), diff.getDeletions(), this.initialObservation), forceSync);
+                // Update the next tick value
+                int tickInterval = observation.tickIntervals[slot];
+                if (tickInterval == INTERVAL_UNSET) {
+                    tickInterval = GeneralConfig.ingredientNetworkObserverFrequencyMax;
+                }
+                // Decrease the frequency when changes were detected
+                // Increase the frequency when no changes were detected
+                // This will make it so that quickly changing storages will be observed
+                // more frequently than slowly changing storages
+                boolean tickIntervalChanged = false;
+                if (hasChanges) {
+                    if (tickInterval > GeneralConfig.ingredientNetworkObserverFrequencyMin) {
+                        tickIntervalChanged = true;
+                        tickInterval = Math.max(GeneralConfig.ingredientNetworkObserverFrequencyMin, tickInterval - GeneralConfig.ingredientNetworkObserverFrequencyDecreaseFactor);
                     }
+                } else {
+                    if (tickInterval < GeneralConfig.ingredientNetworkObserverFrequencyMax) {
+                        tickIntervalChanged = true;
+                        tickInterval = Math.min(GeneralConfig.ingredientNetworkObserverFrequencyMax, tickInterval + GeneralConfig.ingredientNetworkObserverFrequencyIncreaseFactor);
+                    }
+                }
+                // No need to store the interval if it == 1, as the previous or default value will
+                // definitely also cause this part to tick in next tick.
+                // This makes these cases slightly faster, as no array updates are needed.
+                if (tickInterval != 1) {
+                    observation.targetTicks[slot] = currentTick + tickInterval;
+                }
+                // Only update when the interval has changed.
+                // In most cases, this will remain the same.
+                if (tickIntervalChanged) {
+                    observation.tickIntervals[slot] = tickInterval;
                 }
             }
-            this.lastRemoved.remove(channel);
         }
 
-        // Store our new ticking collections
-        if (!channelTargetTicks.isEmpty()) {
-            observeTargetTicks.put(channel, channelTargetTicks);
-        }
-        if (!channelIntervals.isEmpty()) {
-            observeTargetTickIntervals.put(channel, channelIntervals);
+        // Calculate duration if diagnostics are enabled
+        if (observation.isBeingDiagnozed) {
+            long duration = System.nanoTime() - startTime;
+            PartPos interfacePos = PartTarget.fromCenter(partPos.getPartPos()).getTarget();
+            synchronized (observation.lastSecondDurations) {
+                Long lastDuration = observation.lastSecondDurations.get(interfacePos);
+                if (lastDuration != null) {
+                    duration = duration + lastDuration;
+                }
+                observation.lastSecondDurations.put(interfacePos, duration);
+            }
         }
     }
 
@@ -389,12 +639,10 @@ public class IngredientObserver<T, M> {
         this.worldProxy.setRead(targetPos);
 
         // Reset the channel ticks
-        Map<PartPos, Integer> channelTicks = this.observeTargetTicks.get(channel);
-        if (channelTicks == null) {
-            channelTicks = Maps.newHashMap();
-            this.observeTargetTicks.put(channel, channelTicks);
+        synchronized (this) {
+            int slot = getPositionSlot(targetPos);
+            getChannelSlots(this.observeTargetTicks, channel, TICK_UNSET)[slot] = getCurrentTick() + GeneralConfig.ingredientNetworkObserverFrequencyForced;
         }
-        channelTicks.put(targetPos, getCurrentTick() + GeneralConfig.ingredientNetworkObserverFrequencyForced);
 
         // Keep an overview of the pending positions per channel that require tick resets
         synchronized (this.pendingTickResets) {
@@ -413,4 +661,39 @@ public class IngredientObserver<T, M> {
         }
     }
 
+    /**
+     * The state of a single observation run over the positions of a channel.
+     */
+    protected class ChannelObservation {
+        private final int channel;
+        private final int currentTick;
+        private final List<PrioritizedPartPos> positions;
+        private final int[] positionSlots;
+        private final int[] targetTicks;
+        private final int[] tickIntervals;
+        private final int[] lastInventoryStates;
+        private final boolean[] lastInventoryStatesPresent;
+        private final Map<PrioritizedPartPos, IngredientCollectionDiffManager<T, M>> diffManagers;
+        private final boolean isBeingDiagnozed;
+        private final Map<PartPos, Long> lastSecondDurations;
+
+        public ChannelObservation(int channel, int currentTick, List<PrioritizedPartPos> positions, int[] positionSlots,
+                                  int[] targetTicks, int[] tickIntervals, int[] lastInventoryStates,
+                                  boolean[] lastInventoryStatesPresent,
+                                  Map<PrioritizedPartPos, IngredientCollectionDiffManager<T, M>> diffManagers,
+                                  boolean isBeingDiagnozed, Map<PartPos, Long> lastSecondDurations) {
+            this.channel = channel;
+            this.currentTick = currentTick;
+            this.positions = positions;
+            this.positionSlots = positionSlots;
+            this.targetTicks = targetTicks;
+            this.tickIntervals = tickIntervals;
+            this.lastInventoryStates = lastInventoryStates;
+            this.lastInventoryStatesPresent = lastInventoryStatesPresent;
+            this.diffManagers = diffManagers;
+            this.isBeingDiagnozed = isBeingDiagnozed;
+            this.lastSecondDurations = lastSecondDurations;
+        }
+    }
+
 }
@@ -0,0 +1,101 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Helper for observing the positions of a channel in parallel, split in shards of consecutive positions.
+ *
+ * Events of each shard are buffered, and emitted in shard order once all shards are done,
+ * so that events are emitted in the same order as sequential observation.
+ *
+ * The calling thread also processes shards, and only waits for shards that are actively being processed.
+ * This avoids deadlocks when all worker threads are waiting for shards of their own channels.
+ *
+ * @author rubensworks
+ */
+public class IngredientObserverShards {
+
+    /**
+     * Observe the given number of positions in shards.
+     *
+     * If observing a position throws an exception, the other shards are still completed,
+     * the events of all shards before the failed shard are emitted, and the exception is rethrown afterwards.
+     * This matches the behaviour of sequential observation, which emits all events up to the failed position.
+     *
+     * If the calling thread is interrupted, all shards are still completed and their events are emitted,
+     * and the interrupt status of the thread is kept.
+     *
+     * @param pool The pool to run helper threads on.
+     * @param threads The maximum number of threads to use, including the calling thread.
+     * @param positionsCount The number of positions to observe.
+     * @param shardSize The number of positions per shard.
+     * @param positionObserver The observer for a single position.
+     * @param eventEmitter The consumer to emit all events to from the calling thread.
+     * @param <E> The event type.
+     */
+    public static <E> void observe(ExecutorService pool, int threads, int positionsCount, int shardSize,
+                                   IPositionObserver<E> positionObserver, Consumer<E> eventEmitter) {
+        int shardCount = (positionsCount + shardSize - 1) / shardSize;
+        List<List<E>> shardEvents = Lists.newArrayListWithCapacity(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardEvents.add(Lists.newArrayList());
+        }
+        RuntimeException[] shardFailures = new RuntimeException[shardCount];
+        AtomicInteger nextShard = new AtomicInteger();
+        CountDownLatch shardsDone = new CountDownLatch(shardCount);
+        Runnable shardWorker = () -> {
+            int shard;
+            while ((shard = nextShard.getAndIncrement()) < shardCount) {
+                try {
+                    List<E> events = shardEvents.get(shard);
+                    int end = Math.min(positionsCount, (shard + 1) * shardSize);
+                    for (int i = shard * shardSize; i < end; i++) {
+                        positionObserver.observe(i, events::add);
+                    }
+                } catch (RuntimeException e) {
+                    shardFailures[shard] = e;
+                } finally {
+                    shardsDone.countDown();
+                }
+            }
+        };
+
+        // Let other worker threads help, while this thread processes shards as well
+        int helpers = Math.min(shardCount, threads) - 1;
+        for (int i = 0; i < helpers; i++) {
+            pool.submit(shardWorker);
+        }
+        shardWorker.run();
+        // Observed shards have already advanced their diff managers, so their events may never be dropped.
+        // Interrupts are therefore deferred until all shards are done, which only takes a bounded time.
+        Uninterruptibles.awaitUninterruptibly(shardsDone);
+
+        // Merge the events of all shards in order, up to the first failed shard
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (E event : shardEvents.get(shard)) {
+                eventEmitter.accept(event);
+            }
+            if (shardFailures[shard] != null) {
+                throw shardFailures[shard];
+            }
+        }
+    }
+
+    public static interface IPositionObserver<E> {
+        /**
+         * Observe the position at the given index.
+         * This may be called for different positions in parallel.
+         * @param i The index of the position.
+         * @param eventConsumer A consumer for the resulting events.
+         */
+        public void observe(int i, Consumer<E> eventConsumer);
+    }
+
+}
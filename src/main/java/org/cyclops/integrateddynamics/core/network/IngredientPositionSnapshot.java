@@ -0,0 +1,118 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A persisted snapshot of the contents of a single position within an ingredient network,
+ * together with the inventory state of that position at the moment the snapshot was taken.
+ *
+ * Snapshots are used to make an ingredient index available directly after loading,
+ * before the position has been observed again.
+ *
+ * @param <T> The instance type.
+ * @author rubensworks
+ */
+public class IngredientPositionSnapshot<T> {
+
+    private final int channel;
+    private final PrioritizedPartPos pos;
+    @Nullable
+    private final Integer inventoryState;
+    private final Collection<T> instances;
+
+    public IngredientPositionSnapshot(int channel, PrioritizedPartPos pos, @Nullable Integer inventoryState,
+                                      Collection<T> instances) {
+        this.channel = channel;
+        this.pos = pos;
+        this.inventoryState = inventoryState;
+        this.instances = instances;
+    }
+
+    public int getChannel() {
+        return channel;
+    }
+
+    public PrioritizedPartPos getPos() {
+        return pos;
+    }
+
+    @Nullable
+    public Integer getInventoryState() {
+        return inventoryState;
+    }
+
+    public Collection<T> getInstances() {
+        return instances;
+    }
+
+    public CompoundTag toNBT(HolderLookup.Provider provider, IngredientComponent<T, ?> component) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("channel", this.channel);
+        tag.putInt("priority", this.pos.getPriority());
+        tag.putString("dimension", this.pos.getPartPos().getPos().getLevel());
+        tag.putLong("pos", this.pos.getPartPos().getPos().getBlockPos().asLong());
+        if (this.pos.getPartPos().getSide() != null) {
+            tag.putInt("side", this.pos.getPartPos().getSide().ordinal());
+        }
+        if (this.inventoryState != null) {
+            tag.putInt("state", this.inventoryState);
+        }
+        ListTag list = new ListTag();
+        for (T instance : this.instances) {
+            list.add(component.getSerializer().serializeInstance(provider, instance));
+        }
+        tag.put("instances", list);
+        return tag;
+    }
+
+    /**
+     * Read a snapshot from the given tag.
+     * @param provider The holder lookup provider.
+     * @param component The ingredient component type.
+     * @param tag The tag to read from.
+     * @param <T> The instance type.
+     * @return The snapshot, or null if it could not be read.
+     */
+    @Nullable
+    public static <T> IngredientPositionSnapshot<T> fromNBT(HolderLookup.Provider provider,
+                                                            IngredientComponent<T, ?> component, CompoundTag tag) {
+        ResourceLocation dimensionId = ResourceLocation.tryParse(tag.getString("dimension"));
+        if (dimensionId == null) {
+            return null;
+        }
+        DimPos dimPos = DimPos.of(ResourceKey.create(Registries.DIMENSION, dimensionId), BlockPos.of(tag.getLong("pos")));
+        Direction side = tag.contains("side", Tag.TAG_INT) ? Direction.values()[tag.getInt("side")] : null;
+        PrioritizedPartPos pos = PrioritizedPartPos.of(PartPos.of(dimPos, side), tag.getInt("priority"));
+        Integer inventoryState = tag.contains("state", Tag.TAG_INT) ? tag.getInt("state") : null;
+
+        // Serialized instances are not necessarily compound tags, so we can not use getList with a fixed type.
+        ListTag list = tag.get("instances") instanceof ListTag listTag ? listTag : new ListTag();
+        List<T> instances = Lists.newArrayListWithCapacity(list.size());
+        try {
+            for (Tag instanceTag : list) {
+                instances.add(component.getSerializer().deserializeInstance(provider, instanceTag));
+            }
+        } catch (IllegalArgumentException e) {
+            // The snapshot is invalid (for example due to removed items), so it must be observed from scratch.
+            return null;
+        }
+        return new IngredientPositionSnapshot<>(tag.getInt("channel"), pos, inventoryState, instances);
+    }
+}
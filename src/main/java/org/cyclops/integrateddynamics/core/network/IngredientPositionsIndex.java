@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import it.unimi.dsi.fastutil.ints.AbstractInt2ObjectSortedMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
@@ -14,7 +16,11 @@ import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.part.PrioritizedPartPos;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * An index that maps ingredients to positions that contain that instance.
@@ -22,20 +28,57 @@ import java.util.Iterator;
  * Positions are stored together with their priorities.
  * This makes it possible for instances of this class to guarantee that all returned iterators maintain priority order.
  *
+ * Aggregated query results, such as quantities, sizes, matching positions and all instances, are memoized
+ * until the next mutation of this index.
+ * All instances are only memoized once an iterator has been fully consumed without mutations in between,
+ * so that iterators that are not consumed completely remain lazy.
+ * This avoids recomputing the same results when many readers query the same channel in between observations.
+ * Since readers may run on other threads than the one applying mutations,
+ * all memoized results are guarded by a single lock,
+ * and results that were computed during a concurrent mutation are never stored.
+ *
  * @param <T> An instance type.
  * @param <M> The matching condition parameter.
  * @author rubensworks
  */
 public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex<T, M> {
 
+    private static final int MAX_CACHED_QUERIES = 1024;
+
     private final IngredientComponent<T, M> component;
     private final AbstractInt2ObjectSortedMap<IIngredientMapMutable<T, M, ObjectOpenHashSet<PartPos>>> prioritizedPositionsMap;
     private final AbstractInt2ObjectSortedMap<IIngredientCollapsedCollectionMutable<T, M>> ingredientInstances;
 
+    private final Object cacheLock = new Object();
+    private final IIngredientMapMutable<T, M, Long> cachedQuantities;
+    private final Map<M, IIngredientMapMutable<T, M, List<PartPos>>> cachedPositions;
+    private int cachedSize;
+    private List<T> cachedInstances;
+    private int cacheGeneration;
+
     public IngredientPositionsIndex(IngredientComponent<T, M> component) {
         this.component = component;
         this.prioritizedPositionsMap = new Int2ObjectAVLTreeMap<>();
         this.ingredientInstances = new Int2ObjectAVLTreeMap<>();
+        this.cachedQuantities = new IngredientHashMap<>(component);
+        this.cachedPositions = Maps.newHashMap();
+        this.cachedSize = -1;
+        this.cachedInstances = null;
+        this.cacheGeneration = 0;
+    }
+
+    /**
+     * Clear all memoized query results.
+     * This must be called upon each mutation of this index.
+     */
+    protected void invalidateCaches() {
+        synchronized (this.cacheLock) {
+            this.cachedQuantities.clear();
+            this.cachedPositions.clear();
+            this.cachedSize = -1;
+            this.cachedInstances = null;
+            this.cacheGeneration++;
+        }
     }
 
     protected T getPrototype(T instance) {
@@ -54,12 +97,37 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
 
     @Override
     public Iterator<PartPos> getPositions(T instance, M matchFlags) {
-        return this.prioritizedPositionsMap.values()
+        T prototype = getPrototype(instance);
+        int generation;
+        synchronized (this.cacheLock) {
+            IIngredientMapMutable<T, M, List<PartPos>> positionsCache = this.cachedPositions.get(matchFlags);
+            List<PartPos> positions = positionsCache != null ? positionsCache.get(prototype) : null;
+            if (positions != null) {
+                return positions.iterator();
+            }
+            generation = this.cacheGeneration;
+        }
+
+        List<PartPos> positions = Collections.unmodifiableList(this.prioritizedPositionsMap.values()
                 .stream()
-                .flatMap(ingredientCollection -> ingredientCollection.getAll(getPrototype(instance), matchFlags).stream())
+                .flatMap(ingredientCollection -> ingredientCollection.getAll(prototype, matchFlags).stream())
                 .flatMap(Collection::stream)
                 .distinct()
-                .iterator();
+                .collect(Collectors.toList()));
+
+        synchronized (this.cacheLock) {
+            if (generation == this.cacheGeneration) {
+                IIngredientMapMutable<T, M, List<PartPos>> positionsCache = this.cachedPositions.get(matchFlags);
+                if (positionsCache == null) {
+                    positionsCache = new IngredientHashMap<>(getComponent());
+                    this.cachedPositions.put(matchFlags, positionsCache);
+                } else if (positionsCache.size() >= MAX_CACHED_QUERIES) {
+                    positionsCache.clear();
+                }
+                positionsCache.put(prototype, positions);
+            }
+        }
+        return positions.iterator();
     }
 
     @Override
@@ -78,6 +146,7 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
         }
 
         set.add(pos.getPartPos());
+        invalidateCaches();
     }
 
     @Override
@@ -94,15 +163,36 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
                         this.prioritizedPositionsMap.remove(getInternalPriority(pos));
                     }
                 }
+                invalidateCaches();
             }
         }
     }
 
     @Override
     public long getQuantity(T instance) {
-        return this.ingredientInstances.values().stream()
+        T prototype = getPrototype(instance);
+        int generation;
+        synchronized (this.cacheLock) {
+            Long quantity = this.cachedQuantities.get(prototype);
+            if (quantity != null) {
+                return quantity;
+            }
+            generation = this.cacheGeneration;
+        }
+
+        long quantity = this.ingredientInstances.values().stream()
                 .mapToLong(ingredients -> ingredients.getQuantity(instance))
                 .sum();
+
+        synchronized (this.cacheLock) {
+            if (generation == this.cacheGeneration) {
+                if (this.cachedQuantities.size() >= MAX_CACHED_QUERIES) {
+                    this.cachedQuantities.clear();
+                }
+                this.cachedQuantities.put(prototype, quantity);
+            }
+        }
+        return quantity;
     }
 
     @Override
@@ -112,9 +202,24 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
 
     @Override
     public int size() {
-        return this.ingredientInstances.values().stream()
+        int generation;
+        synchronized (this.cacheLock) {
+            if (this.cachedSize >= 0) {
+                return this.cachedSize;
+            }
+            generation = this.cacheGeneration;
+        }
+
+        int size = this.ingredientInstances.values().stream()
                 .mapToInt(IIngredientCollapsedCollectionMutable::size)
                 .sum();
+
+        synchronized (this.cacheLock) {
+            if (generation == this.cacheGeneration) {
+                this.cachedSize = size;
+            }
+        }
+        return size;
     }
 
     @Override
@@ -144,8 +249,15 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
 
     @Override
     public Iterator<T> iterator() {
-        return new MultitransformIterator<>(this.ingredientInstances.values().iterator(),
-                IIngredientCollapsedCollectionMutable::iterator);
+        int generation;
+        synchronized (this.cacheLock) {
+            if (this.cachedInstances != null) {
+                return this.cachedInstances.iterator();
+            }
+            generation = this.cacheGeneration;
+        }
+        return new MemoizingIterator(new MultitransformIterator<>(this.ingredientInstances.values().iterator(),
+                IIngredientCollapsedCollectionMutable::iterator), generation);
     }
 
     public void removeAll(PrioritizedPartPos pos, Iterable<? extends T> instances) {
@@ -155,6 +267,7 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
             if (ingredients.isEmpty()) {
                 this.ingredientInstances.remove(getInternalPriority(pos));
             }
+            invalidateCaches();
         }
     }
 
@@ -165,5 +278,48 @@ public class IngredientPositionsIndex<T, M> implements IIngredientPositionsIndex
             this.ingredientInstances.put(getInternalPriority(pos), ingredients);
         }
         ingredients.addAll(instances);
+        invalidateCaches();
+    }
+
+    /**
+     * An iterator that collects all iterated instances,
+     * and memoizes them once it has been fully consumed if the index was not mutated in the meantime.
+     */
+    protected class MemoizingIterator implements Iterator<T> {
+
+        private final Iterator<T> iterator;
+        private final int generation;
+        private final List<T> instances;
+        private boolean memoized;
+
+        public MemoizingIterator(Iterator<T> iterator, int generation) {
+            this.iterator = iterator;
+            this.generation = generation;
+            this.instances = Lists.newArrayList();
+            this.memoized = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = this.iterator.hasNext();
+            if (!hasNext && !this.memoized) {
+                this.memoized = true;
+                synchronized (IngredientPositionsIndex.this.cacheLock) {
+                    if (this.generation == IngredientPositionsIndex.this.cacheGeneration) {
+                        IngredientPositionsIndex.this.cachedInstances = Collections.unmodifiableList(this.instances);
+                    }
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            T instance = this.iterator.next();
+            if (!this.memoized) {
+                this.instances.add(instance);
+            }
+            return instance;
+        }
     }
 }
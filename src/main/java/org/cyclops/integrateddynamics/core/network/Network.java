@@ -9,12 +9,15 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.world.level.Level;
 import net.neoforged.fml.ModLoader;
 import net.neoforged.neoforge.capabilities.ICapabilityProvider;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.BlockEntityHelpers;
 import org.cyclops.integrateddynamics.Capabilities;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.PartStateException;
 import org.cyclops.integrateddynamics.api.network.AttachCapabilitiesEventNetwork;
@@ -23,12 +26,14 @@ import org.cyclops.integrateddynamics.api.network.IFullNetworkListener;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.INetworkElementProvider;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.network.NetworkCapability;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.api.path.ISidedPathElement;
 import org.cyclops.integrateddynamics.capability.path.SidedPathElement;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementRemoveEvent;
@@ -37,6 +42,7 @@ import org.cyclops.integrateddynamics.core.path.Cluster;
 import org.cyclops.integrateddynamics.core.path.PathFinder;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +64,7 @@ public class Network implements INetwork {
     private Object2IntMap<INetworkElement> updateableElementsTicks = null;
     private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
     private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private Map<INetworkElement, EvaluationProfiler.Profile> lastSecondProfiles = Maps.newHashMap();
 
     private Map<NetworkCapability<?>, List<ICapabilityProvider<INetwork, Void, ?>>> capabilityProviders;
     private IFullNetworkListener[] fullNetworkListeners;
@@ -186,6 +193,24 @@ public class Network implements INetwork {
         CompoundTag tag = new CompoundTag();
         tag.put("baseCluster", this.baseCluster.toNBT(provider));
         tag.putBoolean("crashed", this.crashed);
+        if (GeneralConfig.ingredientNetworkObserverPersistIndex) {
+            if (this.toRead != null) {
+                // The network has not been loaded yet, so keep the previous snapshots.
+                if (this.toRead.contains("ingredientIndexSnapshots", Tag.TAG_COMPOUND)) {
+                    tag.put("ingredientIndexSnapshots", this.toRead.getCompound("ingredientIndexSnapshots"));
+                }
+            } else {
+                CompoundTag snapshotsTag = new CompoundTag();
+                for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
+                    if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients) {
+                        IPositionedAddonsNetworkIngredients<?, ?> networkIngredients = (IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener;
+                        snapshotsTag.put(networkIngredients.getComponent().getName().toString(),
+                                networkIngredients.writeIndexSnapshot(provider));
+                    }
+                }
+                tag.put("ingredientIndexSnapshots", snapshotsTag);
+            }
+        }
         return tag;
     }
 
@@ -201,6 +226,19 @@ public class Network implements INetwork {
     public void fromNBTEffective(HolderLookup.Provider provider, CompoundTag tag) {
         this.baseCluster.fromNBT(provider, tag.getCompound("baseCluster"));
         this.crashed = tag.getBoolean("crashed");
+        if (GeneralConfig.ingredientNetworkObserverPersistIndex && tag.contains("ingredientIndexSnapshots", Tag.TAG_COMPOUND)) {
+            // Snapshots must be read before network elements are derived, as these will add the positions.
+            CompoundTag snapshotsTag = tag.getCompound("ingredientIndexSnapshots");
+            for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
+                if (fullNetworkListener instanceof IPositionedAddonsNetworkIngredients) {
+                    IPositionedAddonsNetworkIngredients<?, ?> networkIngredients = (IPositionedAddonsNetworkIngredients<?, ?>) fullNetworkListener;
+                    String key = networkIngredients.getComponent().getName().toString();
+                    if (snapshotsTag.contains(key, Tag.TAG_LIST)) {
+                        networkIngredients.readIndexSnapshot(provider, (ListTag) snapshotsTag.get(key));
+                    }
+                }
+            }
+        }
         deriveNetworkElements(baseCluster);
         initialize(true);
     }
@@ -390,7 +428,9 @@ public class Network implements INetwork {
             if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
                 // Make sure we aren't using any unnecessary memory.
                 lastSecondDurations.clear();
+                lastSecondProfiles.clear();
             }
+            boolean isProfiling = isBeingDiagnozed && GeneralConfig.diagnosticsProfileEvaluations;
             for (Object2IntMap.Entry<INetworkElement> entry : updateableElementsTicks.object2IntEntrySet()) {
                 var element = entry.getKey();
                 try {
@@ -399,18 +439,27 @@ public class Network implements INetwork {
                         if (isBeingDiagnozed) {
                             startTime = System.nanoTime();
                         }
-                        int lastElementTick = entry.getIntValue();
-                        if (canUpdate(element)) {
-                            if (lastElementTick <= 0) {
-                                entry.setValue(element.getUpdateInterval() - 1);
-                                element.update(this);
-                                postUpdate(element);
+                        if (isProfiling) {
+                            EvaluationProfiler.start(lastSecondProfiles.computeIfAbsent(element, e -> new EvaluationProfiler.Profile()));
+                        }
+                        try {
+                            int lastElementTick = entry.getIntValue();
+                            if (canUpdate(element)) {
+                                if (lastElementTick <= 0) {
+                                    entry.setValue(element.getUpdateInterval() - 1);
+                                    element.update(this);
+                                    postUpdate(element);
+                                } else {
+                                    entry.setValue(lastElementTick - 1);
+                                }
                             } else {
+                                onSkipUpdate(element);
                                 entry.setValue(lastElementTick - 1);
                             }
-                        } else {
-                            onSkipUpdate(element);
-                            entry.setValue(lastElementTick - 1);
+                        } finally {
+                            if (isProfiling) {
+                                EvaluationProfiler.stop();
+                            }
                         }
                         if (isBeingDiagnozed) {
                             long duration = System.nanoTime() - startTime;
@@ -521,9 +570,16 @@ public class Network implements INetwork {
         return duration == null ? 0 : duration;
     }
 
+    @Nullable
+    @Override
+    public EvaluationProfiler.Profile getLastSecondProfile(INetworkElement networkElement) {
+        return lastSecondProfiles.get(networkElement);
+    }
+
     @Override
     public void resetLastSecondDurations() {
         lastSecondDurations.clear();
+        lastSecondProfiles.clear();
     }
 
     @Override
@@ -1,14 +1,42 @@
 package org.cyclops.integrateddynamics.core.network;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.server.MinecraftServer;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.cyclopscore.ingredient.collection.IIngredientMapMutable;
+import org.cyclops.cyclopscore.ingredient.collection.IngredientHashMap;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkCraftingHandler;
 import org.cyclops.integrateddynamics.api.network.INetworkCraftingHandlerRegistry;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
 
 /**
  * Registry for {@link INetworkCraftingHandler}.
+ *
+ * Results of {@link #canCraft(INetwork, IPositionedAddonsNetworkIngredients, int)} and
+ * {@link #isCrafting(INetwork, IPositionedAddonsNetworkIngredients, int, IngredientComponent, Object, Object)}
+ * are cached per ingredients network and channel,
+ * so that repeated lookups (such as exporters retrying missing ingredients) do not have to query all handlers.
+ * Caching is only enabled if all registered handlers declare {@link INetworkCraftingHandler#reportsStateChanges()},
+ * as only those handlers invalidate caches when crafting jobs finish or their crafting capabilities change.
+ * Caches are invalidated when the network structure changes, when a crafting job is started,
+ * when handlers call {@link #invalidateCache(IPositionedAddonsNetworkIngredients, int)},
+ * and at the latest after {@link GeneralConfig#networkCraftingHandlerCacheTicks} ticks.
+ *
  * @author rubensworks
  */
 public final class NetworkCraftingHandlerRegistry implements INetworkCraftingHandlerRegistry {
@@ -16,9 +44,22 @@ public final class NetworkCraftingHandlerRegistry implements INetworkCraftingHan
     private static NetworkCraftingHandlerRegistry INSTANCE = new NetworkCraftingHandlerRegistry();
 
     private List<INetworkCraftingHandler> handlers = Lists.newArrayList();
+    private final Cache<IPositionedAddonsNetworkIngredients<?, ?>, NetworkCache<?, ?>> caches = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+    private final IntSupplier tickSupplier;
+    private boolean cacheable = true;
 
     private NetworkCraftingHandlerRegistry() {
+        this(NetworkCraftingHandlerRegistry::getServerTick);
+    }
 
+    /**
+     * Create a new registry.
+     * @param tickSupplier Supplier for the current tick, or a negative value if caching is not possible.
+     */
+    NetworkCraftingHandlerRegistry(IntSupplier tickSupplier) {
+        this.tickSupplier = tickSupplier;
     }
 
     /**
@@ -31,6 +72,8 @@ public final class NetworkCraftingHandlerRegistry implements INetworkCraftingHan
     @Override
     public <C extends INetworkCraftingHandler> C register(C craftingHandler) {
         handlers.add(craftingHandler);
+        cacheable = cacheable && craftingHandler.reportsStateChanges();
+        invalidateAll();
         return craftingHandler;
     }
 
@@ -38,4 +81,150 @@ public final class NetworkCraftingHandlerRegistry implements INetworkCraftingHan
     public Collection<INetworkCraftingHandler> getCraftingHandlers() {
         return handlers;
     }
+
+    @Override
+    public <T, M> boolean isCrafting(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel,
+                                     IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition) {
+        int tick = this.tickSupplier.getAsInt();
+        NetworkCache<T, M> cache = getCache(network, ingredientsNetwork, tick);
+        if (cache == null) {
+            return INetworkCraftingHandlerRegistry.super.isCrafting(network, ingredientsNetwork, channel, ingredientComponent, instance, matchCondition);
+        }
+        synchronized (cache) {
+            Entry entry = cache.getCrafting(channel, instance, matchCondition);
+            if (entry != null && entry.isValid(tick)) {
+                return entry.value();
+            }
+        }
+        boolean crafting = INetworkCraftingHandlerRegistry.super.isCrafting(network, ingredientsNetwork, channel, ingredientComponent, instance, matchCondition);
+        synchronized (cache) {
+            cache.putCrafting(channel, ingredientComponent, instance, matchCondition, new Entry(crafting, tick));
+        }
+        return crafting;
+    }
+
+    @Override
+    public <T, M> boolean canCraft(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel) {
+        int tick = this.tickSupplier.getAsInt();
+        NetworkCache<T, M> cache = getCache(network, ingredientsNetwork, tick);
+        if (cache == null) {
+            return INetworkCraftingHandlerRegistry.super.canCraft(network, ingredientsNetwork, channel);
+        }
+        synchronized (cache) {
+            Entry entry = cache.canCraft.get(channel);
+            if (entry != null && entry.isValid(tick)) {
+                return entry.value();
+            }
+        }
+        boolean canCraft = INetworkCraftingHandlerRegistry.super.canCraft(network, ingredientsNetwork, channel);
+        synchronized (cache) {
+            cache.canCraft.put(channel, new Entry(canCraft, tick));
+        }
+        return canCraft;
+    }
+
+    @Override
+    public <T, M> boolean craft(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel,
+                                IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition, boolean ignoreExistingJobs) {
+        boolean started = INetworkCraftingHandlerRegistry.super.craft(network, ingredientsNetwork, channel, ingredientComponent, instance, matchCondition, ignoreExistingJobs);
+        if (started) {
+            invalidateCache(ingredientsNetwork, channel);
+        }
+        return started;
+    }
+
+    @Override
+    public void invalidateCache(IPositionedAddonsNetworkIngredients<?, ?> ingredientsNetwork, int channel) {
+        NetworkCache<?, ?> cache = caches.getIfPresent(ingredientsNetwork);
+        if (cache != null) {
+            synchronized (cache) {
+                cache.invalidate(channel);
+            }
+        }
+    }
+
+    /**
+     * Invalidate the caches of all networks.
+     */
+    public void invalidateAll() {
+        for (NetworkCache<?, ?> cache : caches.asMap().values()) {
+            synchronized (cache) {
+                cache.invalidate(IPositionedAddonsNetwork.WILDCARD_CHANNEL);
+            }
+        }
+    }
+
+    protected static int getServerTick() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server == null ? -1 : server.getTickCount();
+    }
+
+    @Nullable
+    protected <T, M> NetworkCache<T, M> getCache(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork,
+                                                 int tick) {
+        if (!cacheable || tick < 0 || GeneralConfig.networkCraftingHandlerCacheTicks <= 0 || network.isKilled()) {
+            return null;
+        }
+        NetworkCache<T, M> cache = (NetworkCache<T, M>) caches.getIfPresent(ingredientsNetwork);
+        if (cache == null) {
+            cache = new NetworkCache<>();
+            caches.put(ingredientsNetwork, cache);
+        }
+        if (network.hasChanged()) {
+            synchronized (cache) {
+                cache.invalidate(IPositionedAddonsNetwork.WILDCARD_CHANNEL);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * A cached lookup result.
+     * @param value The cached value.
+     * @param tick The tick at which the value was calculated.
+     */
+    protected static record Entry(boolean value, int tick) {
+        public boolean isValid(int currentTick) {
+            return currentTick >= this.tick && currentTick - this.tick < GeneralConfig.networkCraftingHandlerCacheTicks;
+        }
+    }
+
+    /**
+     * The crafting caches of a single ingredients network.
+     * @param <T> The instance type.
+     * @param <M> The matching condition parameter.
+     */
+    protected static class NetworkCache<T, M> {
+
+        private final Int2ObjectMap<Entry> canCraft = new Int2ObjectOpenHashMap<>();
+        private final Int2ObjectMap<Map<M, IIngredientMapMutable<T, M, Entry>>> crafting = new Int2ObjectOpenHashMap<>();
+
+        @Nullable
+        public Entry getCrafting(int channel, T instance, M matchCondition) {
+            Map<M, IIngredientMapMutable<T, M, Entry>> channelEntries = this.crafting.get(channel);
+            if (channelEntries == null) {
+                return null;
+            }
+            IIngredientMapMutable<T, M, Entry> entries = channelEntries.get(matchCondition);
+            return entries == null ? null : entries.get(instance);
+        }
+
+        public void putCrafting(int channel, IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition, Entry entry) {
+            this.crafting.computeIfAbsent(channel, c -> Maps.newHashMap())
+                    .computeIfAbsent(matchCondition, m -> new IngredientHashMap<>(ingredientComponent))
+                    .put(instance, entry);
+        }
+
+        public void invalidate(int channel) {
+            if (channel == IPositionedAddonsNetwork.WILDCARD_CHANNEL) {
+                this.crafting.clear();
+                this.canCraft.clear();
+            } else {
+                this.crafting.remove(channel);
+                this.crafting.remove(IPositionedAddonsNetwork.WILDCARD_CHANNEL);
+                this.canCraft.remove(channel);
+                this.canCraft.remove(IPositionedAddonsNetwork.WILDCARD_CHANNEL);
+            }
+        }
+    }
 }
@@ -12,6 +12,8 @@ import org.cyclops.cyclopscore.helper.BlockEntityHelpers;
 import org.cyclops.integrateddynamics.Capabilities;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
@@ -28,6 +30,7 @@ import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.read.IPartStateReader;
 import org.cyclops.integrateddynamics.api.part.read.IPartTypeReader;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
+import org.cyclops.integrateddynamics.core.evaluate.expression.SharedExpressions;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
 import java.util.Iterator;
@@ -48,6 +51,7 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     private List<DimPos> variableContainerPositions = Lists.newArrayList();
     private Map<Integer, IVariableFacade> compositeVariableCache = null;
     private Int2ObjectMap<IValue> lazyExpressionValueCache = new Int2ObjectOpenHashMap<>();
+    private final SharedExpressions sharedExpressions = new SharedExpressions(this);
     private Int2ObjectMap<DimPos> proxyPositions = new Int2ObjectOpenHashMap<>();
 
     private volatile boolean partsChanged = false;
@@ -156,6 +160,11 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return getVariableCache().get(variableId);
     }
 
+    @Override
+    public IExpression getExpression(int id, IOperator operator, IVariable[] input) {
+        return sharedExpressions.get(id, operator, input);
+    }
+
     @Override
     public void setValue(int id, IValue value) {
         lazyExpressionValueCache.put(id, value);
@@ -9,6 +9,8 @@ import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.ListTag;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import org.checkerframework.checker.units.qual.C;
 import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
@@ -167,6 +169,8 @@ public abstract class PositionedAddonsNetworkIngredients<T, M> extends Positione
         if (lastRemoved != null) {
             lastRemoved.remove(pos);
         }
+
+        ingredientObserver.onPositionAdded(channel, pos);
     }
 
     @Override
@@ -190,6 +194,16 @@ public abstract class PositionedAddonsNetworkIngredients<T, M> extends Positione
         this.ingredientObserver.removeChangeObserver(observer);
     }
 
+    @Override
+    public ListTag writeIndexSnapshot(HolderLookup.Provider provider) {
+        return this.ingredientObserver.writeSnapshots(provider);
+    }
+
+    @Override
+    public void readIndexSnapshot(HolderLookup.Provider provider, ListTag tag) {
+        this.ingredientObserver.readSnapshots(provider, tag);
+    }
+
     @Override
     public void scheduleObservation() {
         this.observe = true;
@@ -37,6 +37,7 @@ public class NetworkDataClient {
             "gui.integrateddynamics.diagnostics.title",
             "gui.integrateddynamics.diagnostics.parts",
             "gui.integrateddynamics.diagnostics.observers",
+            "gui.integrateddynamics.diagnostics.evaluations",
             "gui.integrateddynamics.diagnostics.table.network",
             "gui.integrateddynamics.diagnostics.table.cables",
             "gui.integrateddynamics.diagnostics.table.part",
@@ -44,7 +45,13 @@ public class NetworkDataClient {
             "gui.integrateddynamics.diagnostics.table.dimension",
             "gui.integrateddynamics.diagnostics.table.position",
             "gui.integrateddynamics.diagnostics.table.side",
-            "gui.integrateddynamics.diagnostics.table.actions"
+            "gui.integrateddynamics.diagnostics.table.actions",
+            "gui.integrateddynamics.diagnostics.table.kind",
+            "gui.integrateddynamics.diagnostics.table.name",
+            "gui.integrateddynamics.diagnostics.table.invocations",
+            "gui.integrateddynamics.diagnostics.table.cachehits",
+            "gui.integrateddynamics.diagnostics.table.totaltime",
+            "gui.integrateddynamics.diagnostics.table.maxtime"
     };
 
     private static final Multimap<Integer, ObservablePartData> networkDataParts = ArrayListMultimap.create();
@@ -75,7 +82,7 @@ public class NetworkDataClient {
                             rawNetworkData.getId(), rawNetworkData.getCables(),
                             rawPartData.getDimension(), rawPartData.getPos(),
                             rawPartData.getSide(), rawPartData.getName(),
-                            rawPartData.getLast20TicksDurationNs());
+                            rawPartData.getLast20TicksDurationNs(), rawPartData.getEvaluations());
                     parts.add(partData);
 
                     // Remove this position from the previously rendered list
@@ -140,6 +147,7 @@ public class NetworkDataClient {
         responseObject.add("localization", getLocalizationJson());
         responseObject.add("parts", getPartsJson());
         responseObject.add("observers", getObserversJson());
+        responseObject.add("evaluations", getEvaluationsJson());
 
         return gson.toJson(responseObject) + "\n";
     }
@@ -172,6 +180,32 @@ public class NetworkDataClient {
         return jsonArray;
     }
 
+    private static JsonElement getEvaluationsJson() {
+        JsonArray jsonArray = new JsonArray();
+        synchronized (networkDataParts) {
+            for (Map.Entry<Integer, ObservablePartData> entry : networkDataParts.entries()) {
+                ObservablePartData part = entry.getValue();
+                for (RawEvaluationData evaluation : part.getEvaluations()) {
+                    JsonObject jsonEvaluation = new JsonObject();
+                    jsonEvaluation.addProperty("network", part.getNetworkId());
+                    jsonEvaluation.addProperty("part", L10NHelpers.localize(part.getName()));
+                    jsonEvaluation.addProperty("dimension", part.getDimension().location().toString());
+                    jsonEvaluation.addProperty("position", part.getPos().toShortString());
+                    jsonEvaluation.addProperty("side", part.getSide().name());
+                    jsonEvaluation.addProperty("kind", evaluation.isVariable() ? "variable" : "operator");
+                    jsonEvaluation.addProperty("name", evaluation.getName());
+                    jsonEvaluation.addProperty("invocations", evaluation.getInvocations());
+                    jsonEvaluation.addProperty("cachehits", evaluation.getCacheHits());
+                    jsonEvaluation.addProperty("totaltime", Float.parseFloat(String.format(Locale.ENGLISH, "%.6f", ((double) evaluation.getTotalDurationNs()) / MinecraftHelpers.SECOND_IN_TICKS / 1000000)));
+                    jsonEvaluation.addProperty("maxtime", Float.parseFloat(String.format(Locale.ENGLISH, "%.6f", ((double) evaluation.getMaxDurationNs()) / 1000000)));
+                    jsonEvaluation.addProperty("highlighted", NetworkDiagnosticsPartOverlayRenderer.getInstance().hasPartPos(part.toPartPos()));
+                    jsonArray.add(jsonEvaluation);
+                }
+            }
+        }
+        return jsonArray;
+    }
+
     private static JsonElement getObserversJson() {
         JsonArray jsonArray = new JsonArray();
         synchronized (networkDataParts) {
@@ -236,6 +270,7 @@ public class NetworkDataClient {
         private final Direction side;
         private final String name;
         private final long last20TicksDurationNs;
+        private final List<RawEvaluationData> evaluations;
 
         public PartPos toPartPos() {
             Level world = Minecraft.getInstance().level;
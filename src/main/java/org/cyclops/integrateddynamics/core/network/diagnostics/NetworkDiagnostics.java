@@ -10,9 +10,11 @@ import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
 import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 import org.cyclops.integrateddynamics.network.packet.NetworkDiagnosticsNetworkPacket;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -60,10 +62,12 @@ public class NetworkDiagnostics {
                 IPartNetworkElement partNetworkElement = (IPartNetworkElement) networkElement;
                 PartPos pos = partNetworkElement.getTarget().getCenter();
                 long lastSecondDurationNs = network.getLastSecondDuration(networkElement);
+                EvaluationProfiler.Profile profile = network.getLastSecondProfile(networkElement);
                 rawParts.add(new RawPartData(pos.getPos().getLevelKey(),
                         pos.getPos().getBlockPos(), pos.getSide(),
                         partNetworkElement.getPart().getTranslationKey(),
-                        lastSecondDurationNs));
+                        lastSecondDurationNs,
+                        profile != null ? RawEvaluationData.fromProfile(profile) : Collections.emptyList()));
             } else {
                 // If needed, we can send the other part types later on as well
             }
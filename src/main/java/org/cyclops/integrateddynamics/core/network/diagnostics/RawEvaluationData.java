@@ -0,0 +1,73 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import com.google.common.collect.Lists;
+import lombok.Data;
+import net.minecraft.nbt.CompoundTag;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The evaluation cost of an operator or variable within a part.
+ * @author rubensworks
+ */
+@Data
+public class RawEvaluationData implements IRawData {
+
+    /**
+     * The maximum number of entries that is sent per part.
+     */
+    public static final int MAX_ENTRIES = 10;
+
+    private final boolean variable;
+    private final String name;
+    private final int invocations;
+    private final int cacheHits;
+    private final long totalDurationNs;
+    private final long maxDurationNs;
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s invocations, %sns", name, invocations, totalDurationNs);
+    }
+
+    public CompoundTag toNbt() {
+        CompoundTag tag = new CompoundTag();
+        tag.putBoolean("variable", variable);
+        tag.putString("name", name);
+        tag.putInt("invocations", invocations);
+        tag.putInt("cacheHits", cacheHits);
+        tag.putLong("totalDurationNs", totalDurationNs);
+        tag.putLong("maxDurationNs", maxDurationNs);
+        return tag;
+    }
+
+    public static RawEvaluationData fromNbt(CompoundTag tag) {
+        return new RawEvaluationData(tag.getBoolean("variable"), tag.getString("name"), tag.getInt("invocations"),
+                tag.getInt("cacheHits"), tag.getLong("totalDurationNs"), tag.getLong("maxDurationNs"));
+    }
+
+    /**
+     * Get the most expensive entries of the given profile.
+     * @param profile An evaluation profile.
+     * @return The at most {@link #MAX_ENTRIES} operators and variables with the highest total duration.
+     */
+    public static List<RawEvaluationData> fromProfile(EvaluationProfiler.Profile profile) {
+        List<RawEvaluationData> entries = Lists.newArrayList();
+        for (Map.Entry<String, EvaluationProfiler.Stats> entry : profile.getOperators().entrySet()) {
+            entries.add(of(false, entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<Integer, EvaluationProfiler.Stats> entry : profile.getVariables().int2ObjectEntrySet()) {
+            entries.add(of(true, String.valueOf(entry.getKey()), entry.getValue()));
+        }
+        entries.sort(Comparator.comparingLong(RawEvaluationData::getTotalDurationNs).reversed());
+        return entries.size() > MAX_ENTRIES ? Lists.newArrayList(entries.subList(0, MAX_ENTRIES)) : entries;
+    }
+
+    protected static RawEvaluationData of(boolean variable, String name, EvaluationProfiler.Stats stats) {
+        return new RawEvaluationData(variable, name, stats.getInvocations(), stats.getCacheHits(), stats.getTotalNs(), stats.getMaxNs());
+    }
+
+}
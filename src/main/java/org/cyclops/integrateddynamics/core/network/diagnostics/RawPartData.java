@@ -1,14 +1,19 @@
 package org.cyclops.integrateddynamics.core.network.diagnostics;
 
+import com.google.common.collect.Lists;
 import lombok.Data;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
 
+import java.util.List;
+
 /**
  * @author rubensworks
  */
@@ -20,6 +25,7 @@ public class RawPartData implements IRawData {
     private final Direction side;
     private final String name;
     private final long last20TicksDurationNs;
+    private final List<RawEvaluationData> evaluations;
 
     @Override
     public String toString() {
@@ -33,12 +39,24 @@ public class RawPartData implements IRawData {
         tag.putInt("side", side.ordinal());
         tag.putString("name", name);
         tag.putLong("last20TicksDurationNs", last20TicksDurationNs);
+
+        ListTag listEvaluations = new ListTag();
+        for (RawEvaluationData evaluation : evaluations) {
+            listEvaluations.add(evaluation.toNbt());
+        }
+        tag.put("evaluations", listEvaluations);
+
         return tag;
     }
 
     public static RawPartData fromNbt(CompoundTag tag) {
+        List<RawEvaluationData> evaluations = Lists.newArrayList();
+        ListTag listEvaluations = tag.getList("evaluations", Tag.TAG_COMPOUND);
+        for (int i = 0; i < listEvaluations.size(); i++) {
+            evaluations.add(RawEvaluationData.fromNbt(listEvaluations.getCompound(i)));
+        }
         return new RawPartData(ResourceKey.create(Registries.DIMENSION, ResourceLocation.parse(tag.getString("dimension"))), BlockPos.of(tag.getLong("pos")),
-                Direction.values()[tag.getInt("side")], tag.getString("name"), tag.getLong("last20TicksDurationNs"));
+                Direction.values()[tag.getInt("side")], tag.getString("name"), tag.getLong("last20TicksDurationNs"), evaluations);
     }
 
 }
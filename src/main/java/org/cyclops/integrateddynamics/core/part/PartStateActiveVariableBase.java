@@ -141,6 +141,10 @@ public abstract class PartStateActiveVariableBase<P extends IPartType> extends P
      */
     public void addGlobalError(MutableComponent error) {
         setRetryEvaluation(false);
+        // Avoid syncing when a part keeps failing in the same way on each tick
+        if(error != null && globalErrorMessages.contains(error)) {
+            return;
+        }
         if(error == null) {
             globalErrorMessages.clear();
         } else {
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.part.aspect.property;
 
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -12,6 +13,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationC
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectPropertyTypeInstance;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 
 import java.util.Collection;
@@ -77,7 +79,12 @@ public class AspectProperties implements IAspectProperties {
             CompoundTag nbtEntry = new CompoundTag();
             nbtEntry.putString("key", entry.getKey().getType().getUniqueName().toString());
             nbtEntry.putString("label", entry.getKey().getTranslationKey());
-            nbtEntry.put("value", ValueHelpers.serializeRaw(valueDeseralizationContext, entry.getValue()));
+            ByteArrayTag binaryValue = ValueStreamCodecs.serializeForClientSync(valueDeseralizationContext, entry.getValue());
+            if (binaryValue != null) {
+                nbtEntry.put("valueBinary", binaryValue);
+            } else {
+                nbtEntry.put("value", ValueHelpers.serializeRaw(valueDeseralizationContext, entry.getValue()));
+            }
             map.add(nbtEntry);
         }
         tag.put("map", map);
@@ -95,7 +102,9 @@ public class AspectProperties implements IAspectProperties {
             if(type == null) {
                 IntegratedDynamics.clog(org.apache.logging.log4j.Level.ERROR, String.format("Could not find value type with name %s, skipping loading.", valueTypeName));
             } else {
-                IValue value = ValueHelpers.deserializeRaw(valueDeseralizationContext, type, nbtEntry.get("value"));
+                IValue value = nbtEntry.contains("valueBinary", Tag.TAG_BYTE_ARRAY)
+                        ? ValueStreamCodecs.deserializeFromClientSync(valueDeseralizationContext, (ByteArrayTag) nbtEntry.get("valueBinary"))
+                        : ValueHelpers.deserializeRaw(valueDeseralizationContext, type, nbtEntry.get("value"));
                 String label = nbtEntry.getString("label");
                 if(value == null) {
                     IntegratedDynamics.clog(org.apache.logging.log4j.Level.ERROR, String.format("The value type %s could not load its value, using default.", valueTypeName));
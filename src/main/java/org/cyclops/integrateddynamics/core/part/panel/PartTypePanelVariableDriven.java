@@ -6,6 +6,7 @@ import lombok.Setter;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
@@ -44,6 +45,7 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlock;
 import org.cyclops.integrateddynamics.core.block.IgnoredBlockStatus;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueStreamCodecs;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -126,11 +128,19 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             try {
                 IVariable variable = state.getVariable(network, partNetwork, ValueDeseralizationContext.of(level));
                 if(variable != null) {
-                    newValue = variable.getValue();
+                    EvaluationException error = variable.getError();
+                    if(error != null) {
+                        // Remembered failures were already handled when they were first thrown
+                        if (!state.isRetryEvaluation()) {
+                            state.addGlobalError(error.getErrorMessage());
+                        }
+                    } else {
+                        newValue = variable.getValue();
 
-                    if (state.isRetryEvaluation()) {
-                        state.setRetryEvaluation(false);
-                        state.addGlobalError(null);
+                        if (state.isRetryEvaluation()) {
+                            state.setRetryEvaluation(false);
+                            state.addGlobalError(null);
+                        }
                     }
                 }
             } catch (EvaluationException e) {
@@ -314,8 +324,13 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             super.writeToNBT(valueDeseralizationContext, tag);
             IValue value = getDisplayValue();
             if(value != null) {
-                tag.putString("displayValueType", value.getType().getUniqueName().toString());
-                tag.put("displayValue", ValueHelpers.serializeRaw(valueDeseralizationContext, value));
+                ByteArrayTag binaryValue = ValueStreamCodecs.serializeForClientSync(valueDeseralizationContext, value);
+                if(binaryValue != null) {
+                    tag.put("displayValueBinary", binaryValue);
+                } else {
+                    tag.putString("displayValueType", value.getType().getUniqueName().toString());
+                    tag.put("displayValue", ValueHelpers.serializeRaw(valueDeseralizationContext, value));
+                }
             }
             tag.putInt("facingRotation", facingRotation.ordinal());
         }
@@ -323,7 +338,9 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Override
         public void readFromNBT(ValueDeseralizationContext valueDeseralizationContext, CompoundTag tag) {
             super.readFromNBT(valueDeseralizationContext, tag);
-            if(tag.contains("displayValueType", Tag.TAG_STRING)
+            if(tag.contains("displayValueBinary", Tag.TAG_BYTE_ARRAY)) {
+                setDisplayValue(ValueStreamCodecs.deserializeFromClientSync(valueDeseralizationContext, (ByteArrayTag) tag.get("displayValueBinary")));
+            } else if(tag.contains("displayValueType", Tag.TAG_STRING)
                     && tag.contains("displayValue")) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(ResourceLocation.parse(tag.getString("displayValueType")));
                 if(valueType != null) {
@@ -1,6 +1,5 @@
 package org.cyclops.integrateddynamics.network.packet;
 
-import net.minecraft.nbt.Tag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
@@ -12,11 +11,9 @@ import net.neoforged.api.distmarker.OnlyIn;
 import org.cyclops.cyclopscore.network.CodecField;
 import org.cyclops.cyclopscore.network.PacketCodec;
 import org.cyclops.integrateddynamics.Reference;
-import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.logicprogrammer.ILogicProgrammerElement;
-import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
-import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.logicprogrammer.ValueTypeListLPElement;
 import org.cyclops.integrateddynamics.inventory.container.ContainerLogicProgrammerBase;
 
@@ -31,19 +28,19 @@ public class LogicProgrammerValueTypeListValueChangedPacket extends PacketCodec
     public static final StreamCodec<RegistryFriendlyByteBuf, LogicProgrammerValueTypeListValueChangedPacket> CODEC = getCodec(LogicProgrammerValueTypeListValueChangedPacket::new);
 
     @CodecField
-    private Tag value;
+    private IValue value;
 
     public LogicProgrammerValueTypeListValueChangedPacket() {
         super(ID);
     }
 
-    public LogicProgrammerValueTypeListValueChangedPacket(ValueDeseralizationContext valueDeseralizationContext, ValueTypeList.ValueList value) {
+    public LogicProgrammerValueTypeListValueChangedPacket(ValueTypeList.ValueList value) {
         super(ID);
-        this.value = ValueHelpers.serializeRaw(valueDeseralizationContext, value);
+        this.value = value;
     }
 
-    protected ValueTypeList.ValueList getListValue(Level level) {
-        return ValueHelpers.deserializeRaw(ValueDeseralizationContext.of(level), ValueTypes.LIST, value);
+    protected ValueTypeList.ValueList getListValue() {
+        return (ValueTypeList.ValueList) value;
     }
 
     @Override
@@ -62,7 +59,7 @@ public class LogicProgrammerValueTypeListValueChangedPacket extends PacketCodec
         if(player.containerMenu instanceof ContainerLogicProgrammerBase) {
             ILogicProgrammerElement element = ((ContainerLogicProgrammerBase) player.containerMenu).getActiveElement();
             if(element instanceof ValueTypeListLPElement) {
-                ((ValueTypeListLPElement) element).setServerValue(getListValue(world));
+                ((ValueTypeListLPElement) element).setServerValue(getListValue());
                 ((ContainerLogicProgrammerBase) player.containerMenu).onDirty();
             }
         }
@@ -76,6 +76,25 @@ public class TestArithmeticOperators {
         assertThat("10 + -10 = 0", ((ValueTypeInteger.ValueInteger) res5).getRawValue(), is(0));
     }
 
+    @Test
+    public void testArithmeticAddIntegerLarge() throws EvaluationException {
+        DummyVariableInteger iLarge = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(100000));
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{iLarge, i15});
+        assertThat("100000 + 15 = 100015", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(100015));
+
+        IValue res2 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{i10, i15});
+        assertThat("small results are shared", res2 == ValueTypeInteger.ValueInteger.of(25), is(true));
+    }
+
+    @Test
+    public void testArithmeticAddLong() throws EvaluationException {
+        DummyVariableLong l10 = new DummyVariableLong(ValueTypeLong.ValueLong.of(10));
+        DummyVariableLong lLarge = new DummyVariableLong(ValueTypeLong.ValueLong.of(Long.MAX_VALUE - 10));
+        IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{l10, lLarge});
+        assertThat("result is a long", res1, instanceOf(ValueTypeLong.ValueLong.class));
+        assertThat("10 + (MAX - 10) = MAX", ((ValueTypeLong.ValueLong) res1).getRawValue(), is(Long.MAX_VALUE));
+    }
+
     @Test
     public void testArithmeticAddDouble() throws EvaluationException {
         IValue res1 = Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{d10, d10});
@@ -0,0 +1,93 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ICompiledExpression;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test operators that are compiled against a fixed input.
+ * @author rubensworks
+ */
+public class TestCompiledExpressions {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+    private static final DummyValueType DUMMY_TYPE = DummyValueType.TYPE;
+    private static final DummyVariable<DummyValueType.DummyValue> DUMMY_VARIABLE =
+            new DummyVariable<DummyValueType.DummyValue>(DUMMY_TYPE, DummyValueType.DummyValue.of());
+
+    private DummyVariableBoolean bTrue;
+    private DummyVariableBoolean bFalse;
+    private DummyVariableInteger i2;
+    private DummyVariableInteger i3;
+
+    @Before
+    public void before() {
+        bTrue = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(true));
+        bFalse = new DummyVariableBoolean(ValueTypeBoolean.ValueBoolean.of(false));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2));
+        i3 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(3));
+    }
+
+    @Test
+    public void testCompiledArithmetic() throws EvaluationException {
+        ICompiledExpression compiled = Operators.ARITHMETIC_ADDITION.compile(new IVariable[]{i2, i3});
+        assertThat("2 + 3 = 5", ((ValueTypeInteger.ValueInteger) compiled.evaluate()).getRawValue(), is(5));
+
+        i3.setValue(ValueTypeInteger.ValueInteger.of(10));
+        assertThat("2 + 10 = 12", ((ValueTypeInteger.ValueInteger) compiled.evaluate()).getRawValue(), is(12));
+    }
+
+    @Test
+    public void testCompiledShortCircuiting() throws EvaluationException {
+        ICompiledExpression compiled = Operators.LOGICAL_AND.compile(new IVariable[]{bFalse, bTrue});
+        assertThat("false && true = false", ((ValueTypeBoolean.ValueBoolean) compiled.evaluate()).getRawValue(), is(false));
+        assertThat("first variable was called", bFalse.isFetched(), is(true));
+        assertThat("second variable was not called", bTrue.isFetched(), is(false));
+    }
+
+    @Test
+    public void testCompiledCurried() throws EvaluationException {
+        ICompiledExpression compiled = new CurriedOperator(Operators.ARITHMETIC_ADDITION, i2).compile(new IVariable[]{i3});
+        assertThat("2 + 3 = 5", ((ValueTypeInteger.ValueInteger) compiled.evaluate()).getRawValue(), is(5));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testCompiledInvalidInputType() throws EvaluationException {
+        Operators.LOGICAL_AND.compile(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE}).evaluate();
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testCompiledInvalidInputSize() throws EvaluationException {
+        Operators.LOGICAL_AND.compile(new IVariable[]{bTrue}).evaluate();
+    }
+
+    @Test
+    public void testValidatedSignatureReused() throws EvaluationException {
+        Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, bTrue});
+        IValue res = Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, bFalse});
+        assertThat("true && false = false", ((ValueTypeBoolean.ValueBoolean) res).getRawValue(), is(false));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testValidatedSignatureInvalidInputType() throws EvaluationException {
+        Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, bTrue});
+        Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, DUMMY_VARIABLE});
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testValidatedSignatureInvalidInputSize() throws EvaluationException {
+        Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, bTrue});
+        Operators.LOGICAL_AND.evaluate(new IVariable[]{bTrue, bTrue, bTrue});
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CombinedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.EvaluationContext;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the evaluation context.
+ * @author rubensworks
+ */
+public class TestEvaluationContext {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private static IOperator increment() {
+        return new CurriedOperator(Operators.ARITHMETIC_ADDITION,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1)));
+    }
+
+    @Test
+    public void testDeepPipe() throws Throwable {
+        IOperator operator = increment();
+        for (int i = 0; i < 10000; i++) {
+            operator = CombinedOperator.Pipe.asOperator(increment(), operator);
+        }
+        IOperator pipe = operator;
+
+        // Evaluate in a thread with a small stack, which would overflow if each pipe took a stack frame
+        AtomicReference<IValue> result = new AtomicReference<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> {
+            try {
+                result.set(ValueHelpers.evaluateOperator(pipe, ValueTypeInteger.ValueInteger.of(0)));
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        }, "deep-pipe", 256 * 1024);
+        thread.start();
+        thread.join();
+        if (error.get() != null) {
+            throw error.get();
+        }
+        assertThat(result.get(), equalTo(ValueTypeInteger.ValueInteger.of(10001)));
+    }
+
+    @Test
+    public void testOmegaResetsDepth() throws EvaluationException {
+        DummyVariableOperator oId = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.GENERAL_IDENTITY));
+        DummyVariableOperator oApply = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.OPERATOR_APPLY));
+        IValue oX = Operators.OPERATOR_PIPE2.evaluate(new IVariable[]{oId, oId, oApply});
+        try {
+            Operators.OPERATOR_APPLY.evaluate(new IVariable[]{new DummyVariable(ValueTypes.OPERATOR, oX), new DummyVariable(ValueTypes.OPERATOR, oX)});
+            fail("The omega operator must reach the recursion limit");
+        } catch (EvaluationException e) {
+            // Expected
+        }
+        assertThat("all depths are reset after an error", EvaluationContext.get().getDepth(Operators.OPERATOR_APPLY), is(0));
+    }
+
+    @Test
+    public void testThreadsAreIndependent() throws Throwable {
+        EvaluationContext.get().enter(Operators.OPERATOR_APPLY);
+        try {
+            AtomicReference<Integer> depth = new AtomicReference<>();
+            Thread thread = new Thread(() -> depth.set(EvaluationContext.get().getDepth(Operators.OPERATOR_APPLY)));
+            thread.start();
+            thread.join();
+            assertThat(depth.get(), is(0));
+            assertThat(EvaluationContext.get().getDepth(Operators.OPERATOR_APPLY), is(1));
+        } finally {
+            EvaluationContext.get().exit(Operators.OPERATOR_APPLY);
+        }
+        assertThat(EvaluationContext.get().getDepth(Operators.OPERATOR_APPLY), is(0));
+    }
+
+}
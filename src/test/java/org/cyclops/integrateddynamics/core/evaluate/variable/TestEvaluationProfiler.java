@@ -0,0 +1,54 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.EvaluationProfiler;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the evaluation profiler.
+ * @author rubensworks
+ */
+public class TestEvaluationProfiler {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private final IVariable[] integers = new IVariable[]{
+            new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1)),
+            new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(2))
+    };
+
+    @Test
+    public void testRecordOperators() throws EvaluationException {
+        EvaluationProfiler.Profile profile = new EvaluationProfiler.Profile();
+        EvaluationProfiler.start(profile);
+        try {
+            Operators.ARITHMETIC_ADDITION.evaluate(integers);
+            Operators.ARITHMETIC_ADDITION.evaluate(integers);
+            Operators.ARITHMETIC_MULTIPLICATION.evaluate(integers);
+        } finally {
+            EvaluationProfiler.stop();
+        }
+
+        String addition = Operators.ARITHMETIC_ADDITION.getUniqueName().toString();
+        String multiplication = Operators.ARITHMETIC_MULTIPLICATION.getUniqueName().toString();
+        assertThat(profile.getOperators().size(), is(2));
+        assertThat(profile.getOperators().get(addition).getInvocations(), is(2));
+        assertThat(profile.getOperators().get(multiplication).getInvocations(), is(1));
+        assertThat(profile.getOperators().get(addition).getTotalNs() >= profile.getOperators().get(addition).getMaxNs(), is(true));
+    }
+
+    @Test
+    public void testInactive() throws EvaluationException {
+        Operators.ARITHMETIC_ADDITION.evaluate(integers);
+        assertThat(EvaluationProfiler.getActiveProfile(), nullValue());
+    }
+
+}
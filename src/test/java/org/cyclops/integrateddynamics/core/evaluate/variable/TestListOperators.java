@@ -13,6 +13,8 @@ import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -498,6 +500,20 @@ public class TestListOperators {
         assertThat("concat([0, 1, 2], [0, 1, 2, 3]).size = 7", list.getLength(), is(7));
     }
 
+    @Test
+    public void testListConcatNested() throws EvaluationException {
+        IValue res1 = Operators.LIST_CONCAT.evaluate(new IVariable[]{lintegers_012, lempty});
+        IValue res2 = Operators.LIST_CONCAT.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) res1), lempty});
+        IValue res3 = Operators.LIST_CONCAT.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) res2), lintegers});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res3).getRawValue();
+
+        assertThat("concat(concat(concat([0, 1, 2], []), []), [0, 1, 2, 3])[2] = 2", list.get(2).getRawValue(), is(2));
+        assertThat("concat(concat(concat([0, 1, 2], []), []), [0, 1, 2, 3])[3] = 0", list.get(3).getRawValue(), is(0));
+        assertThat("concat(concat(concat([0, 1, 2], []), []), [0, 1, 2, 3])[6] = 3", list.get(6).getRawValue(), is(3));
+        assertThat("concat(concat(concat([0, 1, 2], []), []), [0, 1, 2, 3])[7] = null", list.get(7), nullValue());
+        assertThat("concat(concat(concat([0, 1, 2], []), []), [0, 1, 2, 3]).size = 7", list.getLength(), is(7));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeConcatInvalidType() throws EvaluationException {
         Operators.LIST_CONCAT.evaluate(new IVariable[]{lintegers_012, oRelationalEquals});
@@ -600,6 +616,51 @@ public class TestListOperators {
         assertThat("tail([0, 1, 2, 3]).size = 3", list.getLength(), is(3));
     }
 
+    @Test
+    public void testListAppendTailRepeated() throws EvaluationException {
+        IVariable list = lintegers;
+        for (int i = 0; i < 1000; i++) {
+            list = new DummyVariableList((ValueTypeList.ValueList) Operators.LIST_APPEND.evaluate(new IVariable[]{list,
+                    new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(i))}));
+        }
+        for (int i = 0; i < 500; i++) {
+            list = new DummyVariableList((ValueTypeList.ValueList) Operators.LIST_TAIL.evaluate(new IVariable[]{list}));
+        }
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> proxy = ((ValueTypeList.ValueList) list.getValue()).getRawValue();
+
+        assertThat("result is a vector", proxy, instanceOf(ValueTypeListProxyVector.class));
+        assertThat("tail^500([0, 1, 2, 3] ++ [0..999]).size = 504", proxy.getLength(), is(504));
+        assertThat("tail^500([0, 1, 2, 3] ++ [0..999])[0] = 496", proxy.get(0).getRawValue(), is(496));
+        assertThat("tail^500([0, 1, 2, 3] ++ [0..999])[503] = 999", proxy.get(503).getRawValue(), is(999));
+        for (int i = 0; i < 504; i++) {
+            assertThat("tail^500([0, 1, 2, 3] ++ [0..999])[" + i + "]", proxy.get(i).getRawValue(), is(496 + i));
+        }
+    }
+
+    @Test
+    public void testListVectorIndexed() throws EvaluationException {
+        DummyVariableList vector = new DummyVariableList(ValueTypeList.ValueList.ofFactory(
+                ValueTypeListProxyVector.of(lintegers_dup.getValue().getRawValue())));
+        DummyVariableList vectorDistinct = new DummyVariableList(ValueTypeList.ValueList.ofFactory(
+                ValueTypeListProxyVector.of(lintegers.getValue().getRawValue())));
+
+        // Query repeatedly, so that both the linear scan and the index are used
+        for (int i = 0; i < 2; i++) {
+            assertThat("contains(vector[0, 1, 2, 3, 1, 2, 3, 2, 3, 3], 2) = true",
+                    ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{vector, i2})).getRawValue(), is(true));
+            assertThat("contains(vector[0, 1, 2, 3, 1, 2, 3, 2, 3, 3], 5) = false",
+                    ((ValueTypeBoolean.ValueBoolean) Operators.LIST_CONTAINS.evaluate(new IVariable[]{vector,
+                            new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(5))})).getRawValue(), is(false));
+            assertThat("count(vector[0, 1, 2, 3, 1, 2, 3, 2, 3, 3], 3) = 4",
+                    ((ValueTypeInteger.ValueInteger) Operators.LIST_COUNT.evaluate(new IVariable[]{vector, i3})).getRawValue(), is(4));
+        }
+
+        IValue uniq = Operators.LIST_UNIQ.evaluate(new IVariable[]{vector});
+        assertThat("uniq(vector[0, 1, 2, 3, 1, 2, 3, 2, 3, 3]).size = 4", ((ValueTypeList.ValueList) uniq).getRawValue().getLength(), is(4));
+        assertThat("uniq(vector[0, 1, 2, 3]) is returned unchanged",
+                Operators.LIST_UNIQ.evaluate(new IVariable[]{vectorDistinct}) == vectorDistinct.getValue(), is(true));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeTailLarge() throws EvaluationException {
         Operators.LIST_TAIL.evaluate(new IVariable[]{lintegers, i2});
@@ -645,6 +706,30 @@ public class TestListOperators {
         assertThat("uniqPredicate([3, 2, 1, 0, 2, 1, 0, 1, 0, 0], ==).size = 4", list.getLength(), is(4));
     }
 
+    @Test
+    public void testListUniqPredicateDifferentProxies() throws EvaluationException {
+        ValueTypeList.ValueList materialized = ValueTypeList.ValueList.ofAll(
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2));
+        ValueTypeList.ValueList appended = ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyAppend(
+                ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1)).getRawValue(), ValueTypeInteger.ValueInteger.of(2)));
+        assertThat("equal lists of different implementations are equal", appended, is(materialized));
+        assertThat("equal lists of different implementations have the same hash", appended.hashCode(), is(materialized.hashCode()));
+
+        DummyVariableList lists = new DummyVariableList(ValueTypeList.ValueList.ofAll(ValueTypes.LIST, materialized, appended));
+        IValue res1 = Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{lists, oRelationalEquals});
+        assertThat("uniqPredicate([[1, 2], [1] + 2], ==).size = 1", ((ValueTypeList.ValueList) res1).getRawValue().getLength(), is(1));
+    }
+
+    @Test
+    public void testListEqualsCorrespondingTypes() {
+        ValueTypeList.ValueList integers = ValueTypeList.ValueList.ofAll(
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2));
+        ValueTypeList.ValueList any = ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY,
+                ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(2));
+        assertThat("lists of corresponding element types are equal", any, is(integers));
+        assertThat("lists of corresponding element types have the same hash", any.hashCode(), is(integers.hashCode()));
+    }
+
     @Test
     public void testListUniqPredicateHashCollision() throws EvaluationException {
         IValue res1 = Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{llongs_hash_collision, oRelationalEquals});
@@ -654,6 +739,19 @@ public class TestListOperators {
         assertThat("uniqPredicate([0xAAAAAAAA12345678L, 0x3333333312345678L, 0x12345678AAAAAAAAL, 0x1234567833333333L], ==).size = 4", list.getLength(), is(4));
     }
 
+    @Test
+    public void testListUniqPredicateNonEquivalence() throws EvaluationException {
+        assertThat(Operators.RELATIONAL_EQUALS.getEquivalenceKey(), not(nullValue()));
+        assertThat(Operators.RELATIONAL_GT.getEquivalenceKey(), nullValue());
+
+        IValue res1 = Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{lintegers_dup,
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_GT))});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res1).getRawValue();
+
+        assertThat("uniqPredicate([0, 1, 2, 3, 1, 2, 3, 2, 3, 3], >)[0] = 0", list.get(0).getRawValue(), is(0));
+        assertThat("uniqPredicate([0, 1, 2, 3, 1, 2, 3, 2, 3, 3], >).size = 1", list.getLength(), is(1));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeUniqPredicateLarge() throws EvaluationException {
         Operators.LIST_UNIQ_PREDICATE.evaluate(new IVariable[]{lintegers, oRelationalEquals, i2});
@@ -686,6 +784,22 @@ public class TestListOperators {
         assertThat("uniq([0, 1, 2, 3, 1, 2, 3, 2, 3, 3]).size = 4", list.getLength(), is(4));
     }
 
+    @Test
+    public void testListUniqDistinct() throws EvaluationException {
+        IValue res1 = Operators.LIST_UNIQ.evaluate(new IVariable[]{lintegers});
+        assertThat("uniq([0, 1, 2, 3]) = [0, 1, 2, 3]", res1, is(lintegers.getValue()));
+    }
+
+    @Test
+    public void testListMaterializedEquals() throws EvaluationException {
+        ValueTypeList.ValueList list1 = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(0), ValueTypeInteger.ValueInteger.of(1));
+        ValueTypeList.ValueList list2 = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(0), ValueTypeInteger.ValueInteger.of(1));
+        ValueTypeList.ValueList list3 = ValueTypeList.ValueList.ofAll(ValueTypeInteger.ValueInteger.of(1), ValueTypeInteger.ValueInteger.of(0));
+        assertThat("[0, 1] == [0, 1]", list1.equals(list2), is(true));
+        assertThat("hash([0, 1]) == hash([0, 1])", list1.hashCode(), is(list2.hashCode()));
+        assertThat("[0, 1] != [1, 0]", list1.equals(list3), is(false));
+    }
+
     @Test
     public void testListUniqOrder() throws EvaluationException {
         IValue res1 = Operators.LIST_UNIQ.evaluate(new IVariable[]{lintegers_rev_dup});
@@ -754,6 +868,17 @@ public class TestListOperators {
         assertThat("slice([0, 1, 2, 3], 3, 5).size = 1", list3.getLength(), is(1));
     }
 
+    @Test
+    public void testListSliceNested() throws EvaluationException {
+        IValue res1 = Operators.LIST_SLICE.evaluate(new IVariable[]{lintegers, i1, i4});
+        IValue res2 = Operators.LIST_SLICE.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) res1), i1, i5});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res2).getRawValue();
+
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5)[0] = 2", list.get(0).getRawValue(), is(2));
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5)[1] = 3", list.get(1).getRawValue(), is(3));
+        assertThat("slice(slice([0, 1, 2, 3], 1, 4), 1, 5).size = 2", list.getLength(), is(2));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeSliceNegative1() throws EvaluationException {
         Operators.LIST_SLICE.evaluate(new IVariable[]{lintegers, i0, im1});
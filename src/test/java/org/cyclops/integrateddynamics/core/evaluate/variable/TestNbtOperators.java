@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 /**
@@ -796,6 +797,20 @@ public class TestNbtOperators {
         assertThat("withinteger({a:a;b:c}, a, 1) = {a:1;b:c}", ((ValueTypeNbt.ValueNbt) res2).getRawValue().get(), is(t2));
     }
 
+    @Test
+    public void testNbtWithIntegerSharesEntries() throws EvaluationException {
+        CompoundTag nested = new CompoundTag();
+        nested.putString("x", "y");
+        CompoundTag original = new CompoundTag();
+        original.put("a", nested);
+        DummyVariableNbt nOriginal = new DummyVariableNbt(ValueTypeNbt.ValueNbt.of(original));
+
+        IValue res1 = Operators.NBT_COMPOUND_WITH_INTEGER.evaluate(new IVariable[]{nOriginal, sc, i1});
+        CompoundTag t1 = (CompoundTag) ((ValueTypeNbt.ValueNbt) res1).getRawValue().get();
+        assertThat("the original tag is not modified", original.contains("c"), is(false));
+        assertThat("unchanged entries are shared", t1.get("a"), sameInstance(original.get("a")));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputNbtWithIntegerSizeLarge() throws EvaluationException {
         Operators.NBT_COMPOUND_WITH_INTEGER.evaluate(new IVariable[]{nempty, sa, sa});
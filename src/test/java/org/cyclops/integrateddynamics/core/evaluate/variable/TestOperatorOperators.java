@@ -400,6 +400,17 @@ public class TestOperatorOperators {
      * ----------------------------------- MAP -----------------------------------
      */
 
+    @Test
+    public void testMapStable() throws EvaluationException {
+        IValueTypeListProxy pure = ((ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(new IVariable[]{oLogicalNot, lbooleans})).getRawValue();
+        assertThat("map(!) over a stable list is stable", ValueTypeListProxyBase.isStable(pure), is(true));
+
+        IValueTypeListProxy impure = ((ValueTypeList.ValueList) Operators.OPERATOR_MAP.evaluate(new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.GENERAL_IDENTITY)), lbooleans})).getRawValue();
+        assertThat("map(id) is not stable, as id is not pure", ValueTypeListProxyBase.isStable(impure), is(false));
+        assertThat("map(id)[0] == false", ((ValueTypeBoolean.ValueBoolean) impure.get(0)).getRawValue(), is(false));
+    }
+
     @Test
     public void testMap() throws EvaluationException {
         IValue res1 = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oArithmeticIncrement, lintegers});
@@ -0,0 +1,61 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the purity of operators.
+ * @author rubensworks
+ */
+public class TestOperatorPurity {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private static final IOperator[] IMPURE = new IOperator[]{
+            Operators.OBJECT_ITEMSTACK_TAG,
+            Operators.OBJECT_ITEMSTACK_TAG_STACKS,
+            Operators.OBJECT_ITEMSTACK_FUELBURNTIME,
+            Operators.OBJECT_ITEMSTACK_CANBURN,
+            Operators.OBJECT_ITEMSTACK_STRENGTH_VS_BLOCK,
+            Operators.OBJECT_ITEMSTACK_CAN_HARVEST_BLOCK,
+            Operators.OBJECT_ITEMSTACK_DATA,
+            Operators.OBJECT_ITEMSTACK_DATA_VALUE,
+            Operators.OBJECT_ITEMSTACK_WITH_DATA,
+            Operators.OBJECT_FLUIDSTACK_DATA,
+            Operators.OBJECT_FLUIDSTACK_DATA_VALUE,
+            Operators.OBJECT_FLUIDSTACK_WITH_DATA,
+            Operators.NAMED_NAME,
+            Operators.UNIQUELYNAMED_UNIQUENAME,
+    };
+
+    private static final IOperator[] PURE = new IOperator[]{
+            Operators.STRING_CONCAT,
+            Operators.STRING_REPLACE_REGEX,
+            Operators.OBJECT_ITEMSTACK_SIZE,
+            Operators.OBJECT_ITEMSTACK_ISRAWITEMEQUAL,
+            Operators.OBJECT_FLUIDSTACK_AMOUNT,
+            Operators.NBT_COMPOUND_WITH_INTEGER,
+            Operators.NBT_PATH_MATCH_ALL,
+    };
+
+    @Test
+    public void testImpure() {
+        for (IOperator operator : IMPURE) {
+            assertThat(operator.getUniqueName() + " is not pure", operator.isPure(), is(false));
+        }
+    }
+
+    @Test
+    public void testPure() {
+        for (IOperator operator : PURE) {
+            assertThat(operator.getUniqueName() + " is pure", operator.isPure(), is(true));
+        }
+    }
+
+}
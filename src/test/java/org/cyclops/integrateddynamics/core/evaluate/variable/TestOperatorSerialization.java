@@ -0,0 +1,101 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.ValueDeseralizationContext;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CombinedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the serialization of operators.
+ * @author rubensworks
+ */
+public class TestOperatorSerialization {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    public static final ValueDeseralizationContext context = ValueDeseralizationContextMocked.get();
+
+    private static IOperator increment(int amount) {
+        return new CurriedOperator(Operators.ARITHMETIC_ADDITION,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(amount)));
+    }
+
+    @Test
+    public void testUnshared() throws EvaluationException {
+        IOperator operator = increment(1);
+        Tag tag = Operators.REGISTRY.serialize(context, operator);
+        assertThat("operators without repeated parts are not wrapped", ((CompoundTag) tag).contains("shared"), is(false));
+        assertThat(Operators.REGISTRY.deserialize(context, tag), equalTo(operator));
+    }
+
+    @Test
+    public void testShared() throws EvaluationException {
+        IOperator inner = CombinedOperator.Pipe.asOperator(increment(1), increment(2));
+        IOperator operator = CombinedOperator.Pipe.asOperator(inner, inner);
+        CompoundTag tag = (CompoundTag) Operators.REGISTRY.serialize(context, operator);
+        assertThat("repeated operators are shared", tag.getList("shared", Tag.TAG_COMPOUND).size(), is(1));
+
+        IOperator deserialized = Operators.REGISTRY.deserialize(context, tag);
+        assertThat(deserialized, equalTo(operator));
+        assertThat("(((10 + 1) + 2) + 1) + 2 = 16",
+                ValueHelpers.evaluateOperator(deserialized, ValueTypeInteger.ValueInteger.of(10)), equalTo(ValueTypeInteger.ValueInteger.of(16)));
+    }
+
+    @Test
+    public void testSharedLater() throws EvaluationException {
+        IOperator inner = CombinedOperator.Pipe.asOperator(increment(1), increment(2));
+        IOperator outer = CombinedOperator.Pipe.asOperator(inner, increment(3));
+        IOperator operator = CombinedOperator.Pipe.asOperator(CombinedOperator.Pipe.asOperator(outer, outer), inner);
+        CompoundTag tag = (CompoundTag) Operators.REGISTRY.serialize(context, operator);
+        assertThat("repeated operators are shared", tag.getList("shared", Tag.TAG_COMPOUND).size(), is(2));
+        assertThat("operators that are shared later are deserializable", Operators.REGISTRY.deserialize(context, tag), equalTo(operator));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testSharedCyclic() throws EvaluationException {
+        CompoundTag reference = new CompoundTag();
+        reference.putInt("ref", 0);
+        ListTag shared = new ListTag();
+        shared.add(reference.copy());
+        CompoundTag tag = new CompoundTag();
+        tag.put("shared", shared);
+        tag.put("root", reference);
+        Operators.REGISTRY.deserialize(context, tag);
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testSharedHigherReference() throws EvaluationException {
+        CompoundTag reference0 = new CompoundTag();
+        reference0.putInt("ref", 0);
+        CompoundTag reference1 = new CompoundTag();
+        reference1.putInt("ref", 1);
+        ListTag shared = new ListTag();
+        shared.add(reference1);
+        shared.add(Operators.REGISTRY.serialize(context, increment(1)));
+        CompoundTag tag = new CompoundTag();
+        tag.put("shared", shared);
+        tag.put("root", reference0);
+        Operators.REGISTRY.deserialize(context, tag);
+    }
+
+    @Test
+    public void testInterned() throws EvaluationException {
+        Tag tag = Operators.REGISTRY.serialize(context, increment(3));
+        assertThat("equal pure operators are interned",
+                Operators.REGISTRY.deserialize(context, tag), sameInstance(Operators.REGISTRY.deserialize(context, tag)));
+    }
+
+}
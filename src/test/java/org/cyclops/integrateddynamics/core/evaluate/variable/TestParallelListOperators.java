@@ -0,0 +1,122 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the parallel evaluation of list operators.
+ * @author rubensworks
+ */
+public class TestParallelListOperators {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private static final int SIZE = 5000;
+
+    private int thresholdOriginal;
+
+    private DummyVariableList lintegers;
+    private DummyVariableList lstrings;
+    private DummyVariableOperator oArithmeticIncrement;
+    private DummyVariableOperator oArithmeticAddition;
+    private DummyVariableOperator oLessThanHalf;
+    private DummyVariableOperator oStringConcat;
+
+    @Before
+    public void before() {
+        ValueTypeListProxyFactories.load();
+        thresholdOriginal = GeneralConfig.operatorParallelListThreshold;
+        GeneralConfig.operatorParallelListThreshold = 1000;
+
+        List<ValueTypeInteger.ValueInteger> integers = Lists.newArrayList();
+        List<ValueTypeString.ValueString> strings = Lists.newArrayList();
+        for (int i = 0; i < SIZE; i++) {
+            integers.add(ValueTypeInteger.ValueInteger.of(i));
+            strings.add(ValueTypeString.ValueString.of(Integer.toString(i % 10)));
+        }
+        lintegers = new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.INTEGER, integers));
+        lstrings = new DummyVariableList(ValueTypeList.ValueList.ofList(ValueTypes.STRING, strings));
+
+        oArithmeticIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_INCREMENT));
+        oArithmeticAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oLessThanHalf = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(new CurriedOperator(Operators.RELATIONAL_GT,
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(SIZE / 2)))));
+        oStringConcat = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.STRING_CONCAT));
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.operatorParallelListThreshold = thresholdOriginal;
+    }
+
+    @Test
+    public void testPure() throws EvaluationException {
+        assertThat("increment is pure", Operators.ARITHMETIC_INCREMENT.isPure(), is(true));
+        assertThat("curried greater than is pure", ((ValueTypeOperator.ValueOperator) oLessThanHalf.getValue()).getRawValue().isPure(), is(true));
+        assertThat("map is not pure", Operators.OPERATOR_MAP.isPure(), is(false));
+        assertThat("addition is associative for integers", Operators.ARITHMETIC_ADDITION.isAssociative(ValueTypes.INTEGER), is(true));
+        assertThat("addition is not associative for doubles", Operators.ARITHMETIC_ADDITION.isAssociative(ValueTypes.DOUBLE), is(false));
+    }
+
+    @Test
+    public void testMap() throws EvaluationException {
+        IValue res = Operators.OPERATOR_MAP.evaluate(new IVariable[]{oArithmeticIncrement, lintegers});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res).getRawValue();
+        int i = 0;
+        for (ValueTypeInteger.ValueInteger value : list) {
+            assertThat("map(increment)[" + i + "] = " + (i + 1), value.getRawValue(), is(i + 1));
+            i++;
+        }
+        assertThat("map(increment).size = " + SIZE, i, is(SIZE));
+    }
+
+    @Test
+    public void testFilter() throws EvaluationException {
+        IValue res = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{oLessThanHalf, lintegers});
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res).getRawValue();
+        assertThat("filter(< n/2).size = n/2", list.getLength(), is(SIZE / 2));
+        for (int i = 0; i < SIZE / 2; i++) {
+            assertThat("filter(< n/2)[" + i + "] = " + i, list.get(i).getRawValue(), is(i));
+        }
+    }
+
+    @Test
+    public void testCountPredicate() throws EvaluationException {
+        IValue res = Operators.LIST_COUNT_PREDICATE.evaluate(new IVariable[]{lintegers, oLessThanHalf});
+        assertThat("count(< n/2) = n/2", ((ValueTypeInteger.ValueInteger) res).getRawValue(), is(SIZE / 2));
+    }
+
+    @Test
+    public void testReduce() throws EvaluationException {
+        IValue res = Operators.OPERATOR_REDUCE.evaluate(new IVariable[]{oArithmeticAddition, lintegers,
+                new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(10))});
+        assertThat("reduce(+, [0..n[, 10) = n(n-1)/2 + 10", ((ValueTypeInteger.ValueInteger) res).getRawValue(), is(SIZE * (SIZE - 1) / 2 + 10));
+    }
+
+    @Test
+    public void testReduce1Ordered() throws EvaluationException {
+        IValue res = Operators.OPERATOR_REDUCE1.evaluate(new IVariable[]{oStringConcat, lstrings});
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            expected.append(i % 10);
+        }
+        assertThat("reduce1(+, strings) keeps the list order", ((ValueTypeString.ValueString) res).getRawValue(), is(expected.toString()));
+    }
+
+}
@@ -0,0 +1,188 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.expression.VariableAdapter;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ConstantExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.SharedExpressions;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the folding and sharing of expressions.
+ * @author rubensworks
+ */
+public class TestSharedExpressions {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private Int2ObjectMap<IValue> values;
+    private SharedExpressions expressions;
+
+    @Before
+    public void before() {
+        values = new Int2ObjectOpenHashMap<>();
+        expressions = new SharedExpressions(new ILazyExpressionValueCache() {
+            @Override
+            public void setValue(int id, IValue value) {
+                values.put(id, value);
+            }
+
+            @Override
+            public boolean hasValue(int id) {
+                return values.containsKey(id);
+            }
+
+            @Override
+            public IValue getValue(int id) {
+                return values.get(id);
+            }
+
+            @Override
+            public void removeValue(int id) {
+                values.remove(id);
+            }
+        });
+    }
+
+    private static IVariable constant(String value) {
+        return new Variable<>(ValueTypes.STRING, ValueTypeString.ValueString.of(value));
+    }
+
+    @Test
+    public void testFoldConstants() throws EvaluationException {
+        IExpression inner = expressions.get(1, Operators.STRING_CONCAT, new IVariable[]{constant("a"), constant("b")});
+        assertThat(inner, instanceOf(ConstantExpression.class));
+        IExpression outer = expressions.get(2, Operators.STRING_CONCAT, new IVariable[]{inner, constant("c")});
+        assertThat("constant subtrees are folded recursively", outer, instanceOf(ConstantExpression.class));
+        assertThat(outer.getValue(), equalTo(ValueTypeString.ValueString.of("abc")));
+    }
+
+    @Test
+    public void testNoFoldOnError() throws EvaluationException {
+        IVariable[] input = new IVariable[]{
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(1)),
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(0))
+        };
+        assertThat("errors are reported upon evaluation",
+                expressions.get(1, Operators.ARITHMETIC_DIVISION, input), instanceOf(LazyExpression.class));
+    }
+
+    @Test
+    public void testShareIdentical() throws EvaluationException {
+        IVariable dynamic = new DummyVariableString(ValueTypeString.ValueString.of("a"));
+        IExpression first = expressions.get(1, Operators.STRING_CONCAT, new IVariable[]{dynamic, constant("b")});
+        IExpression second = expressions.get(2, Operators.STRING_CONCAT, new IVariable[]{dynamic, constant("b")});
+        assertThat(first, instanceOf(LazyExpression.class));
+        assertThat("identical pure expressions are shared",
+                ((SharedExpressions.SharedLazyExpression<?>) second).sharesComputation(first), is(true));
+
+        IExpression other = expressions.get(3, Operators.STRING_CONCAT, new IVariable[]{
+                new DummyVariableString(ValueTypeString.ValueString.of("a")), constant("b")});
+        assertThat("different dynamic inputs are not shared",
+                ((SharedExpressions.SharedLazyExpression<?>) other).sharesComputation(first), is(false));
+        assertThat(second.getValue(), equalTo(ValueTypeString.ValueString.of("ab")));
+        assertThat("values are cached under the id of the evaluated variable", values.containsKey(2), is(true));
+        assertThat("values are not cached under the id of other variables", values.containsKey(1), is(false));
+    }
+
+    @Test
+    public void testSharedInvalidated() throws EvaluationException {
+        DynamicVariableString dynamic = new DynamicVariableString(ValueTypeString.ValueString.of("a"));
+        IExpression first = expressions.get(1, Operators.STRING_CONCAT, new IVariable[]{dynamic, constant("b")});
+        IExpression second = expressions.get(2, Operators.STRING_CONCAT, new IVariable[]{dynamic, constant("b")});
+        assertThat(first.getValue(), equalTo(ValueTypeString.ValueString.of("ab")));
+        assertThat(second.getValue(), equalTo(ValueTypeString.ValueString.of("ab")));
+
+        dynamic.setValue(ValueTypeString.ValueString.of("c"));
+        dynamic.invalidate();
+        assertThat("invalidations reach all sharing variables", values.containsKey(1) || values.containsKey(2), is(false));
+        assertThat(first.getValue(), equalTo(ValueTypeString.ValueString.of("cb")));
+        assertThat(second.getValue(), equalTo(ValueTypeString.ValueString.of("cb")));
+    }
+
+    @Test
+    public void testNoFoldImpure() {
+        assertThat(SharedExpressions.fold(Operators.GENERAL_IDENTITY, new IVariable[]{constant("a")}), nullValue());
+    }
+
+    @Test
+    public void testErrorCachedUntilInvalidated() throws EvaluationException {
+        DummyVariableInteger divisor = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(0));
+        IExpression expression = expressions.get(1, Operators.ARITHMETIC_DIVISION, new IVariable[]{
+                new Variable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(6)), divisor});
+        EvaluationException first = null;
+        try {
+            expression.getValue();
+        } catch (EvaluationException e) {
+            first = e;
+        }
+        assertThat(first, not(nullValue()));
+        assertThat("failure is not recomputed", ((LazyExpression) expression).getError(), sameInstance(first));
+        assertThat("failure is exposed without evaluation", expression.getError(), sameInstance(first));
+        for (int i = 0; i < 2; i++) {
+            try {
+                expression.getValue();
+            } catch (EvaluationException e) {
+                assertThat("the same failure is thrown again", e.getErrorMessage(), sameInstance(first.getErrorMessage()));
+                assertThat("the failure is thrown as a new copy", e, not(sameInstance(first)));
+            }
+        }
+
+        divisor.setValue(ValueTypeInteger.ValueInteger.of(2));
+        expression.invalidate();
+        assertThat(expression.getValue(), equalTo(ValueTypeInteger.ValueInteger.of(3)));
+    }
+
+    @Test
+    public void testNotShareImpure() throws EvaluationException {
+        IVariable[] input = new IVariable[]{
+                new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.GENERAL_IDENTITY)),
+                new DummyVariableString(ValueTypeString.ValueString.of("a"))
+        };
+        assertThat(expressions.get(1, Operators.OPERATOR_APPLY, input),
+                not(sameInstance(expressions.get(2, Operators.OPERATOR_APPLY, input))));
+    }
+
+    private static class DynamicVariableString extends VariableAdapter<ValueTypeString.ValueString> {
+
+        private ValueTypeString.ValueString value;
+
+        public DynamicVariableString(ValueTypeString.ValueString value) {
+            this.value = value;
+        }
+
+        @Override
+        public IValueType<ValueTypeString.ValueString> getType() {
+            return ValueTypes.STRING;
+        }
+
+        @Override
+        public ValueTypeString.ValueString getValue() {
+            return value;
+        }
+
+        public void setValue(ValueTypeString.ValueString value) {
+            this.value = value;
+        }
+    }
+
+}
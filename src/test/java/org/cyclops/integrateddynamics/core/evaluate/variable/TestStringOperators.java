@@ -19,6 +19,7 @@ import java.util.Iterator;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 /**
  * Test the different integer operators.
@@ -158,6 +159,34 @@ public class TestStringOperators {
         assertThat("abc + abc = abcabc", ((ValueTypeString.ValueString) res1).getRawValue(), is("abcabc"));
     }
 
+    @Test
+    public void testStringConcatRopeFlattenedParts() {
+        String a = "a".repeat(100);
+        String b = "b".repeat(100);
+        String c = "c".repeat(100);
+        ValueTypeString.ValueString inner = ValueTypeString.ValueString.of(a).concat(ValueTypeString.ValueString.of(b));
+        ValueTypeString.ValueString outer = inner.concat(ValueTypeString.ValueString.of(c));
+        assertThat("parts can be flattened first", inner.getRawValue(), is(a + b));
+        assertThat("ropes with flattened parts are flattened", outer.getRawValue(), is(a + b + c));
+        assertThat("flattened ropes stay flattened", outer.getRawValue(), is(a + b + c));
+    }
+
+    @Test
+    public void testStringConcatRope() throws EvaluationException {
+        ValueTypeString.ValueString value = ValueTypeString.ValueString.of("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            value = (ValueTypeString.ValueString) Operators.STRING_CONCAT.evaluate(new IVariable[]{
+                    new DummyVariableString(value), sabc});
+            expected.append("abc");
+        }
+        assertThat("len is known without flattening", value.length(), is(30000));
+        assertThat("deep ropes are flattened", value.getRawValue(), is(expected.toString()));
+        assertThat("ropes equal flat strings", value, is(ValueTypeString.ValueString.of(expected.toString())));
+        assertThat("ropes hash like flat strings", value.hashCode(),
+                is(ValueTypeString.ValueString.of(expected.toString()).hashCode()));
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizConcatLarge() throws EvaluationException {
         Operators.STRING_CONCAT.evaluate(new IVariable[]{sabc, sabc, sabc});
@@ -354,6 +383,18 @@ public class TestStringOperators {
         Operators.STRING_CONTAINS_REGEX.evaluate(new IVariable[]{sbrokenRegex, sabc});
     }
 
+    @Test
+    public void testInvalidPatternContainsRegexRepeated() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                Operators.STRING_CONTAINS_REGEX.evaluate(new IVariable[]{sbrokenRegex, sabc});
+                fail("An invalid pattern must keep failing when it is cached");
+            } catch (EvaluationException e) {
+                // Expected
+            }
+        }
+    }
+
     @Test(expected = EvaluationException.class)
     public void testInvalidInputSizeContainsRegexLarge() throws EvaluationException {
         Operators.STRING_CONTAINS_REGEX.evaluate(new IVariable[]{sabc, sabc, sabc});
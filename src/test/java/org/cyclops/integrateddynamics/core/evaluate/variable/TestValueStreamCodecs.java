@@ -0,0 +1,124 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the binary value codecs.
+ * @author rubensworks
+ */
+public class TestValueStreamCodecs {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    @BeforeClass
+    public static void before() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    @Test
+    public void testPrimitives() {
+        testRoundTrip(ValueTypeBoolean.ValueBoolean.of(true));
+        testRoundTrip(ValueTypeInteger.ValueInteger.of(0));
+        testRoundTrip(ValueTypeInteger.ValueInteger.of(-1));
+        testRoundTrip(ValueTypeInteger.ValueInteger.of(Integer.MIN_VALUE));
+        testRoundTrip(ValueTypeInteger.ValueInteger.of(Integer.MAX_VALUE));
+        testRoundTrip(ValueTypeLong.ValueLong.of(Long.MIN_VALUE));
+        testRoundTrip(ValueTypeLong.ValueLong.of(123456789012L));
+        testRoundTrip(ValueTypeDouble.ValueDouble.of(-1.5D));
+        testRoundTrip(ValueTypeString.ValueString.of("abc"));
+    }
+
+    @Test
+    public void testNbt() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("a", "b");
+        tag.putInt("c", 10);
+        testRoundTrip(ValueTypeNbt.ValueNbt.of(tag));
+        testRoundTrip(ValueTypeNbt.ValueNbt.of());
+    }
+
+    @Test
+    public void testLists() {
+        testRoundTrip(ValueTypes.LIST.getDefault());
+        testRoundTrip(ValueTypeList.ValueList.ofAll(
+                ValueTypeInteger.ValueInteger.of(1),
+                ValueTypeInteger.ValueInteger.of(-2),
+                ValueTypeInteger.ValueInteger.of(3)
+        ));
+        testRoundTrip(ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY,
+                ValueTypeInteger.ValueInteger.of(1),
+                ValueTypeString.ValueString.of("a"),
+                ValueTypeList.ValueList.ofAll(ValueTypeBoolean.ValueBoolean.of(false))
+        ));
+        testRoundTrip(ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyAppend(
+                ValueTypeList.ValueList.ofAll(ValueTypeBoolean.ValueBoolean.of(true)).getRawValue(),
+                ValueTypeBoolean.ValueBoolean.of(false)
+        )));
+    }
+
+    @Test
+    public void testCompactIntegers() {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+        ValueStreamCodecs.VALUE.encode(buffer, ValueTypeInteger.ValueInteger.of(-1));
+        assertThat("small integers are written in at most three bytes", buffer.readableBytes() <= 3, is(true));
+    }
+
+    @Test(expected = DecoderException.class)
+    public void testListLengthExceedsBuffer() {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+        ValueStreamCodecs.writeType(buffer, ValueTypes.LIST);
+        buffer.writeBoolean(true);
+        ValueStreamCodecs.writeType(buffer, ValueTypes.BOOLEAN);
+        buffer.writeVarInt(Integer.MAX_VALUE);
+        buffer.writeBoolean(true);
+        ValueStreamCodecs.VALUE.decode(buffer);
+    }
+
+    @Test
+    public void testListMaxDepth() {
+        testRoundTrip(createNestedList(ValueStreamCodecs.MAX_LIST_DEPTH));
+    }
+
+    @Test(expected = DecoderException.class)
+    public void testListTooDeep() {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+        ValueStreamCodecs.VALUE.encode(buffer, createNestedList(ValueStreamCodecs.MAX_LIST_DEPTH + 1));
+        ValueStreamCodecs.VALUE.decode(buffer);
+    }
+
+    @Test
+    public void testBytes() {
+        IValue value = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a"), ValueTypeString.ValueString.of("b"));
+        assertThat(ValueStreamCodecs.fromBytes(RegistryAccess.EMPTY, ValueStreamCodecs.toBytes(RegistryAccess.EMPTY, value)), equalTo(value));
+    }
+
+    protected IValue createNestedList(int depth) {
+        ValueTypeList.ValueList list = ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY);
+        for (int i = 1; i < depth; i++) {
+            list = ValueTypeList.ValueList.ofAll(ValueTypes.CATEGORY_ANY, list);
+        }
+        return list;
+    }
+
+    protected void testRoundTrip(IValue value) {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), RegistryAccess.EMPTY);
+        ValueStreamCodecs.VALUE.encode(buffer, value);
+        IValue read = ValueStreamCodecs.VALUE.decode(buffer);
+        assertThat(read, equalTo(value));
+        assertThat("the whole value is read", buffer.readableBytes(), is(0));
+    }
+
+}
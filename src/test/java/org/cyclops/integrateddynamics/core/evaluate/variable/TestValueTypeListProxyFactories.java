@@ -5,6 +5,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
 import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
@@ -101,6 +102,14 @@ public class TestValueTypeListProxyFactories {
         ));
     }
 
+    @Test
+    public void testVector() throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+        testFactoryType(ValueTypeListProxyVector.of(new ValueTypeListProxyMaterialized<>(
+                ValueTypes.BOOLEAN,
+                Lists.newArrayList(ValueTypeBoolean.ValueBoolean.of(true), ValueTypeBoolean.ValueBoolean.of(false))
+        )).append(ValueTypeBoolean.ValueBoolean.of(true)));
+    }
+
     protected void testFactoryType(IValueTypeListProxy<?, ?> proxy) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         Tag serialized = ValueTypeListProxyFactories.REGISTRY.serialize(ValueDeseralizationContextMocked.get(), proxy);
         IValueTypeListProxy<?, ?> proxyNew = ValueTypeListProxyFactories.REGISTRY.deserialize(ValueDeseralizationContextMocked.get(), serialized);
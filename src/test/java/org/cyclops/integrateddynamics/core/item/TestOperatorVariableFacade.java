@@ -0,0 +1,123 @@
+package org.cyclops.integrateddynamics.core.item;
+
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariableInvalidateListener;
+import org.cyclops.integrateddynamics.api.item.IVariableFacade;
+import org.cyclops.integrateddynamics.api.network.IPartNetwork;
+import org.cyclops.integrateddynamics.core.evaluate.expression.SharedExpressions;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the expressions of operator variable facades.
+ * @author rubensworks
+ */
+public class TestOperatorVariableFacade {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    private Int2ObjectMap<IValue> values;
+    private Int2ObjectMap<IVariableFacade> facades;
+    private SharedExpressions expressions;
+    private IPartNetwork partNetwork;
+
+    @Before
+    public void before() {
+        values = new Int2ObjectOpenHashMap<>();
+        facades = new Int2ObjectOpenHashMap<>();
+        partNetwork = (IPartNetwork) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{IPartNetwork.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "hasVariableFacade" -> facades.containsKey((int) args[0]);
+            case "getVariableFacade" -> facades.get((int) args[0]);
+            case "getExpression" -> expressions.get((int) args[0], (IOperator) args[1], (IVariable[]) args[2]);
+            case "setValue" -> values.put((int) args[0], (IValue) args[1]);
+            case "hasValue" -> values.containsKey((int) args[0]);
+            case "getValue" -> values.get((int) args[0]);
+            case "removeValue" -> values.remove((int) args[0]);
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        expressions = new SharedExpressions(partNetwork);
+    }
+
+    private CountingVariable constant(int id, int value) {
+        CountingVariable variable = new CountingVariable(value);
+        facades.put(id, (IVariableFacade) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{IVariableFacade.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "getId" -> id;
+            case "isValid" -> true;
+            case "getVariable" -> variable;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        }));
+        return variable;
+    }
+
+    @Test
+    public void testRepeatedFailures() {
+        CountingVariable dividend = constant(1, 6);
+        CountingVariable divisor = constant(2, 0);
+        OperatorVariableFacade facade = new OperatorVariableFacade(3, Operators.ARITHMETIC_DIVISION, new int[]{1, 2});
+
+        IVariable<?> first = facade.getVariable(null, partNetwork);
+        EvaluationException firstError = null;
+        try {
+            first.getValue();
+        } catch (EvaluationException e) {
+            firstError = e;
+        }
+        assertThat(firstError, not(nullValue()));
+        int dividendListeners = dividend.listeners.size();
+        int divisorListeners = divisor.listeners.size();
+
+        for (int tick = 0; tick < 10; tick++) {
+            IVariable<?> variable = facade.getVariable(null, partNetwork);
+            assertThat("expressions with a remembered failure are kept", variable, sameInstance(first));
+            assertThat("the remembered failure is exposed", variable.getError(), sameInstance(firstError));
+            try {
+                variable.getValue();
+            } catch (EvaluationException e) {
+                assertThat(e.getErrorMessage(), sameInstance(firstError.getErrorMessage()));
+            }
+        }
+        assertThat("inputs gain no listeners for repeated failures", dividend.listeners.size(), is(dividendListeners));
+        assertThat("inputs gain no listeners for repeated failures", divisor.listeners.size(), is(divisorListeners));
+    }
+
+    private static class CountingVariable extends Variable<ValueTypeInteger.ValueInteger> {
+
+        private final Set<IVariableInvalidateListener> listeners = Sets.newIdentityHashSet();
+
+        public CountingVariable(int value) {
+            super(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(value));
+        }
+
+        @Override
+        public void addInvalidationListener(IVariableInvalidateListener invalidateListener) {
+            listeners.add(invalidateListener);
+            super.addInvalidationListener(invalidateListener);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Sets;
+import org.cyclops.cyclopscore.helper.CyclopsCoreInstance;
+import org.cyclops.integrateddynamics.ModBaseMocked;
+import org.cyclops.integrateddynamics.api.network.PositionedAddonsNetworkIngredientsFilter;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeString;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test compiled ingredient network filters.
+ * @author rubensworks
+ */
+public class TestIngredientFilters {
+
+    static { CyclopsCoreInstance.MOD = new ModBaseMocked(); }
+
+    @Test
+    public void testAcceptedKeys() {
+        AtomicInteger evaluations = new AtomicInteger();
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> {
+            evaluations.incrementAndGet();
+            return false;
+        }, true, true, false, Function.identity(), Sets.newHashSet("a", "b"));
+
+        assertThat(filter.testExtraction("a"), is(true));
+        assertThat(filter.testInsertion("b"), is(true));
+        assertThat(filter.testExtraction("c"), is(false));
+        assertThat("the predicate is never evaluated", evaluations.get(), is(0));
+    }
+
+    @Test
+    public void testRejectsPrototype() {
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> true,
+                false, true, true, Function.identity(), Sets.newHashSet("a"));
+
+        assertThat(filter.rejectsAll(true), is(false));
+        assertThat(filter.rejectsPrototype("a", true), is(false));
+        assertThat(filter.rejectsPrototype("b", true), is(true));
+        assertThat("insertions are not filtered", filter.rejectsPrototype("b", false), is(false));
+    }
+
+    @Test
+    public void testRejectsPrototypeEmpty() {
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> true,
+                true, true, true, Function.identity(), Collections.emptySet());
+
+        assertThat(filter.rejectsAll(true), is(true));
+        assertThat(filter.rejectsPrototype("a", true), is(true));
+    }
+
+    @Test
+    public void testRejectsPrototypeUncompiled() {
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> false,
+                true, true, true);
+
+        assertThat(filter.rejectsAll(true), is(false));
+        assertThat("uncompiled filters must test each ingredient", filter.rejectsPrototype("a", true), is(false));
+    }
+
+    @Test
+    public void testRejectsNotApplied() {
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> true,
+                true, false, false);
+
+        assertThat(filter.rejectsAll(true), is(true));
+        assertThat(filter.rejectsAll(false), is(false));
+    }
+
+    @Test
+    public void testMemoizedUntilInvalidated() {
+        AtomicInteger evaluations = new AtomicInteger();
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> {
+            evaluations.incrementAndGet();
+            return s.startsWith("a");
+        }, true, true, false, s -> s.charAt(0), null);
+
+        assertThat(filter.testFilter("a1"), is(true));
+        assertThat(filter.testFilter("a2"), is(true));
+        assertThat(filter.testFilter("b1"), is(false));
+        assertThat(evaluations.get(), is(2));
+
+        filter.invalidateCache();
+        assertThat(filter.testFilter("a3"), is(true));
+        assertThat(evaluations.get(), is(3));
+    }
+
+    @Test
+    public void testNotMemoizedWithoutKey() {
+        AtomicInteger evaluations = new AtomicInteger();
+        PositionedAddonsNetworkIngredientsFilter<String> filter = new PositionedAddonsNetworkIngredientsFilter<>(s -> {
+            evaluations.incrementAndGet();
+            return true;
+        }, true, true, false);
+
+        filter.testFilter("a");
+        filter.testFilter("a");
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    public void testOfPredicatePure() {
+        AtomicInteger conversions = new AtomicInteger();
+        PositionedAddonsNetworkIngredientsFilter<Boolean> filter = IngredientFilters.ofPredicate(Operators.LOGICAL_NOT, b -> {
+            conversions.incrementAndGet();
+            return ValueTypeBoolean.ValueBoolean.of(b);
+        }, Function.identity(), true, true, false);
+
+        assertThat(filter.testExtraction(false), is(true));
+        assertThat(filter.testExtraction(false), is(true));
+        assertThat(filter.testExtraction(true), is(false));
+        assertThat("the pure predicate is evaluated once per key", conversions.get(), is(2));
+    }
+
+    @Test
+    public void testOfPredicateWithoutKey() {
+        AtomicInteger conversions = new AtomicInteger();
+        PositionedAddonsNetworkIngredientsFilter<Boolean> filter = IngredientFilters.ofPredicate(Operators.LOGICAL_NOT, b -> {
+            conversions.incrementAndGet();
+            return ValueTypeBoolean.ValueBoolean.of(b);
+        }, null, true, true, false);
+
+        assertThat(filter.testExtraction(false), is(true));
+        assertThat(filter.testExtraction(false), is(true));
+        assertThat(conversions.get(), is(2));
+    }
+
+    @Test
+    public void testOfPredicateInvalidOutput() {
+        PositionedAddonsNetworkIngredientsFilter<Boolean> filter = IngredientFilters.ofPredicate(Operators.GENERAL_IDENTITY,
+                b -> ValueTypeString.ValueString.of(b.toString()), null, true, true, false);
+
+        assertThat("non-predicates are not accepted", filter.testExtraction(true), is(false));
+    }
+
+}
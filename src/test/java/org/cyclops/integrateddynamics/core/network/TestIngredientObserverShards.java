@@ -0,0 +1,135 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the sharded observation of ingredient channels.
+ * @author rubensworks
+ */
+public class TestIngredientObserverShards {
+
+    private ExecutorService pool;
+
+    @Before
+    public void before() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void after() throws InterruptedException {
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test(timeout = 10000)
+    public void testEventsInPositionOrder() {
+        List<Integer> events = Lists.newArrayList();
+        IngredientObserverShards.<Integer>observe(pool, 4, 1000, 16, (i, eventConsumer) -> {
+            eventConsumer.accept(i * 2);
+            eventConsumer.accept(i * 2 + 1);
+        }, events::add);
+
+        assertThat(events.size(), is(2000));
+        for (int i = 0; i < events.size(); i++) {
+            assertThat(events.get(i), is(i));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testSinglePartialShard() {
+        List<Integer> events = Lists.newArrayList();
+        IngredientObserverShards.<Integer>observe(pool, 4, 5, 16, (i, eventConsumer) -> eventConsumer.accept(i), events::add);
+
+        assertThat(events, is(Lists.newArrayList(0, 1, 2, 3, 4)));
+    }
+
+    @Test(timeout = 10000)
+    public void testFailingShardDoesNotDeadlock() {
+        List<Integer> events = Lists.newArrayList();
+        try {
+            IngredientObserverShards.<Integer>observe(pool, 4, 1000, 16, (i, eventConsumer) -> {
+                if (i == 500) {
+                    throw new IllegalStateException("failed at " + i);
+                }
+                eventConsumer.accept(i);
+            }, events::add);
+            fail("The shard failure must be rethrown");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("failed at 500"));
+        }
+
+        assertThat("events before the failure are emitted in order", events.size(), is(500));
+        for (int i = 0; i < events.size(); i++) {
+            assertThat(events.get(i), is(i));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testAllShardsFailingDoesNotDeadlock() {
+        List<Integer> events = Lists.newArrayList();
+        try {
+            IngredientObserverShards.<Integer>observe(pool, 4, 100, 10, (i, eventConsumer) -> {
+                throw new IllegalStateException("failed at " + i);
+            }, events::add);
+            fail("The shard failure must be rethrown");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("failed at 0"));
+        }
+
+        assertThat(events.size(), is(0));
+    }
+
+    @Test(timeout = 10000)
+    public void testInterruptedEmitsAllEvents() {
+        List<Integer> events = Lists.newArrayList();
+        Thread caller = Thread.currentThread();
+        try {
+            IngredientObserverShards.<Integer>observe(pool, 4, 100, 10, (i, eventConsumer) -> {
+                if (i == 0) {
+                    caller.interrupt();
+                }
+                eventConsumer.accept(i);
+            }, events::add);
+            assertThat("the interrupt is kept", Thread.currentThread().isInterrupted(), is(true));
+        } finally {
+            Thread.interrupted();
+        }
+        assertThat("events of all observed shards are emitted", events.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(events.get(i), is(i));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testBusyPool() throws InterruptedException {
+        // Occupy all pool threads, so that only the calling thread can process shards
+        ExecutorService busyPool = Executors.newFixedThreadPool(1);
+        busyPool.submit(() -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            List<Integer> events = Lists.newArrayList();
+            IngredientObserverShards.<Integer>observe(busyPool, 4, 100, 10, (i, eventConsumer) -> eventConsumer.accept(i), events::add);
+            assertThat(events.size(), is(100));
+        } finally {
+            busyPool.shutdownNow();
+        }
+    }
+
+}
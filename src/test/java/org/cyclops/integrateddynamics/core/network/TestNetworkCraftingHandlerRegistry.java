@@ -0,0 +1,170 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.cyclops.commoncapabilities.api.ingredient.IngredientComponent;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkCraftingHandler;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetworkIngredients;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the caching of network crafting handler lookups.
+ * @author rubensworks
+ */
+public class TestNetworkCraftingHandlerRegistry {
+
+    private int tick;
+    private boolean networkChanged;
+    private INetwork network;
+    private IPositionedAddonsNetworkIngredients<?, ?> ingredientsNetwork;
+    private NetworkCraftingHandlerRegistry registry;
+
+    @Before
+    public void before() {
+        tick = 0;
+        networkChanged = false;
+        network = (INetwork) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{INetwork.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "isKilled" -> false;
+            case "hasChanged" -> networkChanged;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        ingredientsNetwork = (IPositionedAddonsNetworkIngredients<?, ?>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{IPositionedAddonsNetworkIngredients.class}, (proxy, method, args) -> switch (method.getName()) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        registry = new NetworkCraftingHandlerRegistry(() -> tick);
+    }
+
+    @Test
+    public void testCachedIfReported() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        assertThat(registry.canCraft(network, ingredientsNetwork, 0), is(true));
+        assertThat(registry.canCraft(network, ingredientsNetwork, 0), is(true));
+        assertThat(handler.canCraftCalls, is(1));
+
+        assertThat(registry.canCraft(network, ingredientsNetwork, 1), is(true));
+        assertThat("channels are cached separately", handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testNotCachedIfNotReported() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+        registry.register(new CountingHandler(false));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testInvalidateCache() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 1);
+        registry.invalidateCache(ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 1);
+        assertThat("only the invalidated channel is recalculated", handler.canCraftCalls, is(3));
+
+        registry.invalidateCache(ingredientsNetwork, IPositionedAddonsNetwork.WILDCARD_CHANNEL);
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 1);
+        assertThat("all channels are recalculated", handler.canCraftCalls, is(5));
+    }
+
+    @Test
+    public void testInvalidateOnStartedJob() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(registry.craft(network, ingredientsNetwork, 0, null, null, null, false), is(true));
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testInvalidateOnNetworkChange() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        networkChanged = true;
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testInvalidateOnRegister() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.register(new CountingHandler(true));
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testExpired() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        tick += 1000;
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    @Test
+    public void testNoTick() {
+        CountingHandler handler = registry.register(new CountingHandler(true));
+        tick = -1;
+
+        registry.canCraft(network, ingredientsNetwork, 0);
+        registry.canCraft(network, ingredientsNetwork, 0);
+        assertThat(handler.canCraftCalls, is(2));
+    }
+
+    public static class CountingHandler implements INetworkCraftingHandler {
+
+        private final boolean reportsStateChanges;
+        private int canCraftCalls = 0;
+
+        public CountingHandler(boolean reportsStateChanges) {
+            this.reportsStateChanges = reportsStateChanges;
+        }
+
+        @Override
+        public <T, M> boolean isCrafting(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel,
+                                         IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition) {
+            return false;
+        }
+
+        @Override
+        public <T, M> boolean canCraft(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel) {
+            canCraftCalls++;
+            return true;
+        }
+
+        @Override
+        public <T, M> boolean craft(INetwork network, IPositionedAddonsNetworkIngredients<T, M> ingredientsNetwork, int channel,
+                                    IngredientComponent<T, M> ingredientComponent, T instance, M matchCondition,
+                                    boolean ignoreExistingJobs) {
+            return true;
+        }
+
+        @Override
+        public boolean reportsStateChanges() {
+            return reportsStateChanges;
+        }
+    }
+
+}